@@ -18,70 +18,20 @@ const defaultConfig: PopupConfig = {
   confetti: false,
 };
 
-function getStorageKey(name: string) {
-  return `likcc-popup-${name}-lastTime`;
-}
-
-function shouldShow(ann: Announcement, config: PopupConfig): boolean {
-  if (!ann.announcementSpec?.enablePopup) return false;
-
-  // URL 路径匹配
-  const urlPatterns = ann.announcementSpec.urlPatterns;
-  if (!matchUrlPattern(urlPatterns)) return false;
-
-  const interval = ann.announcementSpec.popupInterval || config.popupInterval;
-  if (interval > 0) {
-    const key = getStorageKey(ann.metadata.name);
-    const lastTime = localStorage.getItem(key);
-    if (lastTime && Date.now() - Number(lastTime) < interval * 3600 * 1000) {
-      return false;
-    }
-  }
-  return true;
-}
-
-function matchUrlPattern(patterns?: string): boolean {
-  const path = window.location.pathname;
-  
-  // 为空或只有/，表示仅首页
-  if (!patterns || !patterns.trim()) {
-    return path === "/" || path === "";
-  }
-  
-  const lines = patterns.split("\n").map(l => l.trim()).filter(l => l);
-  
-  // 如果只配置了/，也是仅首页
-  if (lines.length === 1 && lines[0] === "/") {
-    return path === "/" || path === "";
-  }
-  
-  // 匹配任意一个规则即可
-  return lines.some(pattern => {
-    // 转换通配符为正则
-    // * 匹配任意字符（不包括/）
-    // ** 匹配任意字符（包括/）
-    let regex = pattern
-      .replace(/[.+?^${}()|[\]\\]/g, "\\$&") // 转义特殊字符
-      .replace(/\*\*/g, "{{DOUBLE}}") // 临时替换**
-      .replace(/\*/g, "[^/]*") // * 匹配非/字符
-      .replace(/{{DOUBLE}}/g, ".*"); // ** 匹配任意字符
-    
-    // 确保完整匹配路径
-    regex = "^" + regex + "$";
-    
-    try {
-      return new RegExp(regex).test(path);
-    } catch {
-      return false;
-    }
-  });
+function shouldShow(ann: Announcement): boolean {
+  // URL 路径匹配和弹出间隔都已在服务端完成，间隔内的弹窗不会下发
+  return !!ann.announcementSpec?.enablePopup;
 }
 
+// 展示后通知服务端更新签名的频率 Cookie，之后在间隔内服务端不再返回该弹窗
 function recordShow(ann: Announcement, config: PopupConfig) {
-  const interval = ann.announcementSpec?.popupInterval || config.popupInterval;
-  if (interval > 0) {
-    localStorage.setItem(getStorageKey(ann.metadata.name), Date.now().toString());
-  }
+  if (config.popupInterval <= 0) return;
+  const name = encodeURIComponent(ann.metadata.name);
+  fetch(`/apis/public.announcement.lik.cc/v1alpha1/popup/shown?name=${name}`, {
+    method: "POST",
+    credentials: "same-origin",
+    keepalive: true
+  }).catch(() => {});
 }
 
 function createPopupElement(ann: Announcement): HTMLElement {
@@ -128,7 +78,7 @@ function createPopupElement(ann: Announcement): HTMLElement {
         </span>
         <h2 class="likcc-popup__title">${spec?.title || ""}</h2>
       </div>
-      <div class="likcc-popup__content">${spec?.content || ""}</div>
+      <div class="likcc-popup__content">${ann.status?.renderedContent ?? spec?.content ?? ""}</div>
       <div class="likcc-popup__footer">
         ${buttonsHtml}
       </div>
@@ -292,6 +242,34 @@ function injectStyles() {
   document.head.appendChild(style);
 }
 
+// 统计事件先在页面内攒批，再用 sendBeacon 一次性上报，页面关闭时也不会丢失
+type BeaconType = "impression" | "primaryClick" | "secondaryClick" | "dismiss";
+const pendingBeacons: { name: string; type: BeaconType }[] = [];
+let beaconTimer: ReturnType<typeof setTimeout> | undefined;
+
+function flushBeacons() {
+  clearTimeout(beaconTimer);
+  beaconTimer = undefined;
+  if (!pendingBeacons.length) return;
+  const body = JSON.stringify({ events: pendingBeacons.splice(0) });
+  const url = "/apis/public.announcement.lik.cc/v1alpha1/beacon";
+  const blob = new Blob([body], { type: "application/json" });
+  if (!navigator.sendBeacon?.(url, blob)) {
+    fetch(url, { method: "POST", body: blob, credentials: "same-origin", keepalive: true }).catch(() => {});
+  }
+}
+
+function track(ann: Announcement, type: BeaconType) {
+  const name = ann.metadata?.name;
+  if (!name) return;
+  pendingBeacons.push({ name, type });
+  if (!beaconTimer) beaconTimer = setTimeout(flushBeacons, 2000);
+}
+
+document.addEventListener("visibilitychange", () => {
+  if (document.visibilityState === "hidden") flushBeacons();
+});
+
 function closePopup(overlay: HTMLElement) {
   overlay.style.opacity = "0";
   overlay.style.transition = "opacity 0.3s ease";
@@ -299,16 +277,32 @@ function closePopup(overlay: HTMLElement) {
   document.body.style.overflow = "";
 }
 
-async function initPopup() {
+// 读取服务端内联到页面 head 的弹窗数据：undefined 表示未内联，null 表示当前页面没有弹窗
+function readInlinePopup(): Announcement | null | undefined {
+  const el = document.getElementById("likcc-announcement-popup");
+  if (!el) return undefined;
   try {
-    // 带上 credentials 以便后端判断登录状态
-    const r = await fetch("/apis/public.announcement.lik.cc/v1alpha1/announcements?popup=true&size=1", {
-      credentials: "same-origin"
-    });
-    if (!r.ok) return;
+    return JSON.parse(el.textContent || "null");
+  } catch {
+    return undefined;
+  }
+}
+
+async function fetchPopup(): Promise<Announcement | null> {
+  // 带上 credentials 以便后端判断登录状态，由后端按当前路径挑选匹配的弹窗
+  const path = encodeURIComponent(window.location.pathname);
+  const r = await fetch(`/apis/public.announcement.lik.cc/v1alpha1/popup?path=${path}`, {
+    credentials: "same-origin"
+  });
+  // 204 表示当前路径没有需要展示的弹窗
+  if (!r.ok || r.status === 204) return null;
+  return await r.json();
+}
 
-    const d = await r.json();
-    const ann: Announcement = d.items?.[0];
+async function initPopup() {
+  try {
+    const inline = readInlinePopup();
+    const ann = inline === undefined ? await fetchPopup() : inline;
     if (!ann) return;
 
     // 合并配置
@@ -321,7 +315,7 @@ async function initPopup() {
       confetti: ann.announcementSpec?.confettiEnable ?? defaultConfig.confetti,
     };
 
-    if (!shouldShow(ann, config)) return;
+    if (!shouldShow(ann)) return;
 
     // 注入样式
     injectStyles();
@@ -333,9 +327,19 @@ async function initPopup() {
 
     // 记录显示
     recordShow(ann, config);
+    track(ann, "impression");
+
+    // 任意方式关闭都只记一次
+    let dismissed = false;
+    const dismiss = () => {
+      if (dismissed) return;
+      dismissed = true;
+      track(ann, "dismiss");
+      closePopup(overlay);
+    };
 
     // 关闭按钮
-    overlay.querySelector(".likcc-popup__close")?.addEventListener("click", () => closePopup(overlay));
+    overlay.querySelector(".likcc-popup__close")?.addEventListener("click", () => dismiss());
     
     // 主按钮和副按钮
     overlay.querySelectorAll(".likcc-popup__btn").forEach(btn => {
@@ -343,24 +347,25 @@ async function initPopup() {
         const action = (btn as HTMLElement).dataset.action;
         const url = (btn as HTMLElement).dataset.url;
         const callback = (btn as HTMLElement).dataset.callback;
+        track(ann, btn.classList.contains("likcc-popup__btn--secondary") ? "secondaryClick" : "primaryClick");
         
         if (action === "jump" && url) {
           window.open(url, "_blank");
-          closePopup(overlay);
+          dismiss();
         } else if (action === "confirmJump" && url) {
           if (confirm("确定要跳转吗？")) {
             window.open(url, "_blank");
           }
-          closePopup(overlay);
+          dismiss();
         } else if (action === "callback" && callback) {
           try {
             new Function(callback)();
           } catch (e) {
             console.error("执行回调失败:", e);
           }
-          closePopup(overlay);
+          dismiss();
         } else {
-          closePopup(overlay);
+          dismiss();
         }
       });
     });
@@ -368,14 +373,14 @@ async function initPopup() {
     // 点击外部关闭
     if (config.closeOnClickOutside) {
       overlay.addEventListener("click", (e) => {
-        if (e.target === overlay) closePopup(overlay);
+        if (e.target === overlay) dismiss();
       });
     }
 
     // ESC 关闭
     const escHandler = (e: KeyboardEvent) => {
       if (e.key === "Escape") {
-        closePopup(overlay);
+        dismiss();
         document.removeEventListener("keydown", escHandler);
       }
     };
@@ -383,7 +388,7 @@ async function initPopup() {
 
     // 自动关闭
     if (config.autoClose > 0) {
-      setTimeout(() => closePopup(overlay), config.autoClose * 1000);
+      setTimeout(() => dismiss(), config.autoClose * 1000);
     }
 
     // Confetti 效果
@@ -31,6 +31,13 @@ export interface Announcement {
     secondaryButtonUrl?: string;
     secondaryButtonCallback?: string;
   };
+  // 服务端写入时生成的渲染结果，旧数据可能尚未生成
+  status?: {
+    renderedContent?: string;
+    excerpt?: string;
+    wordCount?: number;
+    contentHash?: string;
+  };
 }
 
 export interface AnnouncementType {
@@ -1,8 +1,18 @@
 import { svelte } from "@sveltejs/vite-plugin-svelte";
 import { minify } from "terser";
 import { fileURLToPath } from "url";
-import { copyFileSync, mkdirSync, existsSync } from "fs";
+import { createHash } from "crypto";
+import {
+  copyFileSync,
+  existsSync,
+  mkdirSync,
+  readdirSync,
+  readFileSync,
+  rmSync,
+  writeFileSync,
+} from "fs";
 import { join } from "path";
+import { brotliCompressSync, constants as zlibConstants, gzipSync } from "zlib";
 import { defineConfig, type Plugin } from "vite";
 
 const minifyBundle = (): Plugin => ({
@@ -19,33 +29,68 @@ const minifyBundle = (): Plugin => ({
   },
 });
 
+const ASSETS = ["announcement.umd.cjs", "announcement.css"];
+
+// 在文件名的第一个点之前插入内容哈希：announcement.umd.cjs -> announcement.3f2a9c1b0d.umd.cjs
+const hashedName = (name: string, content: Buffer) => {
+  const hash = createHash("sha256").update(content).digest("hex").slice(0, 10);
+  const dot = name.indexOf(".");
+  return `${name.slice(0, dot)}.${hash}${name.slice(dot)}`;
+};
+
+const kb = (bytes: number) => `${(bytes / 1024).toFixed(1)} kB`;
+const saving = (compressed: number, original: number) =>
+  `${((1 - compressed / original) * 100).toFixed(1)}%`;
+
 function copyToStatic(): Plugin {
   return {
     name: "copy-to-static",
     closeBundle() {
       const distDir = join(process.cwd(), "dist");
-      const staticDir = fileURLToPath(new URL("../../src/main/resources/static", import.meta.url));
+      // 由插件构建的 processAnnouncementResources 复制到插件包的 static 目录
+      const staticDir = fileURLToPath(new URL("./build/static", import.meta.url));
 
       // 确保 static 目录存在
       if (!existsSync(staticDir)) {
         mkdirSync(staticDir, { recursive: true });
       }
 
-      // 复制 JS 文件
-      const jsSrc = join(distDir, "announcement.umd.cjs");
-      const jsDest = join(staticDir, "announcement.umd.cjs");
-      if (existsSync(jsSrc)) {
-        copyFileSync(jsSrc, jsDest);
-        console.log(`✓ Copied announcement.umd.cjs to ${staticDir}`);
+      // 清理上一次构建的哈希文件及其压缩版本
+      for (const file of readdirSync(staticDir)) {
+        if (/^announcement\.[0-9a-f]{10}\./.test(file)) {
+          rmSync(join(staticDir, file));
+        }
       }
 
-      // 复制 CSS 文件
-      const cssSrc = join(distDir, "announcement.css");
-      const cssDest = join(staticDir, "announcement.css");
-      if (existsSync(cssSrc)) {
-        copyFileSync(cssSrc, cssDest);
-        console.log(`✓ Copied announcement.css to ${staticDir}`);
+      // 原文件名保留给仍直接引用它的主题；插件自身引用带内容哈希的文件，并预先生成 gzip 和 brotli 版本
+      const manifest: Record<string, string> = {};
+      for (const name of ASSETS) {
+        const src = join(distDir, name);
+        if (!existsSync(src)) {
+          continue;
+        }
+        const content = readFileSync(src);
+        const hashed = hashedName(name, content);
+        const gzip = gzipSync(content, { level: 9 });
+        const brotli = brotliCompressSync(content, {
+          params: {
+            [zlibConstants.BROTLI_PARAM_QUALITY]: zlibConstants.BROTLI_MAX_QUALITY,
+            [zlibConstants.BROTLI_PARAM_SIZE_HINT]: content.length,
+          },
+        });
+        copyFileSync(src, join(staticDir, name));
+        writeFileSync(join(staticDir, hashed), content);
+        writeFileSync(join(staticDir, `${hashed}.gz`), gzip);
+        writeFileSync(join(staticDir, `${hashed}.br`), brotli);
+        manifest[name] = hashed;
+        // 每次构建都输出实际的传输体积，便于核对压缩效果
+        console.log(
+          `✓ ${name} -> ${hashed}: ${kb(content.length)}, ` +
+            `gzip ${kb(gzip.length)} (-${saving(gzip.length, content.length)}), ` +
+            `brotli ${kb(brotli.length)} (-${saving(brotli.length, content.length)})`,
+        );
       }
+      writeFileSync(join(staticDir, "asset-manifest.json"), `${JSON.stringify(manifest, null, 2)}\n`);
     },
   };
 }
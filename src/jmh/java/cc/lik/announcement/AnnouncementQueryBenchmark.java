@@ -0,0 +1,50 @@
+package cc.lik.announcement;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import run.halo.app.extension.ListOptions;
+
+/**
+ * {@link AnnouncementQuery#toListOptions()} 在不同参数组合下的开销
+ *
+ * @author Handsome
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AnnouncementQueryBenchmark {
+
+    @Param({"paging", "type", "keyword", "filters", "selectors"})
+    public String mix;
+
+    private ServerRequest request;
+
+    @Setup
+    public void setup() {
+        var uri = switch (mix) {
+            case "paging" -> "/announcements?page=2&size=20";
+            case "type" -> "/announcements?page=1&size=20&type=通知";
+            case "keyword" -> "/announcements?page=1&size=20&keyword=系统";
+            case "filters" -> "/announcements?page=1&size=20&announcementSpec.permissions=everyone"
+                + "&announcementSpec.enablePinning=true&announcementSpec.enablePopup=false&popup=true";
+            case "selectors" -> "/announcements?page=1&size=20&keyword=系统"
+                + "&labelSelector=app=announcement&fieldSelector=metadata.name=announcement-1";
+            default -> throw new IllegalArgumentException(mix);
+        };
+        request = BenchmarkFixtures.request(uri);
+    }
+
+    @Benchmark
+    public ListOptions toListOptions() {
+        // 查询对象随请求创建，一并计入
+        return new AnnouncementQuery(request).toListOptions();
+    }
+}
@@ -0,0 +1,74 @@
+package cc.lik.announcement;
+
+import cc.lik.announcement.extension.Announcement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import run.halo.app.extension.Metadata;
+
+/**
+ * 基准测试共用的数据构造
+ *
+ * @author Handsome
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    public static ServerRequest request(String uri) {
+        var exchange = MockServerWebExchange.from(MockServerHttpRequest.get(uri));
+        return MockServerRequest.builder()
+            .exchange(exchange)
+            .build();
+    }
+
+    public static Announcement announcement(int index, int contentLength) {
+        var announcement = new Announcement();
+        var metadata = new Metadata();
+        metadata.setName("announcement-" + index);
+        metadata.setVersion(1L);
+        metadata.setCreationTimestamp(Instant.ofEpochSecond(1_700_000_000L + index));
+        announcement.setMetadata(metadata);
+
+        var spec = new Announcement.AnnouncementSpec();
+        spec.setTitle("系统公告 Announcement " + index);
+        spec.setType(index % 3 == 0 ? "通知" : "活动");
+        spec.setPermissions(Announcement.AnnouncementSpec.ViewPermissions.values()[index % 3]);
+        spec.setContent(content(contentLength));
+        spec.setPosition("center");
+        spec.setCloseOnClickOutside(true);
+        spec.setConfettiEnable(false);
+        spec.setEnablePopup(index % 4 == 0);
+        spec.setEnablePinning(index % 10 == 0);
+        spec.setPrimaryButtonText("确认");
+        spec.setPrimaryButtonAction("closeNotice");
+        spec.setPrimaryButtonCallback("console.log('primary')");
+        spec.setSecondaryButtonText("关闭");
+        spec.setSecondaryButtonAction("closeNotice");
+        spec.setSecondaryButtonCallback("console.log('secondary')");
+        announcement.setAnnouncementSpec(spec);
+        return announcement;
+    }
+
+    public static List<Announcement> announcements(int count, int contentLength) {
+        var list = new ArrayList<Announcement>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(announcement(i, contentLength));
+        }
+        return list;
+    }
+
+    static String content(int length) {
+        var paragraph = "<p>欢迎访问本站，这是一条用于基准测试的公告内容 with some latin words.</p>";
+        var builder = new StringBuilder(length + paragraph.length());
+        while (builder.length() < length) {
+            builder.append(paragraph);
+        }
+        return builder.substring(0, length);
+    }
+}
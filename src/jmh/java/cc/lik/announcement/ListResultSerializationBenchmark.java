@@ -0,0 +1,48 @@
+package cc.lik.announcement;
+
+import cc.lik.announcement.extension.Announcement;
+import cc.lik.announcement.view.AnnouncementView;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import run.halo.app.extension.ListResult;
+import run.halo.app.infra.utils.JsonUtils;
+
+/**
+ * 一页公告的 JSON 序列化开销，按正文长度和响应视图区分
+ *
+ * @author Handsome
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListResultSerializationBenchmark {
+
+    @Param({"256", "4096", "65536"})
+    public int contentLength;
+
+    @Param({"FULL", "SUMMARY"})
+    public AnnouncementView view;
+
+    private final ObjectMapper mapper = JsonUtils.mapper();
+    private ListResult<Announcement> page;
+
+    @Setup
+    public void setup() {
+        var items = BenchmarkFixtures.announcements(20, contentLength);
+        page = new ListResult<>(1, 20, 200, items);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(view.project(page));
+    }
+}
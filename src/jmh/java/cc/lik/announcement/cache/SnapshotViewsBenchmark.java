@@ -0,0 +1,100 @@
+package cc.lik.announcement.cache;
+
+import cc.lik.announcement.AnnouncementIndexes;
+import cc.lik.announcement.extension.Announcement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import run.halo.app.extension.Metadata;
+
+/**
+ * 快照视图重建的开销，同时对比按拼接排序键比较和按字段直接比较的排序，
+ * 以及单条变更时在上一版视图上增量更新的开销
+ *
+ * @author Handsome
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SnapshotViewsBenchmark {
+
+    private static final Comparator<Announcement> KEY_ORDER = Comparator
+        .comparing(AnnouncementIndexes::defaultOrderKey)
+        .reversed();
+
+    @Param({"10000", "100000"})
+    public int announcementCount;
+
+    private List<Announcement> announcements;
+    private AnnouncementSnapshot.Views views;
+    private Map<String, Announcement> items;
+    private String changedName;
+
+    @Setup
+    public void setup() {
+        var random = new Random(42);
+        var permissions = Announcement.AnnouncementSpec.ViewPermissions.values();
+        announcements = new ArrayList<>(announcementCount);
+        for (int i = 0; i < announcementCount; i++) {
+            var metadata = new Metadata();
+            metadata.setName("announcement-" + i);
+            metadata.setCreationTimestamp(Instant.ofEpochSecond(1_700_000_000L + random.nextInt(50_000_000)));
+            var spec = new Announcement.AnnouncementSpec();
+            spec.setPermissions(permissions[random.nextInt(permissions.length)]);
+            spec.setEnablePinning(random.nextInt(50) == 0);
+            spec.setEnablePopup(random.nextInt(10) == 0);
+            var announcement = new Announcement();
+            announcement.setMetadata(metadata);
+            announcement.setAnnouncementSpec(spec);
+            announcements.add(announcement);
+        }
+        views = AnnouncementSnapshot.Views.build(1, announcements);
+        items = new HashMap<>();
+        announcements.forEach(announcement -> items.put(announcement.getMetadata().getName(), announcement));
+        // 模拟一次编辑：同名公告置顶，排序位置随之变化
+        var changed = announcements.get(random.nextInt(announcementCount));
+        var spec = new Announcement.AnnouncementSpec();
+        spec.setPermissions(changed.getAnnouncementSpec().getPermissions());
+        spec.setEnablePinning(true);
+        spec.setEnablePopup(changed.getAnnouncementSpec().getEnablePopup());
+        var edited = new Announcement();
+        edited.setMetadata(changed.getMetadata());
+        edited.setAnnouncementSpec(spec);
+        changedName = changed.getMetadata().getName();
+        items.put(changedName, edited);
+    }
+
+    @Benchmark
+    public AnnouncementSnapshot.Views build() {
+        return AnnouncementSnapshot.Views.build(1, announcements);
+    }
+
+    @Benchmark
+    public AnnouncementSnapshot.Views updateOne() {
+        return views.update(2, Set.of(changedName), items);
+    }
+
+    @Benchmark
+    public List<Announcement> sortByKey() {
+        return announcements.stream().sorted(KEY_ORDER).toList();
+    }
+
+    @Benchmark
+    public List<Announcement> sortByFields() {
+        return announcements.stream().sorted(AnnouncementSnapshot.DEFAULT_ORDER).toList();
+    }
+}
@@ -0,0 +1,55 @@
+package cc.lik.announcement.cache;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import run.halo.app.extension.ConfigMap;
+import run.halo.app.extension.Metadata;
+
+/**
+ * 插件 ConfigMap 中公告类型配置的解析开销
+ *
+ * @author Handsome
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TypesParsingBenchmark {
+
+    @Param({"4", "32"})
+    public int typeCount;
+
+    private AnnouncementTypesCache cache;
+    private ConfigMap configMap;
+
+    @Setup
+    public void setup() {
+        // 解析只在 refresh 中进行，不会访问存储
+        cache = new AnnouncementTypesCache(null, new ContentVersion());
+        var types = new StringBuilder("{\"announcementTypes\":[");
+        for (int i = 0; i < typeCount; i++) {
+            if (i > 0) {
+                types.append(',');
+            }
+            types.append("{\"displayName\":\"类型").append(i).append("\",\"color\":\"#3b82f6\"}");
+        }
+        types.append("]}");
+        configMap = new ConfigMap();
+        var metadata = new Metadata();
+        metadata.setName(AnnouncementTypesCache.CONFIG_MAP_NAME);
+        configMap.setMetadata(metadata);
+        configMap.setData(Map.of("types", types.toString(), "basic", "{\"inlinePopup\":true}"));
+    }
+
+    @Benchmark
+    public void refresh() {
+        cache.refresh(configMap);
+    }
+}
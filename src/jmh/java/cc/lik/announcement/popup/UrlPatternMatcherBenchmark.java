@@ -0,0 +1,66 @@
+package cc.lik.announcement.popup;
+
+import cc.lik.announcement.BenchmarkFixtures;
+import cc.lik.announcement.extension.Announcement;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 弹窗 URL 规则的编译和匹配开销，规则覆盖字面路径、单段通配、多段通配和段内通配
+ *
+ * @author Handsome
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UrlPatternMatcherBenchmark {
+
+    private static final String[] PATTERNS = {
+        "/",
+        "/archives/*",
+        "/categories/**",
+        "/tags/v*-beta",
+        "/docs/**/index",
+        "/posts**",
+    };
+
+    @Param({"4", "64", "512"})
+    public int announcementCount;
+
+    @Param({"/", "/archives/hello-world", "/docs/guide/start/index", "/about/me"})
+    public String path;
+
+    private List<Announcement> announcements;
+    private UrlPatternMatcher matcher;
+
+    @Setup
+    public void setup() {
+        announcements = BenchmarkFixtures.announcements(announcementCount, 0);
+        for (int i = 0; i < announcements.size(); i++) {
+            // 每个公告两条规则，前缀各不相同以模拟真实站点的多样性
+            var prefix = i == 0 ? "" : "/s" + i;
+            announcements.get(i).getAnnouncementSpec().setUrlPatterns(
+                prefix + PATTERNS[i % PATTERNS.length] + "\n" + prefix + PATTERNS[(i + 1) % PATTERNS.length]);
+        }
+        matcher = UrlPatternMatcher.compile(announcements);
+    }
+
+    @Benchmark
+    public Optional<Announcement> first() {
+        return matcher.first(path);
+    }
+
+    @Benchmark
+    public UrlPatternMatcher compile() {
+        return UrlPatternMatcher.compile(announcements);
+    }
+}
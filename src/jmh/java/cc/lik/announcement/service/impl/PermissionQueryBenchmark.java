@@ -0,0 +1,41 @@
+package cc.lik.announcement.service.impl;
+
+import cc.lik.announcement.AnnouncementQuery;
+import cc.lik.announcement.Audience;
+import cc.lik.announcement.BenchmarkFixtures;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import run.halo.app.extension.ListOptions;
+
+/**
+ * 公开查询中按受众权限拼接 or 条件的开销
+ *
+ * @author Handsome
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PermissionQueryBenchmark {
+
+    @Param({"ANONYMOUS_LIST", "LOGGED_IN_LIST"})
+    public Audience audience;
+
+    private AnnouncementQuery query;
+
+    @Setup
+    public void setup() {
+        query = new AnnouncementQuery(BenchmarkFixtures.request("/announcements?page=1&size=20&type=通知"));
+    }
+
+    @Benchmark
+    public ListOptions permissionOptions() {
+        return AnnouncementServiceImpl.permissionOptions(query, audience.getPermissions());
+    }
+}
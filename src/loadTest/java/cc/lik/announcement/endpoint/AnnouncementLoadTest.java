@@ -0,0 +1,477 @@
+package cc.lik.announcement.endpoint;
+
+import cc.lik.announcement.Audience;
+import cc.lik.announcement.archive.AnnouncementArchive;
+import cc.lik.announcement.cache.AnnouncementResponseCache;
+import cc.lik.announcement.cache.AnnouncementSnapshot;
+import cc.lik.announcement.cache.AnnouncementTypesCache;
+import cc.lik.announcement.cache.ContentVersion;
+import cc.lik.announcement.cache.SingleFlight;
+import cc.lik.announcement.event.AnnouncementChangedEvent;
+import cc.lik.announcement.extension.Announcement;
+import cc.lik.announcement.facet.AnnouncementFacets;
+import cc.lik.announcement.metrics.AnnouncementMetrics;
+import cc.lik.announcement.popup.PopupCapSigner;
+import cc.lik.announcement.search.AnnouncementSearchIndex;
+import cc.lik.announcement.service.impl.AnnouncementServiceImpl;
+import cc.lik.announcement.stats.AnnouncementStatsCollector;
+import cc.lik.announcement.stream.AnnouncementStreamHub;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.server.WebFilter;
+import reactor.core.publisher.Mono;
+import run.halo.app.extension.ReactiveExtensionClient;
+import run.halo.app.plugin.ReactiveSettingFetcher;
+
+/**
+ * 公开接口的端到端压测，运行方式：{@code ./gradlew loadTest}。
+ * <p>组件按插件中的依赖关系手动装配，存储换成 {@link InMemoryExtensionClient}，
+ * 请求经过完整的路由、条件请求、响应缓存和编码流程，但不经过网络和 Halo 的安全过滤链。
+ * 登录访客通过请求头 {@code X-Load-User} 模拟。</p>
+ * <p>可通过 {@code -Pload.xxx=value} 调整参数：</p>
+ * <ul>
+ *     <li>{@code announcements}：公告数量，默认 1000</li>
+ *     <li>{@code contentBytes}：正文的平均长度，默认 2048</li>
+ *     <li>{@code concurrency}：并发的请求线程数，默认 16</li>
+ *     <li>{@code warmupSeconds} / {@code durationSeconds}：预热和测量时长，默认 10 / 30</li>
+ *     <li>{@code loggedInRatio}：登录访客的比例，默认 0.3</li>
+ *     <li>{@code seed}：数据和请求分布的随机种子，默认 42</li>
+ *     <li>{@code report}：额外以 JSON 写出结果的文件路径</li>
+ * </ul>
+ *
+ * @author Handsome
+ */
+public final class AnnouncementLoadTest {
+
+    private static final String BASE_PATH = "/apis/public.announcement.lik.cc/v1alpha1";
+    private static final String USER_HEADER = "X-Load-User";
+
+    private AnnouncementLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int count = intProperty("announcements", 1000);
+        int contentBytes = intProperty("contentBytes", 2048);
+        int concurrency = intProperty("concurrency", 16);
+        int warmupSeconds = intProperty("warmupSeconds", 10);
+        int durationSeconds = intProperty("durationSeconds", 30);
+        double loggedInRatio = Double.parseDouble(System.getProperty("load.loggedInRatio", "0.3"));
+        long seed = Long.parseLong(System.getProperty("load.seed", "42"));
+
+        long started = System.nanoTime();
+        List<Announcement> announcements = LoadData.generate(count, contentBytes, seed);
+        System.out.printf(Locale.ROOT, "Generated %d announcements in %d ms%n", count,
+            Duration.ofNanos(System.nanoTime() - started).toMillis());
+
+        var registry = new SimpleMeterRegistry();
+        var fixture = new Fixture(InMemoryExtensionClient.create(announcements), registry);
+        started = System.nanoTime();
+        fixture.snapshot.views().block();
+        System.out.printf(Locale.ROOT, "Snapshot seeded in %d ms%n",
+            Duration.ofNanos(System.nanoTime() - started).toMillis());
+
+        var popups = announcements.stream()
+            .filter(a -> Boolean.TRUE.equals(a.getAnnouncementSpec().getEnablePopup()))
+            .count();
+        System.out.printf(Locale.ROOT, "Running %d workers: %ds warm-up, %ds measured, %d popups%n",
+            concurrency, warmupSeconds, durationSeconds, popups);
+
+        run(fixture.client, announcements, concurrency, warmupSeconds, loggedInRatio, seed);
+        long gcBefore = gcMillis();
+        var results = run(fixture.client, announcements, concurrency, durationSeconds, loggedInRatio, seed + 1);
+        long gc = gcMillis() - gcBefore;
+
+        var report = Report.of(results.samples(), durationSeconds, results.allocatedBytes(), gc);
+        System.out.print(report.table());
+        var reportPath = System.getProperty("load.report");
+        if (reportPath != null && !reportPath.isBlank()) {
+            write(Path.of(reportPath), report.json());
+            System.out.println("Report written to " + reportPath);
+        }
+    }
+
+    /**
+     * 按插件中的依赖关系装配公开接口
+     */
+    static final class Fixture {
+
+        final AnnouncementSnapshot snapshot;
+        final WebTestClient client;
+
+        Fixture(ReactiveExtensionClient extensionClient, MeterRegistry registry) {
+            var contentVersion = new ContentVersion();
+            var searchIndex = new AnnouncementSearchIndex();
+            var streamHub = new AnnouncementStreamHub();
+            var facets = new AnnouncementFacets[1];
+            ApplicationEventPublisher publisher = event -> {
+                if (event instanceof AnnouncementChangedEvent changed) {
+                    searchIndex.onAnnouncementChanged(changed);
+                    streamHub.onAnnouncementChanged(changed);
+                    facets[0].onAnnouncementChanged(changed);
+                }
+            };
+            this.snapshot = new AnnouncementSnapshot(extensionClient, contentVersion, publisher);
+            facets[0] = new AnnouncementFacets(snapshot);
+
+            var beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", registry));
+            var metrics = new AnnouncementMetrics(beanFactory.getBeanProvider(MeterRegistry.class));
+            ReactiveSettingFetcher settingFetcher =
+                Mockito.mock(ReactiveSettingFetcher.class, invocation -> Mono.empty());
+            var archive = new AnnouncementArchive(extensionClient, snapshot, settingFetcher, metrics);
+            var service = new AnnouncementServiceImpl(extensionClient, snapshot, searchIndex, metrics, archive);
+            var singleFlight = new SingleFlight(metrics);
+            var endpoint = new AnnouncementPublicEndpoint(service,
+                new AnnouncementTypesCache(extensionClient, contentVersion),
+                new ConditionalGet(contentVersion, settingFetcher),
+                new AnnouncementResponseCache(snapshot, singleFlight),
+                streamHub,
+                new AnnouncementStatsCollector(extensionClient, snapshot),
+                metrics,
+                singleFlight,
+                facets[0],
+                new PopupCapSigner(extensionClient));
+
+            var router = RouterFunctions.nest(RequestPredicates.path(BASE_PATH), endpoint.endpoint());
+            this.client = WebTestClient.bindToRouterFunction(router)
+                .webFilter(loggedInFilter())
+                .configureClient()
+                .baseUrl(BASE_PATH)
+                .responseTimeout(Duration.ofSeconds(30))
+                .build();
+        }
+
+        private static WebFilter loggedInFilter() {
+            return (exchange, chain) -> {
+                var user = exchange.getRequest().getHeaders().getFirst(USER_HEADER);
+                if (user == null) {
+                    return chain.filter(exchange);
+                }
+                var authentication = new UsernamePasswordAuthenticationToken(user, "N/A", List.of());
+                return chain.filter(exchange)
+                    .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+            };
+        }
+    }
+
+    /**
+     * 请求场景及其权重，大致对应主题页面的访问构成
+     */
+    enum Scenario {
+        LIST(30),
+        LIST_REVALIDATE(15),
+        LIST_TYPE(10),
+        LIST_CURSOR(5),
+        KEYWORD(5),
+        POPUP(25),
+        ITEM(8),
+        TYPES(1),
+        FACETS(1);
+
+        private static final int TOTAL_WEIGHT = Arrays.stream(values()).mapToInt(s -> s.weight).sum();
+
+        private final int weight;
+
+        Scenario(int weight) {
+            this.weight = weight;
+        }
+
+        static Scenario pick(SplittableRandom random) {
+            int roll = random.nextInt(TOTAL_WEIGHT);
+            for (var scenario : values()) {
+                roll -= scenario.weight;
+                if (roll < 0) {
+                    return scenario;
+                }
+            }
+            return LIST;
+        }
+
+        String label() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+    }
+
+    private record Run(Map<Scenario, Samples> samples, long allocatedBytes) {
+    }
+
+    private static Run run(WebTestClient client, List<Announcement> announcements,
+        int concurrency, int seconds, double loggedInRatio, long seed) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            var futures = new ArrayList<Future<Worker>>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                var worker = new Worker(client, announcements, loggedInRatio, new SplittableRandom(seed + i));
+                futures.add(executor.submit(() -> worker.runUntil(deadline)));
+            }
+            var merged = new LinkedHashMap<Scenario, Samples>();
+            long allocated = 0;
+            for (var future : futures) {
+                var worker = future.get();
+                worker.samples.forEach((scenario, samples) ->
+                    merged.computeIfAbsent(scenario, s -> new Samples()).addAll(samples));
+                allocated += worker.allocatedBytes;
+            }
+            return new Run(merged, allocated);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 单个访客线程，串行发起请求并记录每次的耗时
+     */
+    private static final class Worker {
+
+        private final WebTestClient client;
+        private final List<Announcement> announcements;
+        private final double loggedInRatio;
+        private final SplittableRandom random;
+        private final Map<Scenario, Samples> samples = new LinkedHashMap<>();
+        private final Map<Audience, String> listEtags = new LinkedHashMap<>();
+        private long allocatedBytes;
+
+        Worker(WebTestClient client, List<Announcement> announcements, double loggedInRatio,
+            SplittableRandom random) {
+            this.client = client;
+            this.announcements = announcements;
+            this.loggedInRatio = loggedInRatio;
+            this.random = random;
+        }
+
+        Worker runUntil(long deadline) {
+            long allocatedBefore = currentThreadAllocatedBytes();
+            while (System.nanoTime() < deadline) {
+                var scenario = Scenario.pick(random);
+                boolean loggedIn = random.nextDouble() < loggedInRatio;
+                var target = samples.computeIfAbsent(scenario, s -> new Samples());
+                long start = System.nanoTime();
+                boolean ok;
+                try {
+                    ok = execute(scenario, loggedIn);
+                } catch (RuntimeException e) {
+                    ok = false;
+                }
+                target.record(System.nanoTime() - start, ok);
+            }
+            allocatedBytes = currentThreadAllocatedBytes() - allocatedBefore;
+            return this;
+        }
+
+        private boolean execute(Scenario scenario, boolean loggedIn) {
+            return switch (scenario) {
+                case LIST -> get(loggedIn, "/announcements?page=" + (1 + random.nextInt(5)) + "&size=10",
+                    null) != null;
+                case LIST_REVALIDATE -> revalidate(loggedIn);
+                case LIST_TYPE -> get(loggedIn, "/announcements?page=1&size=10&type="
+                    + LoadData.TYPES.get(random.nextInt(LoadData.TYPES.size())), null) != null;
+                case LIST_CURSOR -> get(loggedIn, "/announcements?cursor=&size=10&view=summary", null) != null;
+                case KEYWORD -> get(loggedIn, "/announcements?page=1&size=10&keyword="
+                    + LoadData.TYPES.get(random.nextInt(LoadData.TYPES.size())), null) != null;
+                case POPUP -> get(loggedIn, "/popup?path=/archives/post-" + random.nextInt(500), null) != null;
+                case ITEM -> get(loggedIn, "/announcements/"
+                    + announcements.get(random.nextInt(announcements.size())).getMetadata().getName(),
+                    null) != null;
+                case TYPES -> get(loggedIn, "/types", null) != null;
+                case FACETS -> get(loggedIn, "/facets", null) != null;
+            };
+        }
+
+        // 带上次的 ETag 请求首页，模拟浏览器的条件请求
+        private boolean revalidate(boolean loggedIn) {
+            var audience = Audience.of(loggedIn, false);
+            var headers = get(loggedIn, "/announcements?page=1&size=10", listEtags.get(audience));
+            if (headers == null) {
+                return false;
+            }
+            var etag = headers.getETag();
+            if (etag != null) {
+                listEtags.put(audience, etag);
+            }
+            return true;
+        }
+
+        /**
+         * 发起请求并读完响应体，成功（响应体非空的 200、其他 2xx、304 或单个公告的 404）时返回响应头
+         */
+        private HttpHeaders get(boolean loggedIn, String uri, String ifNoneMatch) {
+            var result = client.get()
+                .uri(uri)
+                .headers(headers -> {
+                    if (loggedIn) {
+                        headers.set(USER_HEADER, "load");
+                    }
+                    if (ifNoneMatch != null) {
+                        headers.setIfNoneMatch(ifNoneMatch);
+                    }
+                })
+                .exchange()
+                .expectBody()
+                .returnResult();
+            var status = result.getStatus();
+            var body = result.getResponseBody();
+            // 不可见的公告返回 404、没有弹窗时返回 204 属于正常结果；200 却没有响应体说明某一步静默地返回了空
+            boolean ok = status.value() == 200 ? body != null && body.length > 0
+                : status.is2xxSuccessful() || status.value() == 304
+                || status.value() == 404 && uri.startsWith("/announcements/");
+            return ok ? result.getResponseHeaders() : null;
+        }
+    }
+
+    /**
+     * 一个场景的耗时样本（纳秒）
+     */
+    private static final class Samples {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        void record(long nanos, boolean ok) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            if (size + other.size > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, size + other.size));
+            }
+            System.arraycopy(other.latencies, 0, latencies, size, other.size);
+            size += other.size;
+            errors += other.errors;
+        }
+
+        long[] sorted() {
+            var copy = Arrays.copyOf(latencies, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    private record Row(String scenario, long requests, long errors, double throughput,
+                       double p50, double p90, double p99, double p999, double max) {
+
+        static Row of(String scenario, long[] sorted, long errors, int seconds) {
+            return new Row(scenario, sorted.length, errors, (double) sorted.length / seconds,
+                millis(sorted, 0.50), millis(sorted, 0.90), millis(sorted, 0.99), millis(sorted, 0.999),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+        }
+
+        private static double millis(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+        }
+    }
+
+    private record Report(List<Row> rows, long allocatedBytes, long gcMillis, int seconds) {
+
+        static Report of(Map<Scenario, Samples> results, int seconds, long allocatedBytes, long gcMillis) {
+            var rows = new ArrayList<Row>();
+            var all = new Samples();
+            results.forEach((scenario, samples) -> {
+                rows.add(Row.of(scenario.label(), samples.sorted(), samples.errors, seconds));
+                all.addAll(samples);
+            });
+            rows.add(Row.of("total", all.sorted(), all.errors, seconds));
+            return new Report(rows, allocatedBytes, gcMillis, seconds);
+        }
+
+        Row total() {
+            return rows.get(rows.size() - 1);
+        }
+
+        String table() {
+            var out = new StringBuilder();
+            out.append(String.format(Locale.ROOT, "%n%-16s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms"));
+            for (var row : rows) {
+                out.append(String.format(Locale.ROOT, "%-16s %10d %8d %10.1f %9.3f %9.3f %9.3f %9.3f %9.3f%n",
+                    row.scenario, row.requests, row.errors, row.throughput,
+                    row.p50, row.p90, row.p99, row.p999, row.max));
+            }
+            long requests = Math.max(1, total().requests);
+            out.append(String.format(Locale.ROOT, "%nallocation: %.1f MB/s, %.1f KB/request; gc: %d ms%n",
+                allocatedBytes / 1_048_576.0 / seconds, allocatedBytes / 1024.0 / requests, gcMillis));
+            return out.toString();
+        }
+
+        String json() {
+            var out = new StringBuilder("{\"durationSeconds\":").append(seconds)
+                .append(",\"allocatedBytes\":").append(allocatedBytes)
+                .append(",\"gcMillis\":").append(gcMillis)
+                .append(",\"scenarios\":[");
+            for (int i = 0; i < rows.size(); i++) {
+                var row = rows.get(i);
+                if (i > 0) {
+                    out.append(',');
+                }
+                out.append(String.format(Locale.ROOT,
+                    "{\"scenario\":\"%s\",\"requests\":%d,\"errors\":%d,\"throughput\":%.3f,"
+                        + "\"p50\":%.4f,\"p90\":%.4f,\"p99\":%.4f,\"p999\":%.4f,\"max\":%.4f}",
+                    row.scenario, row.requests, row.errors, row.throughput,
+                    row.p50, row.p90, row.p99, row.p999, row.max));
+            }
+            return out.append("]}").toString();
+        }
+    }
+
+    // 请求线程自身的累计分配字节数；路由到响应编码在调用线程上同步完成，其他线程的分配不计入
+    private static long currentThreadAllocatedBytes() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)
+            || !threads.isThreadAllocatedMemorySupported()) {
+            return 0;
+        }
+        return threads.getCurrentThreadAllocatedBytes();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+            .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+            .filter(millis -> millis > 0)
+            .sum();
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty("load." + name, String.valueOf(defaultValue)));
+    }
+
+    private static void write(Path path, String content) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.writeString(path, content);
+    }
+}
@@ -0,0 +1,91 @@
+package cc.lik.announcement.endpoint;
+
+import static org.mockito.Mockito.withSettings;
+
+import cc.lik.announcement.cache.AnnouncementSnapshot;
+import cc.lik.announcement.extension.Announcement;
+import cc.lik.announcement.extension.ArchivedAnnouncement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import run.halo.app.extension.ListResult;
+import run.halo.app.extension.PageRequest;
+import run.halo.app.extension.ReactiveExtensionClient;
+
+/**
+ * 压测用的只读内存存储，只实现公开接口会用到的公告读取方法。
+ * <p>{@code listBy} 不解析查询条件，按默认排序直接分页返回，
+ * 用于模拟回落到存储时的序列化和分页开销；归档为空，分页查询返回空列表；
+ * 其他类型的读取返回空，写入操作同样返回空。</p>
+ *
+ * @author Handsome
+ */
+final class InMemoryExtensionClient implements Answer<Object> {
+
+    private final List<Announcement> sorted;
+    private final Map<String, Announcement> byName = new HashMap<>();
+
+    private InMemoryExtensionClient(List<Announcement> announcements) {
+        this.sorted = announcements.stream().sorted(AnnouncementSnapshot.DEFAULT_ORDER).toList();
+        announcements.forEach(a -> byName.put(a.getMetadata().getName(), a));
+    }
+
+    static ReactiveExtensionClient create(List<Announcement> announcements) {
+        return Mockito.mock(ReactiveExtensionClient.class,
+            withSettings().stubOnly().defaultAnswer(new InMemoryExtensionClient(announcements)));
+    }
+
+    @Override
+    public Object answer(InvocationOnMock invocation) {
+        var arguments = invocation.getArguments();
+        boolean announcements = arguments.length > 0 && arguments[0] == Announcement.class;
+        var method = invocation.getMethod();
+        if (arguments.length == 3 && arguments[0] == ArchivedAnnouncement.class
+            && arguments[2] instanceof PageRequest page && "listBy".equals(method.getName())) {
+            return Mono.just(new ListResult<ArchivedAnnouncement>(page.getPageNumber(), page.getPageSize(), 0,
+                List.of()));
+        }
+        if (announcements) {
+            switch (method.getName()) {
+                case "listAll" -> {
+                    return Flux.fromIterable(sorted);
+                }
+                case "listBy" -> {
+                    if (arguments.length == 3 && arguments[2] instanceof PageRequest page) {
+                        return Mono.just(page(page));
+                    }
+                }
+                case "fetch", "get" -> {
+                    if (arguments.length == 2 && arguments[1] instanceof String name) {
+                        return Mono.justOrEmpty(byName.get(name));
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        var returnType = method.getReturnType();
+        if (Mono.class.isAssignableFrom(returnType)) {
+            return Mono.empty();
+        }
+        if (Flux.class.isAssignableFrom(returnType)) {
+            return Flux.empty();
+        }
+        return null;
+    }
+
+    private ListResult<Announcement> page(PageRequest page) {
+        int size = page.getPageSize();
+        if (size <= 0) {
+            return new ListResult<>(sorted);
+        }
+        int from = Math.min((page.getPageNumber() - 1) * size, sorted.size());
+        int to = Math.min(from + size, sorted.size());
+        return new ListResult<>(page.getPageNumber(), size, sorted.size(), sorted.subList(from, to));
+    }
+}
@@ -0,0 +1,89 @@
+package cc.lik.announcement.endpoint;
+
+import cc.lik.announcement.extension.Announcement;
+import cc.lik.announcement.extension.Announcement.AnnouncementSpec.ViewPermissions;
+import cc.lik.announcement.render.ContentRenderer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import run.halo.app.extension.Metadata;
+
+/**
+ * 压测数据：权限、类型、置顶和弹窗按接近真实站点的比例分布，正文长度围绕给定值波动
+ *
+ * @author Handsome
+ */
+final class LoadData {
+
+    static final List<String> TYPES = List.of("通知", "活动", "更新", "维护");
+
+    private static final String[] PARAGRAPHS = {
+        "<p>本站将于本周末进行例行维护，期间部分功能可能无法访问，给您带来不便敬请谅解。</p>",
+        "<p>We are rolling out a new editor with better <strong>image handling</strong> and "
+            + "<a href=\"/docs/editor\">keyboard shortcuts</a>.</p>",
+        "<ul><li>修复了评论分页的问题</li><li>优化了移动端的排版</li><li>新增暗色模式</li></ul>",
+        "<p><img src=\"/upload/banner.png\" alt=\"banner\" style=\"max-width:100%\"></p>",
+        "<blockquote><p>感谢每一位读者的支持，新的一年我们会继续努力。</p></blockquote>",
+    };
+
+    private LoadData() {
+    }
+
+    static List<Announcement> generate(int count, int contentBytes, long seed) {
+        var random = new SplittableRandom(seed);
+        var announcements = new ArrayList<Announcement>(count);
+        var base = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < count; i++) {
+            var announcement = new Announcement();
+            var metadata = new Metadata();
+            metadata.setName("announcement-" + i);
+            metadata.setVersion(1L);
+            metadata.setCreationTimestamp(base.plusSeconds(i * 600L));
+            announcement.setMetadata(metadata);
+
+            var spec = new Announcement.AnnouncementSpec();
+            spec.setTitle("公告 " + i + " " + TYPES.get(i % TYPES.size()) + " announcement");
+            spec.setType(random.nextInt(5) == 0 ? null : TYPES.get(random.nextInt(TYPES.size())));
+            spec.setPermissions(permission(random.nextInt(100)));
+            spec.setContent(content(random, contentBytes));
+            spec.setPosition("center");
+            spec.setCloseOnClickOutside(true);
+            spec.setConfettiEnable(false);
+            spec.setEnablePinning(random.nextInt(20) == 0);
+            spec.setEnablePopup(random.nextInt(10) == 0);
+            spec.setUrlPatterns(spec.getEnablePopup() ? "/archives/*\n/categories/**" : null);
+            spec.setPrimaryButtonText("确认");
+            spec.setPrimaryButtonAction("closeNotice");
+            announcement.setAnnouncementSpec(spec);
+
+            ContentRenderer.render(announcement);
+            announcement.getStatus().setActive(true);
+            announcements.add(announcement);
+        }
+        return announcements;
+    }
+
+    private static ViewPermissions permission(int roll) {
+        if (roll < 60) {
+            return ViewPermissions.everyone;
+        }
+        if (roll < 80) {
+            return ViewPermissions.loggedInUsers;
+        }
+        if (roll < 95) {
+            return ViewPermissions.nonLoggedInUsers;
+        }
+        return ViewPermissions.notShown;
+    }
+
+    // 正文长度在给定值的 0.25 到 1.75 倍之间
+    private static String content(SplittableRandom random, int contentBytes) {
+        int target = Math.max(64, (int) (contentBytes * (0.25 + random.nextDouble() * 1.5)));
+        var builder = new StringBuilder(target + 256);
+        while (builder.length() < target) {
+            builder.append(PARAGRAPHS[random.nextInt(PARAGRAPHS.length)]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,70 @@
+package cc.lik.announcement;
+
+import cc.lik.announcement.extension.Announcement;
+import cc.lik.announcement.extension.ArchivedAnnouncement;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 公告索引名称及索引键的计算方式
+ *
+ * @author Handsome
+ */
+public final class AnnouncementIndexes {
+
+    public static final String TITLE = "announcementSpec.title";
+    public static final String PERMISSIONS = "announcementSpec.permissions";
+    public static final String TYPE = "announcementSpec.type";
+    public static final String ENABLE_POPUP = "announcementSpec.enablePopup";
+    public static final String ENABLE_PINNING = "announcementSpec.enablePinning";
+    public static final String ACTIVE = "status.active";
+    /**
+     * 默认排序键：置顶标记 + 创建时间 + 名称，倒序即为置顶优先、创建时间倒序
+     */
+    public static final String DEFAULT_ORDER = "announcementSpec.defaultOrder";
+    /**
+     * 归档公告的排序键：原创建时间 + 名称，归档后不再区分置顶
+     */
+    public static final String ARCHIVE_ORDER = "archive.order";
+
+    private AnnouncementIndexes() {
+    }
+
+    /**
+     * 是否处于展示时间窗口内，尚未调谐的旧数据没有时间窗口，视为展示中
+     */
+    public static boolean isActive(Announcement announcement) {
+        return announcement.getStatus() == null || !Boolean.FALSE.equals(announcement.getStatus().getActive());
+    }
+
+    public static String defaultOrderKey(Announcement announcement) {
+        return defaultOrderKey(isPinned(announcement), createdAtMillis(announcement),
+            announcement.getMetadata().getName());
+    }
+
+    public static boolean isPinned(Announcement announcement) {
+        var spec = announcement.getAnnouncementSpec();
+        return spec != null && Boolean.TRUE.equals(spec.getEnablePinning());
+    }
+
+    /**
+     * 默认排序使用的创建时间，缺失或早于纪元时按 0 处理，与排序键一致
+     */
+    public static long createdAtMillis(Announcement announcement) {
+        var createdAt = announcement.getMetadata().getCreationTimestamp();
+        return createdAt == null ? 0L : Math.max(createdAt.toEpochMilli(), 0L);
+    }
+
+    public static String archiveOrderKey(ArchivedAnnouncement archived) {
+        long createdAt = Optional.ofNullable(archived.getArchive())
+            .map(ArchivedAnnouncement.ArchiveInfo::getOriginalCreationTimestamp)
+            .map(Instant::toEpochMilli)
+            .orElse(0L);
+        return defaultOrderKey(false, createdAt, archived.getMetadata().getName());
+    }
+
+    public static String defaultOrderKey(boolean pinned, long createdAtMillis, String name) {
+        // 定长数字保证字典序与时间顺序一致
+        return (pinned ? '1' : '0') + String.format("%019d", Math.max(createdAtMillis, 0)) + name;
+    }
+}
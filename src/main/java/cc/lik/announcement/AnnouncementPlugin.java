@@ -1,6 +1,9 @@
 package cc.lik.announcement;
 
+import cc.lik.announcement.cache.AnnouncementWarmStart;
 import cc.lik.announcement.extension.Announcement;
+import cc.lik.announcement.extension.AnnouncementStats;
+import cc.lik.announcement.extension.ArchivedAnnouncement;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
 import run.halo.app.extension.SchemeManager;
@@ -19,59 +22,68 @@ import run.halo.app.plugin.PluginContext;
 @Component
 public class AnnouncementPlugin extends BasePlugin {
     private final SchemeManager schemeManager;
-    public AnnouncementPlugin(PluginContext pluginContext, SchemeManager schemeManager) {
+    private final AnnouncementWarmStart warmStart;
+    public AnnouncementPlugin(PluginContext pluginContext, SchemeManager schemeManager,
+        AnnouncementWarmStart warmStart) {
         super(pluginContext);
         this.schemeManager = schemeManager;
+        this.warmStart = warmStart;
     }
 
     @Override
     public void start() {
+        // 只为实际参与查询的字段建立索引：正文和纯展示字段不建索引，布尔字段使用布尔类型键
         schemeManager.register(Announcement.class, indexSpecs -> {
-            indexSpecs.add(IndexSpecs.<Announcement, String>single("announcementSpec.title", String.class)
+            indexSpecs.add(IndexSpecs.<Announcement, String>single(AnnouncementIndexes.TITLE, String.class)
                 .indexFunc(item -> Optional.ofNullable(item.getAnnouncementSpec())
                     .map(Announcement.AnnouncementSpec::getTitle)
                     .orElse(null)));
-            indexSpecs.add(IndexSpecs.<Announcement, String>single("announcementSpec.permissions", String.class)
+            indexSpecs.add(IndexSpecs.<Announcement, String>single(AnnouncementIndexes.PERMISSIONS, String.class)
                 .indexFunc(item -> Optional.ofNullable(item.getAnnouncementSpec())
                     .map(Announcement.AnnouncementSpec::getPermissions)
                     .map(Enum::name)
                     .orElse(null)));
-            indexSpecs.add(IndexSpecs.<Announcement, String>single("announcementSpec.content", String.class)
+            indexSpecs.add(IndexSpecs.<Announcement, Boolean>single(AnnouncementIndexes.ENABLE_POPUP, Boolean.class)
                 .indexFunc(item -> Optional.ofNullable(item.getAnnouncementSpec())
-                    .map(Announcement.AnnouncementSpec::getContent)
-                    .orElse(null)));
-            indexSpecs.add(IndexSpecs.<Announcement, String>single("announcementSpec.position", String.class)
-                .indexFunc(item -> Optional.ofNullable(item.getAnnouncementSpec())
-                    .map(Announcement.AnnouncementSpec::getPosition)
-                    .orElse(null)));
-            indexSpecs.add(IndexSpecs.<Announcement, String>single("announcementSpec.autoClose", String.class)
-                .indexFunc(item -> Optional.ofNullable(item.getAnnouncementSpec())
-                    .map(spec -> String.valueOf(spec.getAutoClose()))
-                    .orElse(null)));
-            indexSpecs.add(IndexSpecs.<Announcement, String>single("announcementSpec.closeOnClickOutside", String.class)
-                .indexFunc(item -> Optional.ofNullable(item.getAnnouncementSpec())
-                    .map(spec -> String.valueOf(spec.getCloseOnClickOutside()))
-                    .orElse(null)));
-            indexSpecs.add(IndexSpecs.<Announcement, String>single("announcementSpec.confettiEnable", String.class)
+                    .map(Announcement.AnnouncementSpec::getEnablePopup)
+                    .orElse(false)));
+            indexSpecs.add(IndexSpecs.<Announcement, Boolean>single(AnnouncementIndexes.ENABLE_PINNING, Boolean.class)
                 .indexFunc(item -> Optional.ofNullable(item.getAnnouncementSpec())
-                    .map(spec -> String.valueOf(spec.getConfettiEnable()))
-                    .orElse(null)));
-            indexSpecs.add(IndexSpecs.<Announcement, String>single("announcementSpec.enablePopup", String.class)
+                    .map(Announcement.AnnouncementSpec::getEnablePinning)
+                    .orElse(false)));
+            indexSpecs.add(IndexSpecs.<Announcement, String>single(AnnouncementIndexes.TYPE, String.class)
                 .indexFunc(item -> Optional.ofNullable(item.getAnnouncementSpec())
-                    .map(spec -> String.valueOf(spec.getEnablePopup()))
+                    .map(Announcement.AnnouncementSpec::getType)
                     .orElse(null)));
-            indexSpecs.add(IndexSpecs.<Announcement, String>single("announcementSpec.enablePinning", String.class)
+            indexSpecs.add(IndexSpecs.<Announcement, String>single(AnnouncementIndexes.DEFAULT_ORDER, String.class)
+                .indexFunc(AnnouncementIndexes::defaultOrderKey));
+            indexSpecs.add(IndexSpecs.<Announcement, Boolean>single(AnnouncementIndexes.ACTIVE, Boolean.class)
+                .indexFunc(AnnouncementIndexes::isActive));
+        });
+        schemeManager.register(AnnouncementStats.class);
+        // 归档只建立公开列表翻页需要的索引，不影响在线公告的索引规模
+        schemeManager.register(ArchivedAnnouncement.class, indexSpecs -> {
+            indexSpecs.add(IndexSpecs.<ArchivedAnnouncement, String>single(AnnouncementIndexes.PERMISSIONS, String.class)
                 .indexFunc(item -> Optional.ofNullable(item.getAnnouncementSpec())
-                    .map(spec -> String.valueOf(spec.getEnablePinning()))
+                    .map(Announcement.AnnouncementSpec::getPermissions)
+                    .map(Enum::name)
                     .orElse(null)));
-            indexSpecs.add(IndexSpecs.<Announcement, String>single("announcementSpec.type", String.class)
+            indexSpecs.add(IndexSpecs.<ArchivedAnnouncement, String>single(AnnouncementIndexes.TYPE, String.class)
                 .indexFunc(item -> Optional.ofNullable(item.getAnnouncementSpec())
                     .map(Announcement.AnnouncementSpec::getType)
                     .orElse(null)));
+            indexSpecs.add(IndexSpecs.<ArchivedAnnouncement, Boolean>single(AnnouncementIndexes.ACTIVE, Boolean.class)
+                .indexFunc(item -> item.getStatus() == null || !Boolean.FALSE.equals(item.getStatus().getActive())));
+            indexSpecs.add(IndexSpecs.<ArchivedAnnouncement, String>single(AnnouncementIndexes.ARCHIVE_ORDER, String.class)
+                .indexFunc(AnnouncementIndexes::archiveOrderKey));
         });
+        // 展示时间窗口由公告调谐器维护：控制器启动时会调谐全部公告，重新计算展示状态并按下一个边界重新入队。
+        // 用上次停止时保存的快照预热，并在后台全量加载，避免首个访客承担全量加载
+        warmStart.restore();
     }
 
     @Override
     public void stop() {
+        warmStart.save();
     }
 }
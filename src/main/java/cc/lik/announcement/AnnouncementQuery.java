@@ -6,12 +6,17 @@ import static run.halo.app.extension.index.query.Queries.equal;
 import static run.halo.app.extension.index.query.Queries.or;
 import static run.halo.app.extension.router.QueryParamBuildUtil.sortParameter;
 
+import cc.lik.announcement.extension.Announcement;
+import cc.lik.announcement.view.AnnouncementView;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import java.util.List;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Predicate;
 import org.apache.commons.lang3.StringUtils;
 import org.springdoc.core.fn.builders.operation.Builder;
 import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import run.halo.app.extension.ListOptions;
 import run.halo.app.extension.router.IListRequest;
@@ -65,39 +70,144 @@ public class AnnouncementQuery extends SortableRequest {
         return queryParams.getFirst("announcementSpec.enablePopup");
     }
 
+    /**
+     * 是否使用游标分页，携带 cursor 参数（第一页可为空值）即启用
+     */
+    public boolean isCursorMode() {
+        return queryParams.containsKey("cursor");
+    }
+
+    @Nullable
+    public String getCursor() {
+        return queryParams.getFirst("cursor");
+    }
+
+    /**
+     * 游标分页时是否需要返回总数，默认返回
+     */
+    public boolean isWithTotal() {
+        String withTotal = queryParams.getFirst("withTotal");
+        return withTotal == null || Boolean.parseBoolean(withTotal);
+    }
+
+    /**
+     * 响应的字段视图，默认返回完整公告
+     */
+    public AnnouncementView getView() {
+        return AnnouncementView.parse(queryParams.getFirst("view"));
+    }
+
+    /**
+     * 查询参数的规范化表示，与参数顺序无关，用于合并相同的并发查询。
+     * 不影响查询结果的视图参数不计入，同名参数保留原有顺序（如多个排序条件）。
+     */
+    public String normalizedKey() {
+        var key = new StringBuilder();
+        new TreeMap<>(queryParams).forEach((name, values) -> {
+            if ("view".equals(name) || values == null) {
+                return;
+            }
+            for (var value : values) {
+                if (!key.isEmpty()) {
+                    key.append('\0');
+                }
+                key.append(name).append('=').append(StringUtils.defaultString(value));
+            }
+        });
+        return key.toString();
+    }
+
+    /**
+     * 是否只包含分页和类型筛选，此类查询可以直接由内存快照响应
+     */
+    public boolean isSnapshotServable() {
+        boolean popupRequest = Boolean.TRUE.equals(getPopup());
+        return StringUtils.isAllBlank(getKeyword(), getPermissions(), getEnablePinning())
+            && (popupRequest || StringUtils.isBlank(getEnablePopup()))
+            && CollectionUtils.isEmpty(queryParams.get("labelSelector"))
+            && CollectionUtils.isEmpty(queryParams.get("fieldSelector"));
+    }
+
+    /**
+     * 是否为可由关键词索引响应的搜索请求
+     */
+    public boolean isSearchable() {
+        return StringUtils.isNotBlank(getKeyword())
+            && CollectionUtils.isEmpty(queryParams.get("labelSelector"))
+            && CollectionUtils.isEmpty(queryParams.get("fieldSelector"));
+    }
+
+    /**
+     * 除关键词外的筛选条件，语义与 {@link #toListOptions()} 一致，用于在内存中过滤
+     */
+    public Predicate<Announcement> toPredicate() {
+        Predicate<Announcement> predicate = announcement -> announcement.getAnnouncementSpec() != null;
+
+        var permissions = getPermissions();
+        if (StringUtils.isNotBlank(permissions)) {
+            predicate = predicate.and(a -> a.getAnnouncementSpec().getPermissions() != null
+                && permissions.equals(a.getAnnouncementSpec().getPermissions().name()));
+        }
+
+        boolean popupRequest = Boolean.TRUE.equals(getPopup());
+        if (popupRequest) {
+            predicate = predicate.and(a -> Boolean.TRUE.equals(a.getAnnouncementSpec().getEnablePopup()));
+        }
+
+        var type = getType();
+        if (StringUtils.isNotBlank(type)) {
+            predicate = predicate.and(a -> type.equals(a.getAnnouncementSpec().getType()));
+        }
+
+        var pinning = getEnablePinning();
+        if (StringUtils.isNotBlank(pinning)) {
+            boolean pinned = Boolean.parseBoolean(pinning);
+            predicate = predicate.and(a -> pinned == Boolean.TRUE.equals(a.getAnnouncementSpec().getEnablePinning()));
+        }
+
+        var enablePopup = getEnablePopup();
+        if (!popupRequest && StringUtils.isNotBlank(enablePopup)) {
+            boolean popupEnabled = Boolean.parseBoolean(enablePopup);
+            predicate = predicate.and(a -> popupEnabled == Boolean.TRUE.equals(a.getAnnouncementSpec().getEnablePopup()));
+        }
+        return predicate;
+    }
+
     @Override
     public ListOptions toListOptions() {
         var builder = ListOptions.builder(super.toListOptions());
 
+        // 带标签或字段选择器的搜索无法使用关键词索引，回落为标题和名称的包含匹配
         Optional.ofNullable(getKeyword())
             .filter(StringUtils::isNotBlank)
             .ifPresent(keyword -> builder.andQuery(or(
-                contains("announcementSpec.title", keyword),
-                contains("announcementSpec.enablePopup", keyword),
+                contains(AnnouncementIndexes.TITLE, keyword),
                 contains("metadata.name", keyword)
             )));
 
         Optional.ofNullable(getPermissions())
             .filter(StringUtils::isNotBlank)
-            .ifPresent(per -> builder.andQuery(equal("announcementSpec.permissions", per)));
+            .ifPresent(per -> builder.andQuery(equal(AnnouncementIndexes.PERMISSIONS, per)));
 
         Optional.ofNullable(getPopup())
             .filter(popup -> popup)
-            .ifPresent(popup -> builder.andQuery(equal("announcementSpec.enablePopup", "true")));
+            .ifPresent(popup -> builder.andQuery(equal(AnnouncementIndexes.ENABLE_POPUP, true)));
 
         Optional.ofNullable(getType())
             .filter(StringUtils::isNotBlank)
-            .ifPresent(type -> builder.andQuery(equal("announcementSpec.type", type)));
+            .ifPresent(type -> builder.andQuery(equal(AnnouncementIndexes.TYPE, type)));
 
         Optional.ofNullable(getEnablePinning())
             .filter(StringUtils::isNotBlank)
-            .ifPresent(pinning -> builder.andQuery(equal("announcementSpec.enablePinning", pinning)));
+            .ifPresent(pinning -> builder.andQuery(
+                equal(AnnouncementIndexes.ENABLE_PINNING, Boolean.parseBoolean(pinning))));
 
         // 仅当不是 popup=true 请求时才使用 enablePopup 筛选参数
         if (getPopup() == null || !getPopup()) {
             Optional.ofNullable(getEnablePopup())
                 .filter(StringUtils::isNotBlank)
-                .ifPresent(popup -> builder.andQuery(equal("announcementSpec.enablePopup", popup)));
+                .ifPresent(popup -> builder.andQuery(
+                    equal(AnnouncementIndexes.ENABLE_POPUP, Boolean.parseBoolean(popup))));
         }
 
         return builder.build();
@@ -141,6 +251,25 @@ public class AnnouncementQuery extends SortableRequest {
                 .name("announcementSpec.enablePopup")
                 .description("Filter announcements by popup status.")
                 .implementation(String.class)
+                .required(false))
+            .parameter(parameterBuilder()
+                .in(ParameterIn.QUERY)
+                .name("cursor")
+                .description("Continuation token for keyset pagination, pass an empty value for the first page. "
+                    + "When present the response is a cursor page and the page parameter is ignored.")
+                .implementation(String.class)
+                .required(false))
+            .parameter(parameterBuilder()
+                .in(ParameterIn.QUERY)
+                .name("withTotal")
+                .description("Whether to count the total in cursor mode, defaults to true.")
+                .implementation(Boolean.class)
+                .required(false))
+            .parameter(parameterBuilder()
+                .in(ParameterIn.QUERY)
+                .name("view")
+                .description("Response projection: full (default), summary or popup.")
+                .implementation(String.class)
                 .required(false));
     }
 }
@@ -0,0 +1,46 @@
+package cc.lik.announcement;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import reactor.core.publisher.Mono;
+
+/**
+ * 公开接口的受众划分：登录状态 × 是否为弹窗请求，每种受众对应一组可见权限。
+ *
+ * @author Handsome
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Audience {
+    // 列表请求：登录用户能看到所有（除了 notShown），未登录用户只能看到 everyone 和 nonLoggedInUsers
+    ANONYMOUS_LIST(false, false, List.of("everyone", "nonLoggedInUsers")),
+    LOGGED_IN_LIST(true, false, List.of("everyone", "loggedInUsers", "nonLoggedInUsers")),
+    // 弹窗请求：严格按登录状态过滤，登录用户不弹 nonLoggedInUsers，未登录用户不弹 loggedInUsers
+    ANONYMOUS_POPUP(false, true, List.of("everyone", "nonLoggedInUsers")),
+    LOGGED_IN_POPUP(true, true, List.of("everyone", "loggedInUsers"));
+
+    private final boolean loggedIn;
+    private final boolean popup;
+    private final List<String> permissions;
+
+    /**
+     * 根据当前请求的登录状态解析受众
+     */
+    public static Mono<Audience> current(boolean popup) {
+        return ReactiveSecurityContextHolder.getContext()
+            .map(ctx -> ctx.getAuthentication() != null
+                && ctx.getAuthentication().isAuthenticated()
+                && !"anonymousUser".equals(ctx.getAuthentication().getPrincipal()))
+            .defaultIfEmpty(false)
+            .map(loggedIn -> of(loggedIn, popup));
+    }
+
+    public static Audience of(boolean loggedIn, boolean popup) {
+        if (popup) {
+            return loggedIn ? LOGGED_IN_POPUP : ANONYMOUS_POPUP;
+        }
+        return loggedIn ? LOGGED_IN_LIST : ANONYMOUS_LIST;
+    }
+}
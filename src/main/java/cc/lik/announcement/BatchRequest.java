@@ -0,0 +1,44 @@
+package cc.lik.announcement;
+
+import cc.lik.announcement.extension.Announcement.AnnouncementSpec.ViewPermissions;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * 控制台批量操作的请求，补丁字段为空表示不修改
+ *
+ * @param names 公告名称
+ * @param permissions 新的可见范围
+ * @param enablePinning 是否置顶
+ * @param enablePopup 是否启用弹窗
+ * @author Handsome
+ */
+public record BatchRequest(
+    @Schema(requiredMode = Schema.RequiredMode.REQUIRED) List<String> names,
+    @Nullable ViewPermissions permissions,
+    @Nullable Boolean enablePinning,
+    @Nullable Boolean enablePopup) {
+
+    public static final int MAX_NAMES = 100;
+
+    /**
+     * 校验名称列表，返回去重后的名称
+     */
+    public static List<String> checkNames(@Nullable List<String> names) {
+        if (CollectionUtils.isEmpty(names)) {
+            throw new ServerWebInputException("names must not be empty");
+        }
+        var distinct = names.stream().distinct().toList();
+        if (distinct.size() > MAX_NAMES) {
+            throw new ServerWebInputException("At most " + MAX_NAMES + " names are allowed per batch");
+        }
+        return distinct;
+    }
+
+    public boolean hasPatch() {
+        return permissions != null || enablePinning != null || enablePopup != null;
+    }
+}
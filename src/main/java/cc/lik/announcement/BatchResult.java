@@ -0,0 +1,45 @@
+package cc.lik.announcement;
+
+import cc.lik.announcement.extension.Announcement;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * 批量操作的逐项结果，顺序与请求中的名称一致
+ *
+ * @author Handsome
+ */
+public record BatchResult(List<Item> items) {
+
+    public enum Status {
+        ok,
+        notFound,
+        error
+    }
+
+    /**
+     * @param name 公告名称
+     * @param status 处理结果
+     * @param message 失败原因
+     * @param announcement 获取或修改后的公告，删除时为空
+     */
+    @Schema(name = "BatchResultItem")
+    public record Item(String name,
+                       Status status,
+                       @Schema(description = "失败原因") @Nullable String message,
+                       @Nullable Announcement announcement) {
+
+        public static Item ok(String name, @Nullable Announcement announcement) {
+            return new Item(name, Status.ok, null, announcement);
+        }
+
+        public static Item notFound(String name) {
+            return new Item(name, Status.notFound, null, null);
+        }
+
+        public static Item error(String name, Throwable e) {
+            return new Item(name, Status.error, e.getMessage(), null);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package cc.lik.announcement;
+
+import cc.lik.announcement.extension.Announcement;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * 游标分页结果。
+ * <p>游标是默认排序键（置顶标记、创建时间、名称）的不透明编码，下一页从游标之后继续读取，
+ * 不受前面插入新公告的影响，读取深页时也只需读取一页的数据。</p>
+ *
+ * @param items 当前页公告，或其投影
+ * @param nextCursor 下一页游标，没有更多数据时为空
+ * @param total 符合条件的公告总数，请求不需要总数时为空
+ * @author Handsome
+ */
+public record CursorPage<T>(
+    List<T> items,
+    @Schema(description = "下一页游标，没有更多数据时为空") @Nullable String nextCursor,
+    @Schema(description = "符合条件的公告总数，withTotal=false 时为空") @Nullable Long total) {
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[01]\\d{19}.+");
+
+    /**
+     * 从按默认排序键倒序排列的列表中读取游标之后的一页
+     */
+    public static CursorPage<Announcement> after(List<Announcement> sorted, @Nullable String afterKey, int size,
+        boolean withTotal) {
+        int from = afterKey == null ? 0 : firstAfter(sorted, afterKey);
+        int to = Math.min(from + size, sorted.size());
+        var items = sorted.subList(from, to);
+        String next = to < sorted.size() && !items.isEmpty()
+            ? encode(AnnouncementIndexes.defaultOrderKey(items.get(items.size() - 1)))
+            : null;
+        return new CursorPage<>(items, next, withTotal ? (long) sorted.size() : null);
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(items.stream().<R>map(mapper).toList(), nextCursor, total);
+    }
+
+    public static String encode(String key) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解析游标，空字符串表示第一页
+     */
+    @Nullable
+    public static String decode(@Nullable String cursor) {
+        if (StringUtils.isBlank(cursor)) {
+            return null;
+        }
+        try {
+            var key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (KEY_PATTERN.matcher(key).matches()) {
+                return key;
+            }
+        } catch (IllegalArgumentException e) {
+            // 统一按无效游标处理
+        }
+        throw new ServerWebInputException("Invalid cursor: " + cursor);
+    }
+
+    // 列表按排序键倒序排列，二分查找第一个键小于游标的位置
+    private static int firstAfter(List<Announcement> sorted, String afterKey) {
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (AnnouncementIndexes.defaultOrderKey(sorted.get(mid)).compareTo(afterKey) >= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
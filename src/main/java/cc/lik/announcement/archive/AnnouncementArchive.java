@@ -0,0 +1,391 @@
+package cc.lik.announcement.archive;
+
+import cc.lik.announcement.AnnouncementIndexes;
+import cc.lik.announcement.Audience;
+import cc.lik.announcement.BatchRequest;
+import cc.lik.announcement.BatchResult;
+import cc.lik.announcement.cache.AnnouncementSnapshot;
+import cc.lik.announcement.cache.AnnouncementSnapshot.Views;
+import cc.lik.announcement.extension.Announcement;
+import cc.lik.announcement.extension.ArchivedAnnouncement;
+import cc.lik.announcement.metrics.AnnouncementMetrics;
+import cc.lik.announcement.schedule.PublishWindow;
+import cc.lik.announcement.setting.BasicSetting;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import run.halo.app.extension.ListOptions;
+import run.halo.app.extension.ListResult;
+import run.halo.app.extension.Metadata;
+import run.halo.app.extension.PageRequestImpl;
+import run.halo.app.extension.ReactiveExtensionClient;
+import run.halo.app.extension.index.query.Queries;
+import run.halo.app.plugin.ReactiveSettingFetcher;
+
+/**
+ * 公告归档。
+ * <p>符合归档策略的公告会被移动为 {@link ArchivedAnnouncement}，从公告快照、弹窗匹配、搜索索引和公告索引中消失，
+ * 热路径只处理在线公告。公开列表翻过全部在线公告后，后续页面由归档按原创建时间倒序补齐。</p>
+ * <p>归档策略：创建超过设定天数，或已过展示结束时间；置顶公告和仍有未到达展示边界的公告不会自动归档。
+ * 恢复后的公告由 Halo 重新设置创建时间。</p>
+ *
+ * @author Handsome
+ */
+@Slf4j
+@Component
+public class AnnouncementArchive implements InitializingBean, DisposableBean {
+
+    static final Duration SWEEP_INTERVAL = Duration.ofHours(1);
+    // 启动后稍等片刻，避免与快照加载和调谐器的全量调谐同时进行
+    static final Duration SWEEP_DELAY = Duration.ofMinutes(5);
+    private static final int CONCURRENCY = 4;
+
+    static final String REASON_AGE = "age";
+    static final String REASON_EXPIRED = "expired";
+    public static final String REASON_MANUAL = "manual";
+
+    private final ReactiveExtensionClient client;
+    private final AnnouncementSnapshot snapshot;
+    private final ReactiveSettingFetcher settingFetcher;
+    private final AnnouncementMetrics metrics;
+    // 各受众、类型下的归档数量，归档内容变化时整体失效；只缓存存在归档的类型
+    private final Map<String, Mono<Long>> counts = new ConcurrentHashMap<>();
+    private final AtomicLong countsGeneration = new AtomicLong();
+    private Disposable sweeping;
+
+    public AnnouncementArchive(ReactiveExtensionClient client, AnnouncementSnapshot snapshot,
+        ReactiveSettingFetcher settingFetcher, AnnouncementMetrics metrics) {
+        this.client = client;
+        this.snapshot = snapshot;
+        this.settingFetcher = settingFetcher;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 公开列表的一页：先取在线公告，翻过在线公告后由归档补齐，总数包含受众可见的归档数量。
+     * 读取归档失败时以 {@link ArchiveUnavailableException} 结束，其中带有只含在线公告的一页，
+     * 由调用方决定如何降级；这一页不完整，不能被缓存
+     *
+     * @param live 受众可见的在线公告，已按默认排序
+     */
+    public Mono<ListResult<Announcement>> page(List<Announcement> live, Audience audience, @Nullable String type,
+        int page, int size) {
+        if (size <= 0 || audience.isPopup()) {
+            return Mono.just(Views.slice(live, page, size));
+        }
+        int pageNumber = Math.max(page, 1);
+        long from = (long) (pageNumber - 1) * size;
+        Mono<ListResult<Announcement>> result;
+        if (from + size <= live.size()) {
+            // 在线公告足够填满本页时只需要归档数量
+            var items = live.subList((int) from, (int) from + size);
+            result = count(audience, type)
+                .map(archived -> new ListResult<>(pageNumber, size, live.size() + archived, items));
+        } else {
+            result = withArchived(live, audience, type, pageNumber, size, from);
+        }
+        return result.onErrorMap(e -> {
+            log.warn("Failed to read archived announcements, serve live announcements only", e);
+            return new ArchiveUnavailableException(Views.slice(live, pageNumber, size), e);
+        });
+    }
+
+    private Mono<ListResult<Announcement>> withArchived(List<Announcement> live, Audience audience,
+        @Nullable String type, int pageNumber, int size, long from) {
+        return count(audience, type).flatMap(archived -> {
+            long total = live.size() + archived;
+            var head = from < live.size() ? live.subList((int) from, live.size()) : List.<Announcement>of();
+            long start = Math.max(0, from - live.size());
+            if (archived == 0 || start >= archived) {
+                return Mono.just(new ListResult<>(pageNumber, size, total, head));
+            }
+            return range(audience, type, start, size - head.size())
+                .map(tail -> {
+                    var items = new ArrayList<Announcement>(head.size() + tail.size());
+                    items.addAll(head);
+                    items.addAll(tail);
+                    return new ListResult<>(pageNumber, size, total, items);
+                });
+        });
+    }
+
+    /**
+     * 控制台的归档列表，按原创建时间倒序，包含归档时间和原因
+     */
+    public Mono<ListResult<ArchivedAnnouncement>> listArchived(int page, int size) {
+        return client.listBy(ArchivedAnnouncement.class, ListOptions.builder().build(),
+                PageRequestImpl.of(page, size, order()))
+            .doOnSubscribe(subscription -> metrics.storeRoundTrip("archive.list"));
+    }
+
+    /**
+     * 按归档策略归档一轮公告，返回归档数量
+     */
+    public Mono<Long> sweep() {
+        var now = Instant.now();
+        return settingFetcher.fetch(BasicSetting.GROUP, BasicSetting.class)
+            .filter(setting -> setting.getArchiveAfterDays() > 0 || setting.isArchiveExpired())
+            .flatMap(setting -> snapshot.views().map(views -> views.all().stream()
+                .map(announcement -> new Candidate(announcement.getMetadata().getName(),
+                    reason(announcement, setting, now)))
+                .filter(candidate -> candidate.reason() != null)
+                .toList()))
+            .flatMapMany(Flux::fromIterable)
+            .flatMap(candidate -> move(candidate.name(), candidate.reason())
+                .onErrorResume(e -> {
+                    log.warn("Failed to archive announcement [{}], will retry on next sweep", candidate.name(), e);
+                    return Mono.empty();
+                }), CONCURRENCY)
+            .collectList()
+            .doOnNext(this::removeFromSnapshot)
+            .map(archived -> (long) archived.size())
+            .defaultIfEmpty(0L);
+    }
+
+    /**
+     * 手动归档，不受归档策略限制
+     */
+    public Mono<BatchResult> archive(List<String> names) {
+        return Flux.fromIterable(BatchRequest.checkNames(names))
+            .flatMapSequential(name -> move(name, REASON_MANUAL)
+                .map(archived -> BatchResult.Item.ok(name, null))
+                .defaultIfEmpty(BatchResult.Item.notFound(name))
+                .onErrorResume(e -> Mono.just(BatchResult.Item.error(name, e))), CONCURRENCY)
+            .collectList()
+            .doOnNext(items -> removeFromSnapshot(items.stream()
+                .filter(item -> item.status() == BatchResult.Status.ok)
+                .map(BatchResult.Item::name)
+                .toList()))
+            .map(BatchResult::new);
+    }
+
+    /**
+     * 将归档公告恢复为在线公告，同名的在线公告已存在时该项失败
+     */
+    public Mono<BatchResult> restore(List<String> names) {
+        return Flux.fromIterable(BatchRequest.checkNames(names))
+            .flatMapSequential(name -> client.fetch(ArchivedAnnouncement.class, name)
+                .flatMap(archived -> client.create(toAnnouncement(archived))
+                    .flatMap(created -> client.delete(archived)
+                        .doOnNext(deleted -> invalidateCounts())
+                        .thenReturn(created)))
+                .doOnSubscribe(subscription -> metrics.storeRoundTrip("restore"))
+                .map(created -> BatchResult.Item.ok(name, created))
+                .defaultIfEmpty(BatchResult.Item.notFound(name))
+                .onErrorResume(e -> Mono.just(BatchResult.Item.error(name, e))), CONCURRENCY)
+            .collectList()
+            .doOnNext(items -> snapshot.applyAll(items.stream()
+                .map(BatchResult.Item::announcement)
+                .filter(Objects::nonNull)
+                .toList(), List.of()))
+            .map(BatchResult::new);
+    }
+
+    /**
+     * 自动归档的原因，不满足策略时为空
+     */
+    @Nullable
+    static String reason(Announcement announcement, BasicSetting setting, Instant now) {
+        var spec = announcement.getAnnouncementSpec();
+        if (spec == null || Boolean.TRUE.equals(spec.getEnablePinning())
+            || announcement.getMetadata().getDeletionTimestamp() != null
+            || PublishWindow.nextBoundary(spec, now).isPresent()) {
+            return null;
+        }
+        if (setting.isArchiveExpired() && spec.getEndAt() != null && !spec.getEndAt().isAfter(now)) {
+            return REASON_EXPIRED;
+        }
+        var createdAt = announcement.getMetadata().getCreationTimestamp();
+        if (setting.getArchiveAfterDays() > 0 && createdAt != null
+            && createdAt.isBefore(now.minus(Duration.ofDays(setting.getArchiveAfterDays())))) {
+            return REASON_AGE;
+        }
+        return null;
+    }
+
+    // 先写入归档再删除公告，中途失败时最多短暂地同时存在两份，不会丢失公告
+    private Mono<String> move(String name, String reason) {
+        return client.fetch(Announcement.class, name)
+            .filter(announcement -> announcement.getMetadata().getDeletionTimestamp() == null)
+            .flatMap(announcement -> client.create(toArchived(announcement, reason))
+                .doOnNext(archived -> invalidateCounts())
+                .then(client.delete(announcement))
+                .thenReturn(name))
+            .doOnSubscribe(subscription -> metrics.storeRoundTrip("archive"));
+    }
+
+    private void removeFromSnapshot(List<String> names) {
+        if (!names.isEmpty()) {
+            snapshot.applyAll(List.of(), names);
+            log.info("Archived {} announcements", names.size());
+        }
+    }
+
+    /**
+     * 归档内容在本类之外变化（如导入）时调用，使归档数量和由归档补齐的公开列表一并失效
+     */
+    public void archivedChanged() {
+        invalidateCounts();
+        snapshot.touch();
+    }
+
+    private void invalidateCounts() {
+        countsGeneration.incrementAndGet();
+        counts.clear();
+    }
+
+    /**
+     * 受众可见的归档数量，读取失败时不缓存，下一次请求重新读取
+     */
+    private Mono<Long> count(Audience audience, @Nullable String type) {
+        var key = audience.name() + ':' + StringUtils.defaultString(type);
+        var cached = counts.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = countsGeneration.get();
+        var loading = client.listBy(ArchivedAnnouncement.class, options(audience, type),
+                PageRequestImpl.of(1, 1, order()))
+            .doOnSubscribe(subscription -> metrics.storeRoundTrip("archive.count"))
+            .map(ListResult::getTotal)
+            .defaultIfEmpty(0L)
+            .cache(loaded -> Duration.ofMillis(Long.MAX_VALUE), e -> Duration.ZERO, () -> Duration.ZERO);
+        return loading
+            .doOnNext(total -> {
+                // 类型来自访客的查询参数，只缓存真实存在的类型，避免任意参数撑大缓存；
+                // 加载期间归档内容发生变化时结果可能已过期，不缓存
+                if ((StringUtils.isBlank(type) || total > 0) && countsGeneration.get() == generation) {
+                    counts.putIfAbsent(key, loading);
+                }
+            });
+    }
+
+    /**
+     * 按偏移量读取归档，偏移量不是页大小的整数倍时读取相邻两页再截取
+     */
+    private Mono<List<Announcement>> range(Audience audience, @Nullable String type, long start, int count) {
+        int pageNumber = (int) (start / count) + 1;
+        int offset = (int) (start % count);
+        var first = list(audience, type, pageNumber, count);
+        if (offset == 0) {
+            return first;
+        }
+        return Mono.zip(first, list(audience, type, pageNumber + 1, count), (a, b) -> {
+            var items = new ArrayList<Announcement>(a.size() + b.size());
+            items.addAll(a);
+            items.addAll(b);
+            return List.copyOf(items.subList(Math.min(offset, items.size()),
+                Math.min(offset + count, items.size())));
+        });
+    }
+
+    private Mono<List<Announcement>> list(Audience audience, @Nullable String type, int page, int size) {
+        return client.listBy(ArchivedAnnouncement.class, options(audience, type), PageRequestImpl.of(page, size, order()))
+            .doOnSubscribe(subscription -> metrics.storeRoundTrip("archive.list"))
+            .map(result -> result.getItems().stream()
+                .map(AnnouncementArchive::toAnnouncement)
+                .toList());
+    }
+
+    private static ListOptions options(Audience audience, @Nullable String type) {
+        var builder = ListOptions.builder();
+        audience.getPermissions().stream()
+            .map(permission -> Queries.equal(AnnouncementIndexes.PERMISSIONS, permission))
+            .reduce(Queries::or)
+            .ifPresent(builder::andQuery);
+        builder.andQuery(Queries.equal(AnnouncementIndexes.ACTIVE, true));
+        if (StringUtils.isNotBlank(type)) {
+            builder.andQuery(Queries.equal(AnnouncementIndexes.TYPE, type));
+        }
+        return builder.build();
+    }
+
+    private static Sort order() {
+        return Sort.by(Sort.Order.desc(AnnouncementIndexes.ARCHIVE_ORDER));
+    }
+
+    static ArchivedAnnouncement toArchived(Announcement announcement, String reason) {
+        var archived = new ArchivedAnnouncement();
+        var metadata = new Metadata();
+        metadata.setName(announcement.getMetadata().getName());
+        metadata.setLabels(announcement.getMetadata().getLabels());
+        metadata.setAnnotations(announcement.getMetadata().getAnnotations());
+        archived.setMetadata(metadata);
+        archived.setAnnouncementSpec(announcement.getAnnouncementSpec());
+        archived.setStatus(announcement.getStatus());
+        archived.getArchive().setOriginalCreationTimestamp(announcement.getMetadata().getCreationTimestamp());
+        archived.getArchive().setArchivedAt(Instant.now());
+        archived.getArchive().setReason(reason);
+        return archived;
+    }
+
+    static Announcement toAnnouncement(ArchivedAnnouncement archived) {
+        var announcement = new Announcement();
+        var metadata = new Metadata();
+        metadata.setName(archived.getMetadata().getName());
+        metadata.setLabels(archived.getMetadata().getLabels());
+        metadata.setAnnotations(archived.getMetadata().getAnnotations());
+        // 公开列表按原创建时间展示；创建新公告时 Halo 会重新设置该字段
+        metadata.setCreationTimestamp(archived.getArchive() == null
+            ? archived.getMetadata().getCreationTimestamp()
+            : archived.getArchive().getOriginalCreationTimestamp());
+        announcement.setMetadata(metadata);
+        announcement.setAnnouncementSpec(archived.getAnnouncementSpec());
+        announcement.setStatus(archived.getStatus());
+        return announcement;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        sweeping = Flux.interval(SWEEP_DELAY, SWEEP_INTERVAL)
+            .onBackpressureDrop()
+            .concatMap(tick -> sweep()
+                .onErrorResume(e -> {
+                    log.warn("Failed to sweep announcements for archiving", e);
+                    return Mono.empty();
+                }))
+            .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (sweeping != null) {
+            sweeping.dispose();
+        }
+    }
+
+    private record Candidate(String name, @Nullable String reason) {
+    }
+
+    /**
+     * 读取归档失败，携带只含在线公告的一页供调用方降级返回
+     */
+    public static class ArchiveUnavailableException extends RuntimeException {
+
+        private final ListResult<Announcement> fallback;
+
+        ArchiveUnavailableException(ListResult<Announcement> fallback, Throwable cause) {
+            super("Archived announcements are unavailable", cause);
+            this.fallback = fallback;
+        }
+
+        public ListResult<Announcement> getFallback() {
+            return fallback;
+        }
+    }
+}
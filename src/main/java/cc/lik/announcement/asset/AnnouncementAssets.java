@@ -0,0 +1,232 @@
+package cc.lik.announcement.asset;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import run.halo.app.infra.utils.JsonUtils;
+
+/**
+ * 前台脚本和样式的预压缩、内容哈希版本。
+ * <p>构建时在 {@code static/} 下生成带内容哈希的文件及其 gzip、brotli 版本，并写出
+ * {@code asset-manifest.json}；启动时一次性读入内存，按 {@code Accept-Encoding} 选择最小的版本输出。
+ * 文件名随内容变化，可以永久缓存，重复访问无需再验证。</p>
+ * <p>插件构建会校验清单和预压缩版本齐全。没有清单时（如开发模式下未构建前端）在启动时计算内容哈希
+ * 并在内存中生成 gzip 版本，JDK 没有 brotli 编码器，此时不提供 brotli，并记录警告。</p>
+ *
+ * @author Handsome
+ */
+@Slf4j
+@Component
+public class AnnouncementAssets {
+
+    public static final String SCRIPT = "announcement.umd.cjs";
+    public static final String STYLESHEET = "announcement.css";
+    public static final String BASE_PATH = "/apis/public.announcement.lik.cc/v1alpha1/assets/";
+
+    static final String STATIC_DIR = "static/";
+    static final String MANIFEST = STATIC_DIR + "asset-manifest.json";
+
+    private final Map<String, Asset> byName = new HashMap<>();
+    private final Map<String, Asset> byHashedName = new HashMap<>();
+
+    public AnnouncementAssets() {
+        var manifest = readManifest();
+        for (String name : List.of(SCRIPT, STYLESHEET)) {
+            try {
+                load(name, manifest.get(name)).ifPresent(asset -> {
+                    byName.put(name, asset);
+                    byHashedName.put(asset.hashedName(), asset);
+                });
+            } catch (IOException e) {
+                log.warn("Failed to load front-end asset [{}], fallback to static url", name, e);
+            }
+        }
+    }
+
+    /**
+     * 页面引用的地址，资源未能加载时退回 Halo 提供的静态地址
+     */
+    public String url(String name, String version) {
+        var asset = byName.get(name);
+        if (asset == null) {
+            return "/plugins/announcement/assets/static/" + name + "?version=" + version;
+        }
+        return BASE_PATH + asset.hashedName();
+    }
+
+    /**
+     * 按带哈希的文件名查找资源
+     */
+    public Optional<Asset> byHashedName(String hashedName) {
+        return Optional.ofNullable(byHashedName.get(hashedName));
+    }
+
+    /**
+     * 按原文件名查找当前版本的资源，供引用了旧哈希的页面使用
+     */
+    public Optional<Asset> byName(String name) {
+        return Optional.ofNullable(byName.get(name));
+    }
+
+    private static Map<String, String> readManifest() {
+        var resource = new ClassPathResource(MANIFEST, AnnouncementAssets.class.getClassLoader());
+        if (!resource.exists()) {
+            return Map.of();
+        }
+        try (var in = resource.getInputStream()) {
+            return JsonUtils.mapper().readValue(in, new TypeReference<Map<String, String>>() {
+            });
+        } catch (IOException e) {
+            log.warn("Ignore unreadable asset manifest", e);
+            return Map.of();
+        }
+    }
+
+    private static Optional<Asset> load(String name, @Nullable String manifestName) throws IOException {
+        var plain = read(STATIC_DIR + name);
+        if (plain == null) {
+            return Optional.empty();
+        }
+        var variants = new EnumMap<Encoding, byte[]>(Encoding.class);
+        byte[] hashed = StringUtils.isBlank(manifestName) ? null : read(STATIC_DIR + manifestName);
+        String hashedName;
+        if (hashed != null) {
+            hashedName = manifestName;
+            variants.put(Encoding.IDENTITY, hashed);
+            putIfPresent(variants, Encoding.GZIP, read(STATIC_DIR + manifestName + ".gz"));
+            putIfPresent(variants, Encoding.BR, read(STATIC_DIR + manifestName + ".br"));
+        } else {
+            log.warn("No precompressed build of front-end asset [{}], serving in-memory gzip only", name);
+            hashedName = hashedName(name, plain);
+            variants.put(Encoding.IDENTITY, plain);
+        }
+        if (!variants.containsKey(Encoding.GZIP)) {
+            variants.put(Encoding.GZIP, gzip(variants.get(Encoding.IDENTITY)));
+        }
+        var asset = new Asset(hashedName, mediaType(name), variants);
+        log.debug("Loaded front-end asset [{}] as [{}] with encodings {}", name, hashedName, variants.keySet());
+        return Optional.of(asset);
+    }
+
+    private static void putIfPresent(Map<Encoding, byte[]> variants, Encoding encoding, @Nullable byte[] bytes) {
+        if (bytes != null) {
+            variants.put(encoding, bytes);
+        }
+    }
+
+    @Nullable
+    private static byte[] read(String path) throws IOException {
+        var resource = new ClassPathResource(path, AnnouncementAssets.class.getClassLoader());
+        if (!resource.exists()) {
+            return null;
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * 在文件名的第一个点之前插入内容哈希，与前端构建的命名保持一致
+     */
+    static String hashedName(String name, byte[] content) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(content);
+            var hash = HexFormat.of().formatHex(digest).substring(0, 10);
+            int dot = name.indexOf('.');
+            return name.substring(0, dot) + '.' + hash + name.substring(dot);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        var out = new ByteArrayOutputStream(content.length / 2);
+        try (var gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static MediaType mediaType(String name) {
+        return name.endsWith(".css")
+            ? MediaType.parseMediaType("text/css;charset=UTF-8")
+            : MediaType.parseMediaType("text/javascript;charset=UTF-8");
+    }
+
+    /**
+     * 内容编码，声明顺序即优先顺序
+     */
+    public enum Encoding {
+        BR("br"),
+        GZIP("gzip"),
+        IDENTITY("identity");
+
+        private final String token;
+
+        Encoding(String token) {
+            this.token = token;
+        }
+
+        public String token() {
+            return token;
+        }
+    }
+
+    /**
+     * 一个资源的全部编码版本
+     */
+    public record Asset(String hashedName, MediaType mediaType, Map<Encoding, byte[]> variants) {
+
+        /**
+         * 按 Accept-Encoding 选择可用且客户端接受的最优编码，q=0 视为拒绝
+         */
+        public Encoding negotiate(@Nullable String acceptEncoding) {
+            if (StringUtils.isBlank(acceptEncoding)) {
+                return Encoding.IDENTITY;
+            }
+            var accepted = new HashMap<String, Boolean>();
+            for (String part : acceptEncoding.split(",")) {
+                var pieces = part.trim().split(";");
+                var coding = pieces[0].trim().toLowerCase();
+                boolean allowed = true;
+                for (int i = 1; i < pieces.length; i++) {
+                    var param = pieces[i].trim();
+                    if (param.startsWith("q=")) {
+                        allowed = !param.substring(2).trim().matches("0(\\.0{0,3})?");
+                    }
+                }
+                accepted.put(coding, allowed);
+            }
+            for (Encoding encoding : Encoding.values()) {
+                if (encoding == Encoding.IDENTITY || !variants.containsKey(encoding)) {
+                    continue;
+                }
+                var allowed = accepted.getOrDefault(encoding.token(), accepted.get("*"));
+                if (Boolean.TRUE.equals(allowed)) {
+                    return encoding;
+                }
+            }
+            return Encoding.IDENTITY;
+        }
+
+        public byte[] bytes(Encoding encoding) {
+            return variants.get(encoding);
+        }
+    }
+}
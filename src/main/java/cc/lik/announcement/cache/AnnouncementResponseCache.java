@@ -0,0 +1,95 @@
+package cc.lik.announcement.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import run.halo.app.infra.utils.JsonUtils;
+
+/**
+ * 公开接口的响应体缓存。
+ * <p>缓存已编码的 JSON 字节，按快照代数整体失效，按最近最少使用淘汰并限制总字节数。
+ * 命中时直接把只读缓冲区写到响应，不再经过 Jackson；未命中时同一代数下相同 key 的并发加载只执行一次。</p>
+ *
+ * @author Handsome
+ */
+@Component
+@RequiredArgsConstructor
+public class AnnouncementResponseCache {
+
+    static final long MAX_TOTAL_BYTES = 16 * 1024 * 1024;
+    // 单个响应过大时缓存收益有限，反而会挤掉大量小响应
+    static final int MAX_ENTRY_BYTES = 1024 * 1024;
+
+    private final AnnouncementSnapshot snapshot;
+    private final SingleFlight singleFlight;
+
+    private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long generation = -1;
+    private long totalBytes;
+
+    /**
+     * 获取缓存的响应体，未命中时调用 loader 生成并编码
+     *
+     * @param key 查询的规范化标识，需包含受众、类型、分页等全部影响结果的参数
+     */
+    public Mono<byte[]> get(String key, Supplier<Mono<?>> loader) {
+        // 加载前记录代数，加载期间发生变更时结果会在下一次访问时被丢弃
+        long current = snapshot.getGeneration();
+        var cached = lookup(key, current);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        // 代数加入合并的 key，变更之后到达的请求不会拿到变更前的加载结果
+        return singleFlight.execute("response|" + current + '|' + key, () -> loader.get()
+            .map(AnnouncementResponseCache::encode)
+            .doOnNext(bytes -> store(key, current, bytes)));
+    }
+
+    /**
+     * 将缓存的字节包装为只读缓冲区，避免复制
+     */
+    public static Mono<DataBuffer> asDataBuffer(byte[] bytes) {
+        return Mono.fromSupplier(() -> DefaultDataBufferFactory.sharedInstance
+            .wrap(ByteBuffer.wrap(bytes).asReadOnlyBuffer()));
+    }
+
+    private synchronized byte[] lookup(String key, long current) {
+        if (current > generation) {
+            entries.clear();
+            totalBytes = 0;
+            generation = current;
+            return null;
+        }
+        // 变更前发起的请求仍在进行时，不能让它们清空新代数的缓存
+        return current == generation ? entries.get(key) : null;
+    }
+
+    private synchronized void store(String key, long loadedGeneration, byte[] bytes) {
+        if (loadedGeneration != generation || bytes.length > MAX_ENTRY_BYTES) {
+            return;
+        }
+        var previous = entries.put(key, bytes);
+        totalBytes += bytes.length - (previous == null ? 0 : previous.length);
+        Iterator<Map.Entry<String, byte[]>> eldest = entries.entrySet().iterator();
+        while (totalBytes > MAX_TOTAL_BYTES && eldest.hasNext()) {
+            totalBytes -= eldest.next().getValue().length;
+            eldest.remove();
+        }
+    }
+
+    private static byte[] encode(Object value) {
+        try {
+            return JsonUtils.mapper().writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode announcement response", e);
+        }
+    }
+}
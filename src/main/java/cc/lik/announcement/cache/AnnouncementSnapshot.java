@@ -0,0 +1,479 @@
+package cc.lik.announcement.cache;
+
+import cc.lik.announcement.AnnouncementIndexes;
+import cc.lik.announcement.Audience;
+import cc.lik.announcement.event.AnnouncementChangedEvent;
+import cc.lik.announcement.extension.Announcement;
+import cc.lik.announcement.popup.UrlPatternMatcher;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import run.halo.app.extension.ListOptions;
+import run.halo.app.extension.ListResult;
+import run.halo.app.extension.ReactiveExtensionClient;
+
+/**
+ * 公开公告的内存快照。
+ * <p>按受众（匿名列表、登录列表、匿名弹窗、登录弹窗）维护预排序的不可变列表，
+ * 首次访问时从存储全量加载，之后由 {@code AnnouncementReconciler} 根据变更增量更新。
+ * 变更只记录公告名称，下一次读取时在上一版视图的有序列表中按默认排序二分查找，移除旧版本、插入新版本，
+ * 不再整体排序；只有全量加载和预热后才完整重建。</p>
+ * <p>每次变更都会按顺序发布 {@link AnnouncementChangedEvent}，首次加载的公告同样以新增事件发布，
+ * 监听者据此即可维护完整的派生状态。</p>
+ * <p>插件重启时可先用上次停止时保存的公告预热（{@link #warmStart}），快照立即可读；
+ * 随后的全量加载按资源版本校正差异，并移除停止期间已删除的公告；加载完成前发生的删除会被记录，
+ * 不会被加载结果恢复。</p>
+ *
+ * @author Handsome
+ */
+@Slf4j
+@Component
+public class AnnouncementSnapshot {
+
+    // 默认排序：置顶优先，然后按创建时间倒序，与存储中的默认排序键索引保持一致；
+    // 直接比较各字段，避免每次比较都拼接排序键
+    public static final Comparator<Announcement> DEFAULT_ORDER = Comparator
+        .comparing(AnnouncementIndexes::isPinned)
+        .thenComparingLong(AnnouncementIndexes::createdAtMillis)
+        .thenComparing(announcement -> announcement.getMetadata().getName())
+        .reversed();
+
+    private final ContentVersion contentVersion;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Mono<Boolean> seeding;
+
+    private final Map<String, Announcement> items = new HashMap<>();
+    // 全量加载完成前删除的公告，加载结果可能仍包含它们
+    private final Set<String> removedBeforeSeed = new HashSet<>();
+    // 预热的公告中尚未被全量加载或增量变更确认的部分
+    private final Set<String> provisional = new HashSet<>();
+    // 当前视图生成之后发生变化的公告，下一次读取时增量应用
+    private final Set<String> pending = new HashSet<>();
+    // 快照可读：已预热或已完成全量加载
+    private volatile boolean seeded;
+    // 已完成全量加载；预热后到加载完成前仍需记录删除
+    private volatile boolean loaded;
+    private volatile long generation;
+    private volatile Views views;
+
+    public AnnouncementSnapshot(ReactiveExtensionClient client, ContentVersion contentVersion,
+        ApplicationEventPublisher eventPublisher) {
+        this.contentVersion = contentVersion;
+        this.eventPublisher = eventPublisher;
+        this.seeding = Mono.defer(() -> client.listAll(Announcement.class, new ListOptions(), Sort.unsorted())
+                .collectList())
+            .doOnNext(this::seed)
+            .thenReturn(true)
+            .doOnError(e -> log.warn("Failed to load announcement snapshot, will retry on next access", e))
+            .cache(loaded -> Duration.ofMillis(Long.MAX_VALUE), e -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    /**
+     * 获取当前视图，首次调用时会触发全量加载
+     */
+    public Mono<Views> views() {
+        if (seeded) {
+            return Mono.fromSupplier(this::currentViews);
+        }
+        return seeding.then(Mono.fromSupplier(this::currentViews));
+    }
+
+    /**
+     * 从存储全量加载，预热过的快照据此校正，失败后可再次调用重试
+     */
+    public Mono<Void> load() {
+        return seeding.then();
+    }
+
+    /**
+     * 用持久化的公告预热快照，只在快照为空时生效
+     *
+     * @return 是否已预热
+     */
+    public synchronized boolean warmStart(List<Announcement> announcements) {
+        if (seeded || !items.isEmpty()) {
+            return false;
+        }
+        for (Announcement announcement : announcements) {
+            var name = announcement.getMetadata().getName();
+            items.put(name, announcement);
+            provisional.add(name);
+            eventPublisher.publishEvent(new AnnouncementChangedEvent(this, null, announcement, true));
+        }
+        seeded = true;
+        rebuildViews();
+        generation++;
+        contentVersion.bump();
+        log.debug("Warmed snapshot with {} persisted announcements", items.size());
+        return true;
+    }
+
+    /**
+     * 不触发加载，仅在快照就绪时返回当前视图，供不能等待存储的调用方使用
+     */
+    public Optional<Views> viewsIfReady() {
+        return seeded ? Optional.of(currentViews()) : Optional.empty();
+    }
+
+    /**
+     * 新增或更新公告，旧版本的变更会被忽略
+     */
+    public synchronized void upsert(Announcement announcement) {
+        var name = announcement.getMetadata().getName();
+        removedBeforeSeed.remove(name);
+        provisional.remove(name);
+        var previous = items.get(name);
+        if (previous != null && !isNewer(announcement, previous)) {
+            return;
+        }
+        items.put(name, announcement);
+        pending.add(name);
+        changed(previous, announcement);
+    }
+
+    /**
+     * 批量应用变更，每条变更仍单独发布事件，但快照代数和内容版本只递增一次，
+     * 依赖它们的缓存在整批变更后失效一次
+     *
+     * @param upserts 新增或更新的公告
+     * @param removals 删除的公告名称
+     */
+    public synchronized void applyAll(Collection<Announcement> upserts, Collection<String> removals) {
+        boolean changed = false;
+        for (Announcement announcement : upserts) {
+            var name = announcement.getMetadata().getName();
+            removedBeforeSeed.remove(name);
+            provisional.remove(name);
+            var previous = items.get(name);
+            if (previous == null || isNewer(announcement, previous)) {
+                items.put(name, announcement);
+                pending.add(name);
+                eventPublisher.publishEvent(new AnnouncementChangedEvent(this, previous, announcement, false));
+                changed = true;
+            }
+        }
+        for (String name : removals) {
+            if (!loaded) {
+                removedBeforeSeed.add(name);
+            }
+            provisional.remove(name);
+            var previous = items.remove(name);
+            if (previous != null) {
+                pending.add(name);
+                eventPublisher.publishEvent(new AnnouncementChangedEvent(this, previous, null, false));
+                changed = true;
+            }
+        }
+        if (changed) {
+            generation++;
+            contentVersion.bump();
+        }
+    }
+
+    public synchronized void remove(String name) {
+        if (!loaded) {
+            removedBeforeSeed.add(name);
+        }
+        provisional.remove(name);
+        var previous = items.remove(name);
+        if (previous != null) {
+            pending.add(name);
+            changed(previous, null);
+        }
+    }
+
+    /**
+     * 快照之外的公开内容（如导入的归档公告）发生变化时调用，快照本身不变，
+     * 但依赖快照代数的响应缓存和依赖内容版本的 ETag 随之失效
+     */
+    public synchronized void touch() {
+        generation++;
+        contentVersion.bump();
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    private synchronized void seed(List<Announcement> announcements) {
+        for (Announcement announcement : announcements) {
+            var name = announcement.getMetadata().getName();
+            if (removedBeforeSeed.contains(name)) {
+                continue;
+            }
+            provisional.remove(name);
+            var previous = items.get(name);
+            if (previous == null || isNewer(announcement, previous)) {
+                items.put(name, announcement);
+                eventPublisher.publishEvent(new AnnouncementChangedEvent(this, previous, announcement, true));
+            }
+        }
+        // 预热的公告在存储中已不存在，说明是插件停止期间删除的
+        for (String name : provisional) {
+            var previous = items.remove(name);
+            if (previous != null) {
+                eventPublisher.publishEvent(new AnnouncementChangedEvent(this, previous, null, false));
+            }
+        }
+        provisional.clear();
+        removedBeforeSeed.clear();
+        loaded = true;
+        seeded = true;
+        rebuildViews();
+        generation++;
+        contentVersion.bump();
+        log.debug("Loaded {} announcements into snapshot", items.size());
+    }
+
+    private void changed(@Nullable Announcement previous, @Nullable Announcement current) {
+        generation++;
+        contentVersion.bump();
+        eventPublisher.publishEvent(new AnnouncementChangedEvent(this, previous, current, false));
+    }
+
+    // 全量加载或预热替换了大部分公告，下一次读取时完整重建视图
+    private void rebuildViews() {
+        views = null;
+        pending.clear();
+    }
+
+    private Views currentViews() {
+        var current = views;
+        if (current != null && current.getGeneration() == generation) {
+            return current;
+        }
+        synchronized (this) {
+            current = views;
+            if (current == null) {
+                current = Views.build(generation, new ArrayList<>(items.values()));
+            } else if (current.getGeneration() != generation) {
+                current = current.update(generation, pending, items);
+            }
+            pending.clear();
+            views = current;
+            return current;
+        }
+    }
+
+    private static boolean isNewer(Announcement candidate, Announcement current) {
+        Long candidateVersion = candidate.getMetadata().getVersion();
+        Long currentVersion = current.getMetadata().getVersion();
+        if (candidateVersion == null || currentVersion == null) {
+            return true;
+        }
+        // 相同版本已经应用过（如批量接口先行写入快照，调谐器随后再次同步）
+        return candidateVersion > currentVersion;
+    }
+
+    /**
+     * 某一时刻快照的不可变视图
+     */
+    public static final class Views {
+
+        @Getter
+        private final long generation;
+        private final Map<String, Announcement> byName;
+        private final Map<Audience, List<Announcement>> lists;
+        private final Map<String, List<Announcement>> typedLists = new ConcurrentHashMap<>();
+        private final Map<Audience, UrlPatternMatcher> popupMatchers = new ConcurrentHashMap<>();
+
+        private Views(long generation, Map<String, Announcement> byName,
+            Map<Audience, List<Announcement>> lists) {
+            this.generation = generation;
+            this.byName = byName;
+            this.lists = lists;
+        }
+
+        static Views build(long generation, List<Announcement> announcements) {
+            var visible = announcements.stream()
+                .filter(a -> a.getAnnouncementSpec() != null)
+                .filter(a -> a.getMetadata().getDeletionTimestamp() == null)
+                .sorted(DEFAULT_ORDER)
+                .toList();
+            var byName = new HashMap<String, Announcement>(visible.size());
+            visible.forEach(a -> byName.put(a.getMetadata().getName(), a));
+            var lists = new EnumMap<Audience, List<Announcement>>(Audience.class);
+            for (Audience audience : Audience.values()) {
+                lists.put(audience, visible.stream()
+                    .filter(a -> isVisibleTo(a, audience))
+                    .toList());
+            }
+            return new Views(generation, byName, lists);
+        }
+
+        /**
+         * 在本视图的基础上应用变更，生成新的视图，本视图保持不变
+         *
+         * @param names 发生变化的公告名称
+         * @param items 快照中当前的全部公告，名称不在其中表示已删除
+         */
+        Views update(long generation, Collection<String> names, Map<String, Announcement> items) {
+            var nextByName = new HashMap<>(byName);
+            var removals = new ArrayList<Announcement>(names.size());
+            var insertions = new ArrayList<Announcement>(names.size());
+            for (String name : names) {
+                var previous = nextByName.remove(name);
+                if (previous != null) {
+                    removals.add(previous);
+                }
+                var current = items.get(name);
+                if (current != null && current.getAnnouncementSpec() != null
+                    && current.getMetadata().getDeletionTimestamp() == null) {
+                    nextByName.put(name, current);
+                    insertions.add(current);
+                }
+            }
+            insertions.sort(DEFAULT_ORDER);
+            var nextLists = new EnumMap<Audience, List<Announcement>>(Audience.class);
+            for (Audience audience : Audience.values()) {
+                nextLists.put(audience, splice(lists.get(audience), removals,
+                    insertions.stream().filter(a -> isVisibleTo(a, audience)).toList()));
+            }
+            return new Views(generation, nextByName, nextLists);
+        }
+
+        /**
+         * 按默认排序二分查找旧版本和新版本的位置，在有序列表中移除旧版本、插入新版本，
+         * 其余部分整段复制
+         *
+         * @param insertions 待插入的公告，已按默认排序
+         */
+        static List<Announcement> splice(List<Announcement> list, List<Announcement> removals,
+            List<Announcement> insertions) {
+            if (removals.isEmpty() && insertions.isEmpty()) {
+                return list;
+            }
+            // 名称唯一，比较结果相等的只能是同一条公告
+            int[] removed = removals.stream()
+                .mapToInt(announcement -> Collections.binarySearch(list, announcement, DEFAULT_ORDER))
+                .filter(index -> index >= 0)
+                .sorted()
+                .toArray();
+            int[] points = insertions.stream()
+                .mapToInt(announcement -> {
+                    int index = Collections.binarySearch(list, announcement, DEFAULT_ORDER);
+                    // 排序键未变时落在旧版本的位置上，旧版本随后被跳过
+                    return index >= 0 ? index : -index - 1;
+                })
+                .toArray();
+            var result = new ArrayList<Announcement>(list.size() - removed.length + insertions.size());
+            int from = 0;
+            int r = 0;
+            int i = 0;
+            while (true) {
+                int next = Math.min(r < removed.length ? removed[r] : list.size(),
+                    i < points.length ? points[i] : list.size());
+                result.addAll(list.subList(from, next));
+                from = next;
+                if (i < points.length && points[i] == next) {
+                    result.add(insertions.get(i++));
+                } else if (r < removed.length && removed[r] == next) {
+                    from = next + 1;
+                    r++;
+                } else {
+                    break;
+                }
+            }
+            return Collections.unmodifiableList(result);
+        }
+
+        public static boolean isVisibleTo(Announcement announcement, Audience audience) {
+            if (!AnnouncementIndexes.isActive(announcement)) {
+                return false;
+            }
+            var spec = announcement.getAnnouncementSpec();
+            if (spec.getPermissions() == null
+                || !audience.getPermissions().contains(spec.getPermissions().name())) {
+                return false;
+            }
+            return !audience.isPopup() || Boolean.TRUE.equals(spec.getEnablePopup());
+        }
+
+        /**
+         * 按名称获取公告，包括对公开受众不可见的公告
+         */
+        @Nullable
+        public Announcement get(String name) {
+            return byName.get(name);
+        }
+
+        /**
+         * 快照中的全部公告，包括对公开受众不可见的公告，顺序不确定
+         */
+        public Collection<Announcement> all() {
+            return Collections.unmodifiableCollection(byName.values());
+        }
+
+        /**
+         * 受众可见的全部公告，已按默认排序
+         */
+        public List<Announcement> list(Audience audience) {
+            return lists.get(audience);
+        }
+
+        /**
+         * 受众可见且类型匹配的公告，已按默认排序
+         */
+        public List<Announcement> list(Audience audience, @Nullable String type) {
+            if (StringUtils.isBlank(type)) {
+                return list(audience);
+            }
+            var key = audience.name() + ':' + type;
+            var cached = typedLists.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            var filtered = list(audience).stream()
+                .filter(a -> Objects.equals(type, a.getAnnouncementSpec().getType()))
+                .toList();
+            // 只缓存真实存在的类型，避免任意查询参数撑大缓存
+            if (!filtered.isEmpty()) {
+                typedLists.putIfAbsent(key, filtered);
+            }
+            return filtered;
+        }
+
+        /**
+         * 受众弹窗公告的 URL 匹配器，每个视图只编译一次
+         */
+        public UrlPatternMatcher popupMatcher(Audience audience) {
+            return popupMatchers.computeIfAbsent(audience, key -> UrlPatternMatcher.compile(list(key)));
+        }
+
+        public ListResult<Announcement> page(Audience audience, @Nullable String type, int page, int size) {
+            return slice(list(audience, type), page, size);
+        }
+
+        public static <T> ListResult<T> slice(List<T> list, int page, int size) {
+            if (size <= 0) {
+                return new ListResult<>(page, size, list.size(), list);
+            }
+            int pageNumber = Math.max(page, 1);
+            long from = (long) (pageNumber - 1) * size;
+            if (from >= list.size()) {
+                return new ListResult<>(pageNumber, size, list.size(), List.of());
+            }
+            int to = (int) Math.min(from + size, list.size());
+            return new ListResult<>(pageNumber, size, list.size(), list.subList((int) from, to));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package cc.lik.announcement.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import run.halo.app.extension.ConfigMap;
+import run.halo.app.extension.ReactiveExtensionClient;
+
+/**
+ * 公告类型配置缓存。
+ * <p>插件 ConfigMap 中的 {@code types} 只在变更时解析一次，结果以预序列化的 JSON 字节保存，
+ * 公开接口直接写出。解析失败时保留上一次的有效值。</p>
+ *
+ * @author Handsome
+ */
+@Slf4j
+@Component
+public class AnnouncementTypesCache {
+
+    public static final String CONFIG_MAP_NAME = "plugin-announcement-configMap";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final byte[] EMPTY = "[]".getBytes(StandardCharsets.UTF_8);
+
+    private final ContentVersion contentVersion;
+    private final Mono<Boolean> loading;
+    private volatile byte[] types;
+
+    public AnnouncementTypesCache(ReactiveExtensionClient client, ContentVersion contentVersion) {
+        this.contentVersion = contentVersion;
+        this.loading = Mono.defer(() -> client.fetch(ConfigMap.class, CONFIG_MAP_NAME))
+            .doOnNext(this::refresh)
+            .switchIfEmpty(Mono.fromRunnable(() -> refresh(null)))
+            .thenReturn(true)
+            .cache(loaded -> Duration.ofMillis(Long.MAX_VALUE), e -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    /**
+     * 获取类型列表的 JSON 字节，首次调用时从存储加载
+     */
+    public Mono<byte[]> types() {
+        var current = types;
+        if (current != null) {
+            return Mono.just(current);
+        }
+        return loading.then(Mono.fromSupplier(() -> types != null ? types : EMPTY));
+    }
+
+    /**
+     * 当前类型列表的 JSON 字节，尚未加载时为空
+     */
+    public Optional<byte[]> typesIfReady() {
+        return Optional.ofNullable(types);
+    }
+
+    /**
+     * 从存储加载类型配置，预热过的缓存据此校正
+     */
+    public Mono<Void> load() {
+        return loading.then();
+    }
+
+    /**
+     * 用持久化的类型列表预热，只在尚未加载时生效
+     */
+    public synchronized void warmStart(byte[] persisted) {
+        if (types == null) {
+            update(persisted);
+        }
+    }
+
+    /**
+     * 根据最新的 ConfigMap 刷新缓存，ConfigMap 不存在时视为没有配置类型
+     */
+    public synchronized void refresh(@Nullable ConfigMap configMap) {
+        Map<String, String> data = configMap == null ? null : configMap.getData();
+        if (data == null || !data.containsKey("types")) {
+            update(EMPTY);
+            return;
+        }
+        try {
+            JsonNode node = objectMapper.readTree(data.get("types"));
+            JsonNode typesNode = node.get("announcementTypes");
+            update(typesNode != null && typesNode.isArray()
+                ? objectMapper.writeValueAsBytes(typesNode)
+                : EMPTY);
+        } catch (Exception e) {
+            // 保留上一次的有效值，避免一次错误的配置导致前台类型全部消失
+            log.error("Failed to parse announcement types, keep the last known value", e);
+            if (types == null) {
+                update(EMPTY);
+            }
+        }
+    }
+
+    private void update(byte[] parsed) {
+        // 插件配置的其他分组变化时类型内容不变，无需让客户端缓存失效
+        if (!Arrays.equals(types, parsed)) {
+            types = parsed;
+            contentVersion.bump();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package cc.lik.announcement.cache;
+
+import cc.lik.announcement.extension.Announcement;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import reactor.util.retry.Retry;
+import run.halo.app.infra.utils.JsonUtils;
+import run.halo.app.plugin.PluginContext;
+
+/**
+ * 跨重启保存公告快照和类型配置，避免重启后的第一波访问承担全量加载。
+ * <p>插件停止时把快照中的公告和解析后的类型写入工作目录；启动时校验文件格式和插件版本后立即预热，
+ * 再在后台从存储全量加载，按资源版本校正差异。文件损坏或版本不符时直接忽略，退回冷启动。</p>
+ * <p>排序后的受众列表、弹窗匹配器和弹窗片段都由快照派生，预热后首次读取时重建，不单独保存。</p>
+ * <p>文件包含仅登录可见和尚未开始展示的公告，只写入 Halo 工作目录（{@code halo.work-dir}）下的插件数据目录，
+ * 目录和文件仅所有者可读写；无法确定工作目录时不保存也不预热。</p>
+ *
+ * @author Handsome
+ */
+@Slf4j
+@Component
+public class AnnouncementWarmStart {
+
+    static final String FILE_NAME = "announcement-snapshot.bin";
+    static final String WORK_DIR_PROPERTY = "halo.work-dir";
+    // 文件结构变化时递增，旧文件随之失效
+    static final int FORMAT_VERSION = 1;
+    private static final int MAGIC = 0x4C494B41;
+    private static final Retry LOAD_RETRY = Retry.backoff(5, Duration.ofSeconds(2));
+    private static final boolean POSIX = FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+
+    private final AnnouncementSnapshot snapshot;
+    private final AnnouncementTypesCache typesCache;
+    private final PluginContext pluginContext;
+    private final Environment environment;
+
+    public AnnouncementWarmStart(AnnouncementSnapshot snapshot, AnnouncementTypesCache typesCache,
+        PluginContext pluginContext, Environment environment) {
+        this.snapshot = snapshot;
+        this.typesCache = typesCache;
+        this.pluginContext = pluginContext;
+        this.environment = environment;
+    }
+
+    /**
+     * 从保存的文件预热，并在后台从存储全量加载
+     */
+    public void restore() {
+        var file = file().orElse(null);
+        if (file != null && Files.isRegularFile(file)) {
+            try {
+                var state = read(file);
+                if (state != null) {
+                    if (state.types() != null) {
+                        typesCache.warmStart(state.types());
+                    }
+                    snapshot.warmStart(state.announcements());
+                    log.info("Warm started with {} persisted announcements", state.announcements().size());
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Ignore unreadable announcement snapshot [{}]", file, e);
+            }
+        }
+        // 无论是否预热都要全量加载：冷启动时完成首次加载，预热时校正停止期间的变更
+        snapshot.load()
+            .retryWhen(LOAD_RETRY)
+            .doOnError(e -> log.warn("Failed to load announcement snapshot in background", e))
+            .onErrorComplete()
+            .subscribe();
+        typesCache.load().onErrorComplete().subscribe();
+    }
+
+    /**
+     * 保存当前快照，快照尚未就绪时不保存，保留上一次的文件
+     */
+    public void save() {
+        var views = snapshot.viewsIfReady().orElse(null);
+        var file = file().orElse(null);
+        if (views == null || file == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.getParent(), ownerOnly("rwx------"));
+            var temp = Files.createTempFile(file.getParent(), FILE_NAME, ".tmp", ownerOnly("rw-------"));
+            try {
+                write(temp, new ArrayList<>(views.all()), typesCache.typesIfReady().orElse(null));
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            log.info("Saved {} announcements for warm start", views.all().size());
+        } catch (IOException | RuntimeException e) {
+            // 保存失败只影响下次启动的速度
+            log.warn("Failed to save announcement snapshot [{}]", file, e);
+        }
+    }
+
+    private void write(Path path, List<Announcement> announcements, byte[] types) throws IOException {
+        try (var out = new DataOutputStream(new GZIPOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(pluginVersion());
+            writeBytes(out, types);
+            writeBytes(out, JsonUtils.mapper().writeValueAsBytes(announcements));
+        }
+    }
+
+    private State read(Path path) throws IOException {
+        try (var in = new DataInputStream(new GZIPInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                log.info("Ignore announcement snapshot with unknown format [{}]", path);
+                return null;
+            }
+            // 公告结构可能随插件版本变化，只接受同一版本写出的文件
+            var version = in.readUTF();
+            if (!Objects.equals(version, pluginVersion())) {
+                log.info("Ignore announcement snapshot written by plugin version {}", version);
+                return null;
+            }
+            var types = readBytes(in);
+            List<Announcement> announcements = JsonUtils.mapper()
+                .readValue(readBytes(in), new TypeReference<>() {
+                });
+            return new State(announcements, types);
+        }
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        if (bytes == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        return in.readNBytes(length);
+    }
+
+    private String pluginVersion() {
+        return Objects.toString(pluginContext.getVersion(), "");
+    }
+
+    /**
+     * 保存位置：Halo 工作目录下的 plugins-data/插件名称，未配置工作目录时为空
+     */
+    Optional<Path> file() {
+        var workDir = environment.getProperty(WORK_DIR_PROPERTY);
+        if (StringUtils.isBlank(workDir)) {
+            log.info("Property {} is not available, skip persisting the announcement snapshot", WORK_DIR_PROPERTY);
+            return Optional.empty();
+        }
+        return Optional.of(Path.of(workDir).resolve("plugins-data").resolve(pluginContext.getName())
+            .resolve(FILE_NAME));
+    }
+
+    private static FileAttribute<?>[] ownerOnly(String permissions) {
+        if (!POSIX) {
+            return new FileAttribute<?>[0];
+        }
+        return new FileAttribute<?>[] {
+            PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(permissions))
+        };
+    }
+
+    private record State(List<Announcement> announcements, byte[] types) {
+    }
+}
@@ -0,0 +1,49 @@
+package cc.lik.announcement.cache;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * 公开内容的版本号。
+ * <p>公告或插件配置发生变化时递增，用于生成 ETag 和 Last-Modified。
+ * 版本号在进程内单调递增，配合启动纪元区分不同进程，重启后旧的 ETag 不会被误判为命中。</p>
+ *
+ * @author Handsome
+ */
+@Component
+public class ContentVersion {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Instant lastModified = now();
+
+    /**
+     * 标记公开内容已变化
+     */
+    public void bump() {
+        lastModified = now();
+        generation.incrementAndGet();
+    }
+
+    public Stamp current() {
+        long current = generation.get();
+        return new Stamp(epoch, current, lastModified);
+    }
+
+    private static Instant now() {
+        // HTTP 日期只精确到秒
+        return Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    public record Stamp(String epoch, long generation, Instant lastModified) {
+
+        /**
+         * 生成强校验 ETag，variant 用于区分同一版本下的不同响应（如不同受众）
+         */
+        public String etag(String variant) {
+            return "\"" + epoch + '-' + generation + '-' + variant + "\"";
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package cc.lik.announcement.cache;
+
+import cc.lik.announcement.metrics.AnnouncementMetrics;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 合并并发的相同查询。
+ * <p>同一个 key 同时只有一个加载在执行，期间到达的请求共享它的结果；加载结束（成功、失败或超时）后立即移除，
+ * 结果不会被缓存，失败也不会影响之后的请求。</p>
+ * <p>单个订阅者取消不会取消共享的加载。共享的加载本身不设超时，发起者总是等待它完成；
+ * 加入的请求最多等待 {@link #TIMEOUT}，超时后改为自行加载，并让之后的请求重新发起共享加载，
+ * 慢查询不会让所有等待者一起失败。</p>
+ *
+ * @author Handsome
+ */
+@Component
+@RequiredArgsConstructor
+public class SingleFlight {
+
+    static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final AnnouncementMetrics metrics;
+    private final Map<String, Flight<?>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 执行加载，已有相同 key 的加载在执行时直接共享其结果
+     *
+     * @param key 查询的规范化标识，需包含受众等全部影响结果的参数
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(String key, Supplier<Mono<T>> loader) {
+        return Mono.defer(() -> {
+            var created = new Flight<>(key, loader);
+            var flight = (Flight<T>) inFlight.putIfAbsent(key, created);
+            if (flight == null) {
+                metrics.singleFlight("leader");
+                return created.result;
+            }
+            metrics.singleFlight("joined");
+            return flight.result.timeout(TIMEOUT, Mono.defer(() -> {
+                metrics.singleFlight("fallback");
+                inFlight.remove(key, flight);
+                return loader.get();
+            }));
+        });
+    }
+
+    private final class Flight<T> {
+
+        private final Mono<T> result;
+
+        Flight(String key, Supplier<Mono<T>> loader) {
+            // share 的订阅不可取消，任一等待者离开都不会中断其他人的加载
+            this.result = Mono.defer(loader)
+                .doFinally(signal -> inFlight.remove(key, this))
+                .share();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package cc.lik.announcement.endpoint;
+
+import static org.springdoc.core.fn.builders.parameter.Builder.parameterBuilder;
+
+import cc.lik.announcement.asset.AnnouncementAssets;
+import cc.lik.announcement.asset.AnnouncementAssets.Asset;
+import cc.lik.announcement.asset.AnnouncementAssets.Encoding;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import java.time.Duration;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.webflux.core.fn.SpringdocRouteBuilder;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import run.halo.app.core.extension.endpoint.CustomEndpoint;
+import run.halo.app.extension.GroupVersion;
+
+/**
+ * 输出带内容哈希的前台资源，按 Accept-Encoding 选择预压缩版本，响应可永久缓存。
+ *
+ * @author Handsome
+ */
+@Component
+@RequiredArgsConstructor
+public class AnnouncementAssetEndpoint implements CustomEndpoint {
+
+    // announcement.3f2a9c1b0d.umd.cjs -> announcement.umd.cjs
+    private static final Pattern HASH = Pattern.compile("\\.[0-9a-f]{10}\\.");
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365))
+        .cachePublic()
+        .immutable();
+
+    private final AnnouncementAssets assets;
+
+    @Override
+    public RouterFunction<ServerResponse> endpoint() {
+        final var tag = "public.announcement.lik.cc/v1alpha1/Public";
+        return SpringdocRouteBuilder.route()
+            .GET("assets/{file}", this::getAsset, builder -> {
+                builder.operationId("GetAnnouncementAsset")
+                    .tag(tag)
+                    .description("获取前台脚本或样式，文件名带内容哈希，按 Accept-Encoding 返回 brotli、gzip 或原始内容")
+                    .parameter(parameterBuilder()
+                        .name("file")
+                        .in(ParameterIn.PATH)
+                        .required(true)
+                        .implementation(String.class));
+            })
+            .build();
+    }
+
+    Mono<ServerResponse> getAsset(ServerRequest request) {
+        var file = request.pathVariable("file");
+        var exact = assets.byHashedName(file);
+        if (exact.isPresent()) {
+            return write(request, exact.get(), IMMUTABLE);
+        }
+        // 缓存的旧页面可能引用上一次构建的哈希，返回当前版本但不允许长期缓存
+        return assets.byName(HASH.matcher(file).replaceFirst("."))
+            .map(asset -> write(request, asset, CacheControl.noCache()))
+            .orElseGet(() -> ServerResponse.notFound().build());
+    }
+
+    private static Mono<ServerResponse> write(ServerRequest request, Asset asset, CacheControl cacheControl) {
+        var encoding = asset.negotiate(request.headers().firstHeader(HttpHeaders.ACCEPT_ENCODING));
+        var builder = ServerResponse.ok()
+            .contentType(asset.mediaType())
+            .cacheControl(cacheControl)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (encoding != Encoding.IDENTITY) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, encoding.token());
+        }
+        return builder.bodyValue(asset.bytes(encoding));
+    }
+
+    @Override
+    public GroupVersion groupVersion() {
+        return GroupVersion.parseAPIVersion("public.announcement.lik.cc/v1alpha1");
+    }
+}
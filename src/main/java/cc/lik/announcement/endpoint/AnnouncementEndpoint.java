@@ -1,23 +1,47 @@
 package cc.lik.announcement.endpoint;
 
 import static org.springdoc.core.fn.builders.apiresponse.Builder.responseBuilder;
+import static org.springdoc.core.fn.builders.content.Builder.contentBuilder;
 import static org.springdoc.core.fn.builders.parameter.Builder.parameterBuilder;
+import static org.springdoc.core.fn.builders.requestbody.Builder.requestBodyBuilder;
+import static org.springdoc.core.fn.builders.schema.Builder.schemaBuilder;
 
 import cc.lik.announcement.AnnouncementQuery;
+import cc.lik.announcement.BatchRequest;
+import cc.lik.announcement.BatchResult;
+import cc.lik.announcement.archive.AnnouncementArchive;
 import cc.lik.announcement.extension.Announcement;
+import cc.lik.announcement.extension.ArchivedAnnouncement;
+import cc.lik.announcement.facet.AnnouncementFacets;
+import cc.lik.announcement.facet.FacetCounts;
+import cc.lik.announcement.metrics.AnnouncementMetrics;
 import cc.lik.announcement.service.AnnouncementService;
+import cc.lik.announcement.transfer.AnnouncementTransferService;
+import cc.lik.announcement.transfer.ImportReport;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import lombok.RequiredArgsConstructor;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.springdoc.webflux.core.fn.SpringdocRouteBuilder;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyExtractors;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
 import reactor.core.publisher.Mono;
 import run.halo.app.core.extension.endpoint.CustomEndpoint;
+import run.halo.app.extension.AbstractExtension;
 import run.halo.app.extension.GroupVersion;
 import run.halo.app.extension.ListResult;
+import run.halo.app.extension.router.IListRequest;
 
 @Slf4j
 @Component
@@ -25,6 +49,10 @@ import run.halo.app.extension.ListResult;
 public class AnnouncementEndpoint implements CustomEndpoint {
 
     private final AnnouncementService announcementSvc;
+    private final AnnouncementMetrics metrics;
+    private final AnnouncementTransferService transferService;
+    private final AnnouncementFacets facets;
+    private final AnnouncementArchive archive;
 
     @Override
     public RouterFunction<ServerResponse> endpoint() {
@@ -41,6 +69,106 @@ public class AnnouncementEndpoint implements CustomEndpoint {
                 AnnouncementQuery.buildParameters(builder);
                 }
             )
+            .GET("announcements/-/batch", this::getAnnouncements, builder -> {
+                    builder.operationId("BatchGetAnnouncements")
+                        .tag(tag)
+                        .description("根据名称批量获取公告，单次最多 " + BatchRequest.MAX_NAMES + " 个")
+                        .parameter(parameterBuilder()
+                            .in(ParameterIn.QUERY)
+                            .name("names")
+                            .description("公告名称，可重复传递或以逗号分隔")
+                            .implementationArray(String.class)
+                            .required(true)
+                        )
+                        .response(responseBuilder().implementation(BatchResult.class));
+                }
+            )
+            .POST("announcements/-/batch-delete", this::deleteAnnouncements, builder -> {
+                    builder.operationId("BatchDeleteAnnouncements")
+                        .tag(tag)
+                        .description("批量删除公告，返回逐项结果")
+                        .requestBody(requestBodyBuilder()
+                            .required(true)
+                            .implementation(BatchRequest.class))
+                        .response(responseBuilder().implementation(BatchResult.class));
+                }
+            )
+            .POST("announcements/-/batch-patch", this::patchAnnouncements, builder -> {
+                    builder.operationId("BatchPatchAnnouncements")
+                        .tag(tag)
+                        .description("批量修改公告的可见范围、置顶和弹窗开关，返回逐项结果")
+                        .requestBody(requestBodyBuilder()
+                            .required(true)
+                            .implementation(BatchRequest.class))
+                        .response(responseBuilder().implementation(BatchResult.class));
+                }
+            )
+            .POST("announcements/-/archive", this::archiveAnnouncements, builder -> {
+                    builder.operationId("ArchiveAnnouncements")
+                        .tag(tag)
+                        .description("将公告移入归档，归档的公告不再参与弹窗、搜索和在线列表，返回逐项结果")
+                        .requestBody(requestBodyBuilder()
+                            .required(true)
+                            .implementation(BatchRequest.class))
+                        .response(responseBuilder().implementation(BatchResult.class));
+                }
+            )
+            .GET("announcements/-/archived", this::listArchivedAnnouncements, builder -> {
+                    builder.operationId("ListArchivedAnnouncements")
+                        .tag(tag)
+                        .description("分页查询归档公告，包含归档时间和原因（age、expired 或 manual）")
+                        .response(responseBuilder()
+                            .implementation(ListResult.generateGenericClass(ArchivedAnnouncement.class)));
+                    IListRequest.buildParameters(builder);
+                }
+            )
+            .POST("announcements/-/restore", this::restoreAnnouncements, builder -> {
+                    builder.operationId("RestoreAnnouncements")
+                        .tag(tag)
+                        .description("将归档公告恢复为在线公告，返回逐项结果")
+                        .requestBody(requestBodyBuilder()
+                            .required(true)
+                            .implementation(BatchRequest.class))
+                        .response(responseBuilder().implementation(BatchResult.class));
+                }
+            )
+            .GET("announcements/-/facets", this::getFacets, builder -> {
+                    builder.operationId("GetAnnouncementFacets")
+                        .tag(tag)
+                        .description("获取按类型、可见范围、置顶和弹窗的公告计数，键为 all（全部公告）和各公开受众")
+                        .response(responseBuilder().implementation(FacetCountsByScope.class));
+                }
+            )
+            .GET("announcements/-/export", this::exportAnnouncements, builder -> {
+                    builder.operationId("ExportAnnouncements")
+                        .tag(tag)
+                        .description("以 NDJSON 流式导出全部公告，每行一个公告，在线公告在前、归档公告在后")
+                        .response(responseBuilder()
+                            .content(contentBuilder()
+                                .mediaType(MediaType.APPLICATION_NDJSON_VALUE)
+                                .schema(schemaBuilder().type("string").format("binary"))));
+                }
+            )
+            .POST("announcements/-/import", this::importAnnouncements, builder -> {
+                    builder.operationId("ImportAnnouncements")
+                        .tag(tag)
+                        .description("导入 NDJSON 格式的公告，按 kind 区分在线公告和归档公告，按名称新建或覆盖，返回导入汇总")
+                        .parameter(parameterBuilder()
+                            .in(ParameterIn.QUERY)
+                            .name("dryRun")
+                            .description("只校验并统计，不写入")
+                            .implementation(Boolean.class)
+                            .required(false)
+                        )
+                        .requestBody(requestBodyBuilder()
+                            .required(true)
+                            .description("NDJSON，每行一个公告")
+                            .content(contentBuilder()
+                                .mediaType(MediaType.APPLICATION_NDJSON_VALUE)
+                                .schema(schemaBuilder().type("string").format("binary"))))
+                        .response(responseBuilder().implementation(ImportReport.class));
+                }
+            )
             .GET("announcements/{name}", this::getAnnouncementByName, builder -> {
                     builder.operationId("GetAnnouncementByName")
                         .tag(tag)
@@ -51,6 +179,13 @@ public class AnnouncementEndpoint implements CustomEndpoint {
                             .description("公告名称")
                             .required(true)
                         )
+                        .parameter(parameterBuilder()
+                            .in(ParameterIn.QUERY)
+                            .name("view")
+                            .description("响应视图：full（默认）、summary 或 popup")
+                            .implementation(String.class)
+                            .required(false)
+                        )
                         .response(
                             responseBuilder()
                                 .implementation(Announcement.class)
@@ -62,19 +197,98 @@ public class AnnouncementEndpoint implements CustomEndpoint {
 
     Mono<ServerResponse> listAnnouncement(ServerRequest serverRequest) {
         AnnouncementQuery query = new AnnouncementQuery(serverRequest);
-        return announcementSvc.listAnnouncement(query)
-            .flatMap(announcements -> ServerResponse.ok().bodyValue(announcements));
+        var view = query.getView().forConsole();
+        var shape = AnnouncementMetrics.shape(query);
+        if (query.isCursorMode()) {
+            return metrics.timeRequest("console.list", shape, announcementSvc.listAnnouncementByCursor(query, null)
+                .flatMap(page -> ServerResponse.ok().bodyValue(view.project(page))));
+        }
+        return metrics.timeRequest("console.list", shape, announcementSvc.listAnnouncement(query)
+            .flatMap(announcements -> ServerResponse.ok().bodyValue(view.project(announcements))));
     }
     
     Mono<ServerResponse> getAnnouncementByName(ServerRequest serverRequest) {
         String name = serverRequest.pathVariable("name");
-        return announcementSvc.getAnnouncementByName(name)
-            .flatMap(announcement -> ServerResponse.ok().bodyValue(announcement))
-            .switchIfEmpty(ServerResponse.notFound().build());
+        var view = new AnnouncementQuery(serverRequest).getView().forConsole();
+        return metrics.timeRequest("console.item", view.value(), announcementSvc.getAnnouncementByName(name)
+            .flatMap(announcement -> ServerResponse.ok().bodyValue(view.project(announcement)))
+            .switchIfEmpty(ServerResponse.notFound().build()));
+    }
+    Mono<ServerResponse> getAnnouncements(ServerRequest serverRequest) {
+        var names = serverRequest.queryParams().getOrDefault("names", List.of()).stream()
+            .flatMap(value -> Arrays.stream(value.split(",")))
+            .map(String::trim)
+            .filter(StringUtils::isNotEmpty)
+            .toList();
+        return metrics.timeRequest("console.batch", "get", Mono.defer(() -> announcementSvc.getAnnouncements(names))
+            .flatMap(result -> ServerResponse.ok().bodyValue(result)));
+    }
+
+    Mono<ServerResponse> deleteAnnouncements(ServerRequest serverRequest) {
+        return metrics.timeRequest("console.batch", "delete", serverRequest.bodyToMono(BatchRequest.class)
+            .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Request body is required")))
+            .flatMap(request -> announcementSvc.deleteAnnouncements(request.names()))
+            .flatMap(result -> ServerResponse.ok().bodyValue(result)));
     }
+
+    Mono<ServerResponse> patchAnnouncements(ServerRequest serverRequest) {
+        return metrics.timeRequest("console.batch", "patch", serverRequest.bodyToMono(BatchRequest.class)
+            .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Request body is required")))
+            .flatMap(announcementSvc::patchAnnouncements)
+            .flatMap(result -> ServerResponse.ok().bodyValue(result)));
+    }
+
+    Mono<ServerResponse> archiveAnnouncements(ServerRequest serverRequest) {
+        return metrics.timeRequest("console.batch", "archive", serverRequest.bodyToMono(BatchRequest.class)
+            .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Request body is required")))
+            .flatMap(request -> archive.archive(request.names()))
+            .flatMap(result -> ServerResponse.ok().bodyValue(result)));
+    }
+
+    Mono<ServerResponse> listArchivedAnnouncements(ServerRequest serverRequest) {
+        var query = new IListRequest.QueryListRequest(serverRequest.queryParams());
+        return metrics.timeRequest("console.archived", "page", archive.listArchived(query.getPage(), query.getSize())
+            .flatMap(result -> ServerResponse.ok().bodyValue(result)));
+    }
+
+    Mono<ServerResponse> restoreAnnouncements(ServerRequest serverRequest) {
+        return metrics.timeRequest("console.batch", "restore", serverRequest.bodyToMono(BatchRequest.class)
+            .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Request body is required")))
+            .flatMap(request -> archive.restore(request.names()))
+            .flatMap(result -> ServerResponse.ok().bodyValue(result)));
+    }
+
+    Mono<ServerResponse> getFacets(ServerRequest serverRequest) {
+        return metrics.timeRequest("console.facets", "none", facets.all()
+            .flatMap(counts -> ServerResponse.ok().bodyValue(counts)));
+    }
+
+    Mono<ServerResponse> exportAnnouncements(ServerRequest serverRequest) {
+        var filename = "announcements-" + LocalDate.now() + ".ndjson";
+        return ServerResponse.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(filename)
+                .build()
+                .toString())
+            .body(transferService.export(), AbstractExtension.class);
+    }
+
+    Mono<ServerResponse> importAnnouncements(ServerRequest serverRequest) {
+        boolean dryRun = serverRequest.queryParam("dryRun").map(Boolean::parseBoolean).orElse(false);
+        return transferService.importNdjson(serverRequest.body(BodyExtractors.toDataBuffers()), dryRun)
+            .flatMap(report -> ServerResponse.ok().bodyValue(report));
+    }
+
     @Override
     public GroupVersion groupVersion() {
         return GroupVersion.parseAPIVersion("api.announcement.lik.cc/v1alpha1");
     }
 
+    /**
+     * 仅用于接口文档：计数面的实际响应是以范围为键的 {@link FacetCounts} 映射
+     */
+    static class FacetCountsByScope extends LinkedHashMap<String, FacetCounts> {
+    }
+
 }
@@ -1,41 +1,65 @@
 package cc.lik.announcement.endpoint;
 
 import static org.springdoc.core.fn.builders.apiresponse.Builder.responseBuilder;
+import static org.springdoc.core.fn.builders.parameter.Builder.parameterBuilder;
+import static org.springdoc.core.fn.builders.requestbody.Builder.requestBodyBuilder;
 
 import cc.lik.announcement.AnnouncementQuery;
+import cc.lik.announcement.Audience;
+import cc.lik.announcement.archive.AnnouncementArchive.ArchiveUnavailableException;
+import cc.lik.announcement.cache.AnnouncementResponseCache;
+import cc.lik.announcement.cache.AnnouncementTypesCache;
+import cc.lik.announcement.cache.SingleFlight;
 import cc.lik.announcement.extension.Announcement;
+import cc.lik.announcement.facet.AnnouncementFacets;
+import cc.lik.announcement.facet.FacetCounts;
+import cc.lik.announcement.metrics.AnnouncementMetrics;
+import cc.lik.announcement.popup.PopupCapSigner;
+import cc.lik.announcement.popup.PopupCapToken;
 import cc.lik.announcement.service.AnnouncementService;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import cc.lik.announcement.stats.AnnouncementStatsCollector;
+import cc.lik.announcement.stats.BeaconRequest;
+import cc.lik.announcement.stream.AnnouncementStreamHub;
+import cc.lik.announcement.view.AnnouncementView;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.springdoc.webflux.core.fn.SpringdocRouteBuilder;
-import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Mono;
 import run.halo.app.core.extension.endpoint.CustomEndpoint;
-import run.halo.app.extension.ConfigMap;
 import run.halo.app.extension.GroupVersion;
 import run.halo.app.extension.ListResult;
-import run.halo.app.extension.ReactiveExtensionClient;
 
-import java.util.Collections;
+import java.time.Instant;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AnnouncementPublicEndpoint implements CustomEndpoint {
 
-    private final ReactiveExtensionClient client;
     private final AnnouncementService announcementSvc;
-    
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-    private static final String CONFIG_MAP_NAME = "plugin-announcement-configMap";
+    private final AnnouncementTypesCache typesCache;
+    private final ConditionalGet conditionalGet;
+    private final AnnouncementResponseCache responseCache;
+    private final AnnouncementStreamHub streamHub;
+    private final AnnouncementStatsCollector statsCollector;
+    private final AnnouncementMetrics metrics;
+    private final SingleFlight singleFlight;
+    private final AnnouncementFacets facets;
+    private final PopupCapSigner popupCapSigner;
 
     @Override
     public RouterFunction<ServerResponse> endpoint() {
@@ -55,66 +79,239 @@ public class AnnouncementPublicEndpoint implements CustomEndpoint {
                         .implementation(ListResult.generateGenericClass(Announcement.class)));
                 AnnouncementQuery.buildParameters(builder);
             })
+            .GET("facets", this::getFacets, builder -> {
+                builder.operationId("GetPublicAnnouncementFacets")
+                    .tag(tag)
+                    .description("获取当前访客可见公告按类型、可见范围、置顶和弹窗的计数（公开接口）")
+                    .response(responseBuilder().implementation(FacetCounts.class));
+            })
+            .GET("announcements/{name}", this::getAnnouncement, builder -> {
+                builder.operationId("GetPublicAnnouncement")
+                    .tag(tag)
+                    .description("获取当前访客可见的单个公告（公开接口），用于列表按需加载正文")
+                    .parameter(parameterBuilder()
+                        .in(ParameterIn.PATH)
+                        .name("name")
+                        .description("公告名称")
+                        .required(true))
+                    .parameter(parameterBuilder()
+                        .in(ParameterIn.QUERY)
+                        .name("view")
+                        .description("响应视图：full（默认）、summary 或 popup")
+                        .implementation(String.class)
+                        .required(false))
+                    .response(responseBuilder().implementation(Announcement.class));
+            })
+            .GET("popup", this::resolvePopup, builder -> {
+                builder.operationId("ResolvePublicPopup")
+                    .tag(tag)
+                    .description("获取当前路径应展示的弹窗公告（公开接口），仍在弹出间隔内的弹窗会被跳过，无匹配时返回 204")
+                    .parameter(parameterBuilder()
+                        .in(ParameterIn.QUERY)
+                        .name("path")
+                        .description("当前页面路径，如 /archives/hello")
+                        .implementation(String.class)
+                        .required(false))
+                    .response(responseBuilder().implementation(Announcement.class));
+            })
+            .POST("popup/shown", this::recordPopupShown, builder -> {
+                builder.operationId("RecordPublicPopupShown")
+                    .tag(tag)
+                    .description("记录弹窗已展示（公开接口），更新签名的频率 Cookie，之后在弹出间隔内不再返回该弹窗")
+                    .parameter(parameterBuilder()
+                        .in(ParameterIn.QUERY)
+                        .name("name")
+                        .description("公告名称")
+                        .implementation(String.class)
+                        .required(true))
+                    .response(responseBuilder().responseCode("204"));
+            })
+            .POST("beacon", this::collectBeacon, builder -> {
+                builder.operationId("CollectAnnouncementBeacon")
+                    .tag(tag)
+                    .description("批量上报公告的曝光、按钮点击和关闭事件（公开接口）")
+                    .requestBody(requestBodyBuilder()
+                        .required(true)
+                        .implementation(BeaconRequest.class))
+                    .response(responseBuilder().responseCode("204"));
+            })
+            .GET("events", this::streamEvents, builder -> {
+                builder.operationId("StreamPublicAnnouncementEvents")
+                    .tag(tag)
+                    .description("订阅公告变更事件（公开接口，Server-Sent Events），事件类型为 created、updated、deleted 和 reset，created、updated 的数据为公告摘要")
+                    .parameter(parameterBuilder()
+                        .in(ParameterIn.QUERY)
+                        .name("lastEventId")
+                        .description("最后收到的事件 id，用于断线续传，也可通过 Last-Event-ID 请求头传递")
+                        .implementation(String.class)
+                        .required(false))
+                    .response(responseBuilder().implementation(String.class));
+            })
             .build();
     }
 
     Mono<ServerResponse> getAnnouncementTypes(ServerRequest request) {
-        return client.fetch(ConfigMap.class, CONFIG_MAP_NAME)
-            .map(configMap -> {
-                Map<String, String> data = configMap.getData();
-                if (data == null || !data.containsKey("types")) {
-                    return Collections.emptyList();
-                }
-                try {
-                    JsonNode node = objectMapper.readTree(data.get("types"));
-                    JsonNode typesNode = node.get("announcementTypes");
-                    if (typesNode != null && typesNode.isArray()) {
-                        return objectMapper.convertValue(typesNode, List.class);
-                    }
-                } catch (Exception e) {
-                    log.error("Failed to parse announcement types", e);
-                }
-                return Collections.emptyList();
-            })
-            .defaultIfEmpty(Collections.emptyList())
-            .flatMap(types -> ServerResponse.ok().bodyValue(types));
+        return metrics.timeRequest("public.types", "none",
+            conditionalGet.respond(request, "types", false, validators -> typesCache.types()
+                .flatMap(types -> writeJson("public.types", types, validators))));
     }
 
     Mono<ServerResponse> listAnnouncements(ServerRequest request) {
         AnnouncementQuery query = new AnnouncementQuery(request);
-        Boolean isPopupRequest = query.getPopup();
-        
-        // 判断用户是否登录
-        return ReactiveSecurityContextHolder.getContext()
-            .map(ctx -> ctx.getAuthentication() != null 
-                && ctx.getAuthentication().isAuthenticated()
-                && !"anonymousUser".equals(ctx.getAuthentication().getPrincipal()))
-            .defaultIfEmpty(false)
-            .flatMap(isLoggedIn -> {
-                // 根据登录状态确定允许的权限
-                List<String> allowedPerms;
-                if (isPopupRequest != null && isPopupRequest) {
-                    // 弹窗请求：严格按登录状态过滤
-                    // 登录用户: everyone, loggedInUsers（不弹 nonLoggedInUsers）
-                    // 未登录用户: everyone, nonLoggedInUsers（不弹 loggedInUsers）
-                    if (isLoggedIn) {
-                        allowedPerms = List.of("everyone", "loggedInUsers");
-                    } else {
-                        allowedPerms = List.of("everyone", "nonLoggedInUsers");
+        boolean isPopupRequest = Boolean.TRUE.equals(query.getPopup());
+        var view = query.getView().forPublic();
+
+        // 根据登录状态和请求类型确定受众，受众决定允许的权限
+        return metrics.timeRequest("public.list", AnnouncementMetrics.shape(query), Audience.current(isPopupRequest)
+            .flatMap(audience -> conditionalGet.respond(request, audience.name() + '.' + view.value(), true,
+                validators -> {
+                    if (query.isCursorMode()) {
+                        return listByCursor(query, audience, view, validators);
                     }
-                } else {
-                    // 列表请求：登录用户能看到所有（除了 notShown）
-                    // 登录用户: everyone, loggedInUsers, nonLoggedInUsers
-                    // 未登录用户: everyone, nonLoggedInUsers
-                    if (isLoggedIn) {
-                        allowedPerms = List.of("everyone", "loggedInUsers", "nonLoggedInUsers");
-                    } else {
-                        allowedPerms = List.of("everyone", "nonLoggedInUsers");
+                    if (!query.isSnapshotServable()) {
+                        // 回落到存储的查询不缓存，但合并同一受众的相同并发查询
+                        return singleFlight.execute(storeKey("list", query, audience),
+                                () -> announcementSvc.listAnnouncementByAudience(query, audience))
+                            .flatMap(announcements -> ServerResponse.ok()
+                                .headers(validators)
+                                .bodyValue(view.project(announcements)));
                     }
-                }
-                return announcementSvc.listAnnouncementByPermissions(query, allowedPerms);
+                    // 快照查询的结果只取决于受众、类型、分页和视图，投影并编码后的响应体可以复用
+                    var key = String.join("|", "list", audience.name(), view.value(),
+                        StringUtils.defaultString(query.getType()),
+                        String.valueOf(query.getPage()), String.valueOf(query.getSize()));
+                    return responseCache.get(key, () -> announcementSvc.listAnnouncementByAudience(query, audience)
+                            .map(view::project))
+                        .flatMap(body -> writeJson("public.list", body, validators))
+                        // 归档不可用时只返回在线公告，这一页不完整，不写入缓存也不带 ETag，下一次请求重新读取归档
+                        .onErrorResume(ArchiveUnavailableException.class, e -> ServerResponse.ok()
+                            .cacheControl(CacheControl.noStore())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(view.project(e.getFallback())));
+                })));
+    }
+
+    private Mono<ServerResponse> listByCursor(AnnouncementQuery query, Audience audience, AnnouncementView view,
+        Consumer<HttpHeaders> validators) {
+        if (!query.isSnapshotServable()) {
+            return singleFlight.execute(storeKey("cursor", query, audience),
+                    () -> announcementSvc.listAnnouncementByCursor(query, audience))
+                .flatMap(page -> ServerResponse.ok().headers(validators).bodyValue(view.project(page)));
+        }
+        var key = String.join("|", "cursor", audience.name(), view.value(),
+            StringUtils.defaultString(query.getType()), StringUtils.defaultString(query.getCursor()),
+            String.valueOf(query.getSize()), String.valueOf(query.isWithTotal()));
+        return responseCache.get(key, () -> announcementSvc.listAnnouncementByCursor(query, audience)
+                .map(view::project))
+            .flatMap(body -> writeJson("public.list", body, validators));
+    }
+
+    private static String storeKey(String kind, AnnouncementQuery query, Audience audience) {
+        return String.join("|", "store", kind, audience.name(), query.normalizedKey());
+    }
+
+    Mono<ServerResponse> getFacets(ServerRequest request) {
+        return metrics.timeRequest("public.facets", "none", Audience.current(false)
+            .flatMap(audience -> conditionalGet.respond(request, "facets." + audience.name(), true,
+                validators -> responseCache.get("facets|" + audience.name(), () -> facets.counts(audience))
+                    .flatMap(body -> writeJson("public.facets", body, validators)))));
+    }
+
+    Mono<ServerResponse> getAnnouncement(ServerRequest request) {
+        String name = request.pathVariable("name");
+        var view = new AnnouncementQuery(request).getView().forPublic();
+        return metrics.timeRequest("public.item", view.value(), Audience.current(false)
+            .flatMap(audience -> conditionalGet.respond(request, audience.name() + '.' + view.value(), true,
+                validators -> announcementSvc.getVisibleAnnouncement(name, audience)
+                    .flatMap(announcement -> responseCache.get(
+                        String.join("|", "item", audience.name(), view.value(), name),
+                        () -> Mono.just(view.project(announcement))))
+                    .flatMap(body -> writeJson("public.item", body, validators))
+                    .switchIfEmpty(ServerResponse.notFound().headers(validators).build()))));
+    }
+
+    Mono<ServerResponse> resolvePopup(ServerRequest request) {
+        String path = request.queryParam("path").orElse("/");
+        // 弹窗脚本只需要弹窗视图
+        return metrics.timeRequest("public.popup", "popup", Audience.current(true)
+            .zipWith(popupCapSigner.read(capCookie(request)))
+            .flatMap(tuple -> {
+                var audience = tuple.getT1();
+                var capToken = tuple.getT2();
+                return conditionalGet.respond(request, popupVariant(audience, capToken, request), true,
+                    validators -> announcementSvc.resolvePopup(audience, path, capToken)
+                        .flatMap(announcement -> responseCache.get("popup|" + announcement.getMetadata().getName(),
+                            () -> Mono.just(AnnouncementView.POPUP.project(announcement))))
+                        .flatMap(body -> writeJson("public.popup", body, validators))
+                        .switchIfEmpty(ServerResponse.noContent().headers(validators).build()));
+            }));
+    }
+
+    Mono<ServerResponse> recordPopupShown(ServerRequest request) {
+        var name = request.queryParam("name").filter(StringUtils::isNotBlank).orElse(null);
+        if (name == null) {
+            return ServerResponse.noContent().build();
+        }
+        boolean secure = "https".equalsIgnoreCase(request.uri().getScheme());
+        // 只记录当前访客可见且设置了弹出间隔的弹窗，避免无关名称挤占令牌
+        return metrics.timeRequest("public.popup", "shown", Audience.current(true)
+            .flatMap(audience -> announcementSvc.getVisibleAnnouncement(name, audience))
+            .filter(announcement -> announcement.getAnnouncementSpec().getPopupInterval() > 0)
+            .flatMap(announcement -> popupCapSigner.read(capCookie(request))
+                .map(token -> token.record(name, Instant.now())))
+            .flatMap(token -> popupCapSigner.write(token, secure))
+            .flatMap(cookie -> ServerResponse.noContent().cookie(cookie).build())
+            .onErrorResume(e -> {
+                log.warn("Failed to record popup impression for {}", name, e);
+                return Mono.empty();
             })
-            .flatMap(announcements -> ServerResponse.ok().bodyValue(announcements));
+            .switchIfEmpty(ServerResponse.noContent().build()));
+    }
+
+    @Nullable
+    private static String capCookie(ServerRequest request) {
+        var cookie = request.cookies().getFirst(PopupCapSigner.COOKIE_NAME);
+        return cookie == null ? null : cookie.getValue();
+    }
+
+    /**
+     * 带频率令牌的请求结果还取决于令牌内容和当前时间，ETag 按令牌和分钟区分，间隔到期后不会误命中
+     */
+    private static String popupVariant(Audience audience, PopupCapToken token, ServerRequest request) {
+        if (token.isEmpty()) {
+            return audience.name();
+        }
+        return audience.name() + '.' + Integer.toHexString(capCookie(request).hashCode())
+            + '.' + Long.toString(Instant.now().getEpochSecond() / 60, Character.MAX_RADIX);
+    }
+
+    Mono<ServerResponse> collectBeacon(ServerRequest request) {
+        // 只做内存累加，格式错误的上报直接丢弃，不影响页面
+        return metrics.timeRequest("public.beacon", "none", request.bodyToMono(BeaconRequest.class)
+            .doOnNext(statsCollector::record)
+            .onErrorResume(e -> Mono.empty())
+            .then(ServerResponse.noContent().build()));
+    }
+
+    Mono<ServerResponse> streamEvents(ServerRequest request) {
+        String lastEventId = Optional.ofNullable(request.headers().firstHeader("Last-Event-ID"))
+            .or(() -> request.queryParam("lastEventId"))
+            .orElse(null);
+        return Audience.current(false)
+            .flatMap(audience -> ServerResponse.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                // 避免反向代理缓冲事件流
+                .header("X-Accel-Buffering", "no")
+                .body(BodyInserters.fromServerSentEvents(streamHub.subscribe(audience, lastEventId))));
+    }
+
+    private Mono<ServerResponse> writeJson(String route, byte[] body, Consumer<HttpHeaders> validators) {
+        metrics.payloadBytes(route, body.length);
+        return ServerResponse.ok()
+            .headers(validators)
+            .contentType(MediaType.APPLICATION_JSON)
+            .contentLength(body.length)
+            .body(BodyInserters.fromDataBuffers(AnnouncementResponseCache.asDataBuffer(body)));
     }
 
     @Override
@@ -0,0 +1,79 @@
+package cc.lik.announcement.endpoint;
+
+import cc.lik.announcement.cache.ContentVersion;
+import cc.lik.announcement.setting.BasicSetting;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import run.halo.app.plugin.ReactiveSettingFetcher;
+
+/**
+ * 公开接口的条件请求支持。
+ * <p>根据 {@link ContentVersion} 生成强 ETag 和 Last-Modified，请求携带的 ETag 仍然有效时
+ * 直接返回 304，不再执行查询和序列化。</p>
+ * <p>只按 ETag 判断：Last-Modified 只精确到秒，且是全局的，无法区分受众和弹窗 Cookie，
+ * 按 If-Modified-Since 判断会把同一秒内的变更或其他受众的响应误判为未修改。</p>
+ *
+ * @author Handsome
+ */
+@Component
+@RequiredArgsConstructor
+class ConditionalGet {
+
+    private static final String DEFAULT_CACHE_CONTROL = "no-cache";
+
+    private final ContentVersion contentVersion;
+    private final ReactiveSettingFetcher settingFetcher;
+
+    /**
+     * 处理条件请求
+     *
+     * @param variant 同一内容版本下区分不同响应的标识，如受众
+     * @param perUser 响应是否随登录状态变化
+     * @param handler 校验值失效时生成完整响应，需将传入的校验头写入响应
+     */
+    Mono<ServerResponse> respond(ServerRequest request, String variant, boolean perUser,
+        Function<Consumer<HttpHeaders>, Mono<ServerResponse>> handler) {
+        // 先取版本再查询，保证 ETag 不会比响应内容更新
+        var stamp = contentVersion.current();
+        var etag = stamp.etag(variant);
+        return cacheControl().flatMap(cacheControl -> {
+            Consumer<HttpHeaders> validators = headers -> {
+                headers.setETag(etag);
+                headers.setLastModified(stamp.lastModified());
+                headers.setCacheControl(cacheControl);
+                if (perUser) {
+                    headers.add(HttpHeaders.VARY, HttpHeaders.COOKIE);
+                }
+            };
+            if (isNotModified(request, etag)) {
+                return ServerResponse.status(HttpStatus.NOT_MODIFIED).headers(validators).build();
+            }
+            return handler.apply(validators);
+        });
+    }
+
+    private Mono<String> cacheControl() {
+        return settingFetcher.fetch(BasicSetting.GROUP, BasicSetting.class)
+            .mapNotNull(BasicSetting::getCacheControl)
+            .filter(StringUtils::isNotBlank)
+            .defaultIfEmpty(DEFAULT_CACHE_CONTROL);
+    }
+
+    static boolean isNotModified(ServerRequest request, String etag) {
+        // 使用弱比较；不带 If-None-Match 的请求一律返回完整响应
+        return request.headers().header(HttpHeaders.IF_NONE_MATCH).stream()
+            .flatMap(value -> Arrays.stream(value.split(",")))
+            .map(String::trim)
+            .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+            .anyMatch(tag -> "*".equals(tag) || etag.equals(tag));
+    }
+}
@@ -0,0 +1,41 @@
+package cc.lik.announcement.event;
+
+import cc.lik.announcement.extension.Announcement;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.lang.Nullable;
+
+/**
+ * 公告快照中的公告发生变化。
+ * <p>新增时 previous 为空，删除时 current 为空。事件在快照内按变更顺序同步发布，
+ * 监听者只应做内存中的轻量处理。</p>
+ *
+ * @author Handsome
+ */
+@Getter
+public class AnnouncementChangedEvent extends ApplicationEvent {
+
+    @Nullable
+    private final Announcement previous;
+
+    @Nullable
+    private final Announcement current;
+
+    /**
+     * 是否为快照首次加载产生的事件，而非真实的变更
+     */
+    private final boolean initialLoad;
+
+    public AnnouncementChangedEvent(Object source, @Nullable Announcement previous,
+        @Nullable Announcement current, boolean initialLoad) {
+        super(source);
+        this.previous = previous;
+        this.current = current;
+        this.initialLoad = initialLoad;
+    }
+
+    public String getName() {
+        var announcement = current != null ? current : previous;
+        return announcement.getMetadata().getName();
+    }
+}
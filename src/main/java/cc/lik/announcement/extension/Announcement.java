@@ -5,6 +5,7 @@ import static cc.lik.announcement.extension.Announcement.KIND;
 import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode.REQUIRED;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -22,6 +23,24 @@ public class Announcement extends AbstractExtension {
     public static final String KIND = "Announcement";
     @Schema(requiredMode = REQUIRED)
     private AnnouncementSpec announcementSpec;
+
+    @Schema(description = "由调谐器根据正文生成的渲染结果，只读")
+    private AnnouncementStatus status;
+
+    @Data
+    public static class AnnouncementStatus {
+        @Schema(description = "清洗后的正文 HTML")
+        private String renderedContent;
+        @Schema(description = "纯文本摘要")
+        private String excerpt;
+        @Schema(description = "正文字数")
+        private int wordCount;
+        @Schema(description = "生成渲染结果时正文的 SHA-256 摘要")
+        private String contentHash;
+        @Schema(description = "当前是否处于展示时间窗口内")
+        private Boolean active;
+    }
+
     @Data
     public static class AnnouncementSpec {
         @Schema(requiredMode = REQUIRED)
@@ -57,6 +76,12 @@ public class Announcement extends AbstractExtension {
         @Schema(description = "URL路径匹配规则，支持通配符*，每行一个，为空或/表示仅首页")
         private String urlPatterns;
 
+        // 展示时间窗口
+        @Schema(description = "开始展示时间，为空表示立即展示")
+        private Instant startAt;
+        @Schema(description = "结束展示时间，为空表示一直展示")
+        private Instant endAt;
+
         // 弹窗图标配置
         @Schema(description = "弹窗图标，Iconify 图标名称，如 mdi:bell")
         private String popupIcon;
@@ -0,0 +1,40 @@
+package cc.lik.announcement.extension;
+
+import static cc.lik.announcement.extension.AnnouncementStats.KIND;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import run.halo.app.core.extension.attachment.Constant;
+import run.halo.app.extension.AbstractExtension;
+import run.halo.app.extension.GVK;
+
+/**
+ * 公告的访问统计，名称与对应公告相同
+ *
+ * @author Handsome
+ */
+@Data
+@ToString(callSuper = true)
+@GVK(kind = KIND, group = "announcement.lik.cc",
+    version = Constant.VERSION, singular = "announcementstats", plural = "announcementstats")
+@EqualsAndHashCode(callSuper = true)
+public class AnnouncementStats extends AbstractExtension {
+
+    public static final String KIND = "AnnouncementStats";
+
+    private StatsSpec spec = new StatsSpec();
+
+    @Data
+    public static class StatsSpec {
+        @Schema(description = "弹窗曝光次数")
+        private long impressions;
+        @Schema(description = "主按钮点击次数")
+        private long primaryClicks;
+        @Schema(description = "副按钮点击次数")
+        private long secondaryClicks;
+        @Schema(description = "关闭次数（关闭按钮、点击外部、ESC 或自动关闭）")
+        private long dismissals;
+    }
+}
@@ -0,0 +1,44 @@
+package cc.lik.announcement.extension;
+
+import static cc.lik.announcement.extension.ArchivedAnnouncement.KIND;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import run.halo.app.core.extension.attachment.Constant;
+import run.halo.app.extension.AbstractExtension;
+import run.halo.app.extension.GVK;
+
+/**
+ * 归档的公告，名称与原公告相同。
+ * <p>与公告分属不同的类型，只建立公开列表翻页所需的少量索引，不进入公告快照、弹窗匹配和搜索索引。</p>
+ *
+ * @author Handsome
+ */
+@Data
+@ToString(callSuper = true)
+@GVK(kind = KIND, group = "announcement.lik.cc",
+    version = Constant.VERSION, singular = "archivedannouncement", plural = "archivedannouncements")
+@EqualsAndHashCode(callSuper = true)
+public class ArchivedAnnouncement extends AbstractExtension {
+
+    public static final String KIND = "ArchivedAnnouncement";
+
+    private Announcement.AnnouncementSpec announcementSpec;
+
+    private Announcement.AnnouncementStatus status;
+
+    private ArchiveInfo archive = new ArchiveInfo();
+
+    @Data
+    public static class ArchiveInfo {
+        @Schema(description = "原公告的创建时间，归档列表按此排序")
+        private Instant originalCreationTimestamp;
+        @Schema(description = "归档时间")
+        private Instant archivedAt;
+        @Schema(description = "归档原因：age、expired 或 manual")
+        private String reason;
+    }
+}
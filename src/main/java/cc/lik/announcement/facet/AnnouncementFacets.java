@@ -0,0 +1,121 @@
+package cc.lik.announcement.facet;
+
+import cc.lik.announcement.Audience;
+import cc.lik.announcement.cache.AnnouncementSnapshot;
+import cc.lik.announcement.cache.AnnouncementSnapshot.Views;
+import cc.lik.announcement.event.AnnouncementChangedEvent;
+import cc.lik.announcement.extension.Announcement;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 公告的分面计数。
+ * <p>按类型、可见范围、置顶和弹窗计数，分为全部公告和各受众可见的公告两类范围。
+ * 计数随快照的变更事件增量维护：先减去变更前的贡献，再加上变更后的贡献，读取时不扫描公告。</p>
+ *
+ * @author Handsome
+ */
+@Component
+public class AnnouncementFacets {
+
+    /**
+     * 全部公告的范围，不考虑可见性和展示时间窗口
+     */
+    public static final String ALL = "all";
+
+    private final AnnouncementSnapshot snapshot;
+    private final Map<String, Counter> scopes = new LinkedHashMap<>();
+
+    public AnnouncementFacets(AnnouncementSnapshot snapshot) {
+        this.snapshot = snapshot;
+        scopes.put(ALL, new Counter());
+        for (Audience audience : Audience.values()) {
+            scopes.put(audience.name(), new Counter());
+        }
+    }
+
+    @EventListener
+    public synchronized void onAnnouncementChanged(AnnouncementChangedEvent event) {
+        apply(event.getPrevious(), -1);
+        apply(event.getCurrent(), 1);
+    }
+
+    /**
+     * 受众可见公告的计数，快照未加载时先触发加载
+     */
+    public Mono<FacetCounts> counts(Audience audience) {
+        return snapshot.views().then(Mono.fromSupplier(() -> read(audience.name())));
+    }
+
+    /**
+     * 全部范围的计数，键为 {@link #ALL} 和受众名称
+     */
+    public Mono<Map<String, FacetCounts>> all() {
+        return snapshot.views().then(Mono.fromSupplier(this::readAll));
+    }
+
+    private synchronized FacetCounts read(String scope) {
+        return scopes.get(scope).toCounts();
+    }
+
+    private synchronized Map<String, FacetCounts> readAll() {
+        var result = new LinkedHashMap<String, FacetCounts>();
+        scopes.forEach((scope, counter) -> result.put(scope, counter.toCounts()));
+        return result;
+    }
+
+    private void apply(@Nullable Announcement announcement, int delta) {
+        if (announcement == null || announcement.getAnnouncementSpec() == null) {
+            return;
+        }
+        scopes.get(ALL).add(announcement, delta);
+        for (Audience audience : Audience.values()) {
+            if (Views.isVisibleTo(announcement, audience)) {
+                scopes.get(audience.name()).add(announcement, delta);
+            }
+        }
+    }
+
+    private static final class Counter {
+
+        private final Map<String, Long> types = new TreeMap<>();
+        private final Map<String, Long> permissions = new TreeMap<>();
+        private long total;
+        private long pinned;
+        private long popup;
+
+        void add(Announcement announcement, int delta) {
+            var spec = announcement.getAnnouncementSpec();
+            total += delta;
+            if (StringUtils.isNotBlank(spec.getType())) {
+                increment(types, spec.getType(), delta);
+            }
+            if (spec.getPermissions() != null) {
+                increment(permissions, spec.getPermissions().name(), delta);
+            }
+            if (Boolean.TRUE.equals(spec.getEnablePinning())) {
+                pinned += delta;
+            }
+            if (Boolean.TRUE.equals(spec.getEnablePopup())) {
+                popup += delta;
+            }
+        }
+
+        FacetCounts toCounts() {
+            return new FacetCounts(total, Collections.unmodifiableMap(new TreeMap<>(types)),
+                Collections.unmodifiableMap(new TreeMap<>(permissions)), pinned, popup);
+        }
+
+        // 计数归零的键直接移除，避免已删除的类型一直留在结果里
+        private static void increment(Map<String, Long> counts, String key, int delta) {
+            counts.merge(key, (long) delta, (a, b) -> a + b == 0 ? null : a + b);
+        }
+    }
+}
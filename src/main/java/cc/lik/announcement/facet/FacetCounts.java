@@ -0,0 +1,17 @@
+package cc.lik.announcement.facet;
+
+import java.util.Map;
+
+/**
+ * 一个范围内的公告计数
+ *
+ * @param total 公告总数
+ * @param types 按类型计数，未设置类型的公告只计入总数
+ * @param permissions 按可见范围计数
+ * @param pinned 置顶的公告数
+ * @param popup 开启弹窗的公告数
+ * @author Handsome
+ */
+public record FacetCounts(long total, Map<String, Long> types, Map<String, Long> permissions,
+                          long pinned, long popup) {
+}
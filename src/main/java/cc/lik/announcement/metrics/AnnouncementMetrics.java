@@ -0,0 +1,141 @@
+package cc.lik.announcement.metrics;
+
+import cc.lik.announcement.AnnouncementQuery;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * 插件的 Micrometer 指标。
+ * <p>优先使用 Halo 提供的 {@link MeterRegistry}，不可用时退回全局注册表。
+ * 标签只包含路由、查询形态、结果来源等有限取值，不包含公告名称或请求参数值。</p>
+ * <ul>
+ *     <li>{@code announcement.requests}：接口耗时，标签 route、shape、outcome，带百分位直方图</li>
+ *     <li>{@code announcement.store.requests}：访问存储的次数，标签 operation</li>
+ *     <li>{@code announcement.result.size}：查询结果条数，标签 source</li>
+ *     <li>{@code announcement.payload.bytes}：响应体字节数，标签 route</li>
+ *     <li>{@code announcement.head.render}：页面 head 注入耗时</li>
+ *     <li>{@code announcement.singleflight}：合并并发查询的次数，标签 role 为 leader（实际执行）、joined（共享结果）或 fallback（等待超时后自行执行）</li>
+ * </ul>
+ *
+ * @author Handsome
+ */
+@Component
+public class AnnouncementMetrics {
+
+    private final MeterRegistry registry;
+    // 按标签组合缓存指标，避免每次记录都构造指标 id
+    private final Map<String, Timer> requestTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> storeCounters = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> resultSizes = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> payloadBytes = new ConcurrentHashMap<>();
+    private final Map<String, Counter> singleFlightCounters = new ConcurrentHashMap<>();
+    private final Timer headRenderTimer;
+
+    public AnnouncementMetrics(ObjectProvider<MeterRegistry> registryProvider) {
+        this.registry = registryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+        this.headRenderTimer = Timer.builder("announcement.head.render")
+            .description("Time spent injecting the announcement head fragment")
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    /**
+     * 查询形态，如 list、popup+type、list+keyword+cursor
+     */
+    public static String shape(AnnouncementQuery query) {
+        var shape = new StringBuilder(Boolean.TRUE.equals(query.getPopup()) ? "popup" : "list");
+        if (StringUtils.isNotBlank(query.getKeyword())) {
+            shape.append("+keyword");
+        }
+        if (StringUtils.isNotBlank(query.getType())) {
+            shape.append("+type");
+        }
+        if (query.isCursorMode()) {
+            shape.append("+cursor");
+        }
+        if (!query.isSnapshotServable() && StringUtils.isBlank(query.getKeyword())) {
+            shape.append("+filter");
+        }
+        return shape.toString();
+    }
+
+    /**
+     * 记录接口从订阅到结束的耗时
+     */
+    public <T> Mono<T> timeRequest(String route, String shape, Mono<T> response) {
+        return Mono.defer(() -> {
+            var sample = Timer.start(registry);
+            return response.doFinally(signal -> sample.stop(requestTimer(route, shape, outcome(signal))));
+        });
+    }
+
+    public <T> Mono<T> timeHeadRender(Mono<T> render) {
+        return Mono.defer(() -> {
+            var sample = Timer.start(registry);
+            return render.doFinally(signal -> sample.stop(headRenderTimer));
+        });
+    }
+
+    public void storeRoundTrip(String operation) {
+        storeCounters.computeIfAbsent(operation, key -> Counter.builder("announcement.store.requests")
+                .description("Round-trips to the extension store")
+                .tag("operation", key)
+                .register(registry))
+            .increment();
+    }
+
+    public void resultSize(String source, long size) {
+        resultSizes.computeIfAbsent(source, key -> DistributionSummary.builder("announcement.result.size")
+                .description("Number of announcements returned by a query")
+                .tag("source", key)
+                .register(registry))
+            .record(size);
+    }
+
+    public void payloadBytes(String route, long bytes) {
+        payloadBytes.computeIfAbsent(route, key -> DistributionSummary.builder("announcement.payload.bytes")
+                .description("Size of encoded response bodies")
+                .baseUnit("bytes")
+                .tag("route", key)
+                .publishPercentileHistogram()
+                .register(registry))
+            .record(bytes);
+    }
+
+    public void singleFlight(String role) {
+        singleFlightCounters.computeIfAbsent(role, key -> Counter.builder("announcement.singleflight")
+                .description("Concurrent identical queries executed, joined or retried alone after waiting too long")
+                .tag("role", key)
+                .register(registry))
+            .increment();
+    }
+
+    private Timer requestTimer(String route, String shape, String outcome) {
+        return requestTimers.computeIfAbsent(route + '|' + shape + '|' + outcome,
+            key -> Timer.builder("announcement.requests")
+                .description("Announcement endpoint latency")
+                .tag("route", route)
+                .tag("shape", shape)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    private static String outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_ERROR -> "error";
+            case CANCEL -> "cancel";
+            default -> "success";
+        };
+    }
+}
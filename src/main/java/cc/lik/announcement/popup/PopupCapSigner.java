@@ -0,0 +1,143 @@
+package cc.lik.announcement.popup;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.ResponseCookie;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import run.halo.app.extension.Metadata;
+import run.halo.app.extension.ReactiveExtensionClient;
+import run.halo.app.extension.Secret;
+
+/**
+ * 弹窗频率令牌的签名和 Cookie 编解码。
+ * <p>Cookie 内容为 {@code base64url(版本 | 令牌 | HMAC-SHA256 前 16 字节)}，服务端不保存任何访客状态。
+ * 签名密钥首次使用时随机生成并保存在 Secret 中，插件重启或多实例部署时保持一致。
+ * 签名无效或格式不正确的 Cookie 视为空令牌。</p>
+ *
+ * @author Handsome
+ */
+@Slf4j
+@Component
+public class PopupCapSigner {
+
+    public static final String COOKIE_NAME = "likcc_popup_cap";
+
+    static final String SECRET_NAME = "plugin-announcement-popup-cap-key";
+    static final String SECRET_KEY = "hmacKey";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte VERSION = 1;
+    private static final int MAC_BYTES = 16;
+    private static final int KEY_BYTES = 32;
+    // 间隔以小时计，Cookie 保留一年足以覆盖常见配置
+    private static final Duration COOKIE_MAX_AGE = Duration.ofDays(365);
+
+    private final Mono<SecretKeySpec> key;
+
+    public PopupCapSigner(ReactiveExtensionClient client) {
+        this.key = Mono.defer(() -> client.fetch(Secret.class, SECRET_NAME))
+            .switchIfEmpty(Mono.defer(() -> client.create(newSecret())
+                // 其他实例可能同时创建，以先写入的为准
+                .onErrorResume(e -> client.fetch(Secret.class, SECRET_NAME))))
+            .map(PopupCapSigner::keyOf)
+            .doOnError(e -> log.warn("Failed to load popup cap key, will retry on next access", e))
+            .cache(loaded -> Duration.ofMillis(Long.MAX_VALUE), e -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    /**
+     * 解析并校验 Cookie，缺失或无效时返回空令牌
+     */
+    public Mono<PopupCapToken> read(@Nullable String cookieValue) {
+        if (StringUtils.isBlank(cookieValue)) {
+            return Mono.just(PopupCapToken.EMPTY);
+        }
+        return key.map(spec -> verify(spec, cookieValue))
+            .onErrorReturn(PopupCapToken.EMPTY);
+    }
+
+    /**
+     * 签名令牌并生成 Cookie
+     */
+    public Mono<ResponseCookie> write(PopupCapToken token, boolean secure) {
+        return key.map(spec -> ResponseCookie.from(COOKIE_NAME, sign(spec, token))
+            .path("/")
+            .httpOnly(true)
+            .secure(secure)
+            .sameSite("Lax")
+            .maxAge(COOKIE_MAX_AGE)
+            .build());
+    }
+
+    static String sign(SecretKeySpec spec, PopupCapToken token) {
+        var payload = token.toBytes();
+        var buffer = ByteBuffer.allocate(1 + payload.length + MAC_BYTES);
+        buffer.put(VERSION).put(payload);
+        var signature = mac(spec, buffer.array(), buffer.position());
+        buffer.put(signature);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    static PopupCapToken verify(SecretKeySpec spec, String cookieValue) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cookieValue);
+        } catch (IllegalArgumentException e) {
+            return PopupCapToken.EMPTY;
+        }
+        if (bytes.length < 1 + MAC_BYTES || bytes[0] != VERSION) {
+            return PopupCapToken.EMPTY;
+        }
+        int payloadEnd = bytes.length - MAC_BYTES;
+        var expected = mac(spec, bytes, payloadEnd);
+        if (!MessageDigest.isEqual(expected, Arrays.copyOfRange(bytes, payloadEnd, bytes.length))) {
+            return PopupCapToken.EMPTY;
+        }
+        var token = PopupCapToken.fromBytes(Arrays.copyOfRange(bytes, 1, payloadEnd));
+        return token == null ? PopupCapToken.EMPTY : token;
+    }
+
+    private static byte[] mac(SecretKeySpec spec, byte[] data, int length) {
+        try {
+            // Mac 实例不是线程安全的，每次签名单独创建
+            var mac = Mac.getInstance(ALGORITHM);
+            mac.init(spec);
+            mac.update(data, 0, length);
+            return Arrays.copyOf(mac.doFinal(), MAC_BYTES);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to sign popup cap token", e);
+        }
+    }
+
+    private static Secret newSecret() {
+        var bytes = new byte[KEY_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        var secret = new Secret();
+        var metadata = new Metadata();
+        metadata.setName(SECRET_NAME);
+        secret.setMetadata(metadata);
+        secret.setType("Opaque");
+        secret.setData(Map.of(SECRET_KEY, bytes));
+        return secret;
+    }
+
+    private static SecretKeySpec keyOf(Secret secret) {
+        var data = secret.getData();
+        var bytes = data == null ? null : data.get(SECRET_KEY);
+        if (bytes == null || bytes.length < KEY_BYTES) {
+            throw new IllegalStateException("Secret " + SECRET_NAME + " does not contain a valid key");
+        }
+        return new SecretKeySpec(bytes, ALGORITHM);
+    }
+}
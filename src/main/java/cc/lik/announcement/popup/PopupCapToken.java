@@ -0,0 +1,128 @@
+package cc.lik.announcement.popup;
+
+import cc.lik.announcement.extension.Announcement;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import org.springframework.lang.Nullable;
+
+/**
+ * 访客最近看过的弹窗及时间，用于在服务端按 {@code popupInterval} 限制弹出频率。
+ * <p>最多记录 {@link #MAX_ENTRIES} 个弹窗，每项为名称的 32 位哈希和以分钟计的展示时间，共 8 字节；
+ * 超出时淘汰最早的一项。对象不可变，签名和编码由 {@link PopupCapSigner} 负责。</p>
+ *
+ * @author Handsome
+ */
+public final class PopupCapToken {
+
+    static final int MAX_ENTRIES = 8;
+    static final int ENTRY_BYTES = 8;
+
+    public static final PopupCapToken EMPTY = new PopupCapToken(new int[0], new int[0]);
+
+    private final int[] hashes;
+    // 自纪元起的分钟数，int 足以表示到数千年后
+    private final int[] minutes;
+
+    private PopupCapToken(int[] hashes, int[] minutes) {
+        this.hashes = hashes;
+        this.minutes = minutes;
+    }
+
+    public boolean isEmpty() {
+        return hashes.length == 0;
+    }
+
+    /**
+     * 公告是否仍在弹出间隔内，未设置间隔的公告不受限制
+     */
+    public boolean isCapped(Announcement announcement, Instant now) {
+        var spec = announcement.getAnnouncementSpec();
+        if (spec == null || spec.getPopupInterval() <= 0 || isEmpty()) {
+            return false;
+        }
+        int index = indexOf(announcement.getMetadata().getName());
+        return index >= 0 && minutesOf(now) - (long) minutes[index] < spec.getPopupInterval() * 60L;
+    }
+
+    /**
+     * 记录一次展示，返回新的令牌
+     */
+    public PopupCapToken record(String name, Instant now) {
+        int hash = name.hashCode();
+        int index = indexOf(name);
+        int size = hashes.length;
+        int[] nextHashes;
+        int[] nextMinutes;
+        if (index >= 0) {
+            nextHashes = hashes.clone();
+            nextMinutes = minutes.clone();
+        } else if (size < MAX_ENTRIES) {
+            nextHashes = Arrays.copyOf(hashes, size + 1);
+            nextMinutes = Arrays.copyOf(minutes, size + 1);
+            index = size;
+        } else {
+            nextHashes = hashes.clone();
+            nextMinutes = minutes.clone();
+            index = oldest();
+        }
+        nextHashes[index] = hash;
+        nextMinutes[index] = minutesOf(now);
+        return new PopupCapToken(nextHashes, nextMinutes);
+    }
+
+    byte[] toBytes() {
+        var buffer = ByteBuffer.allocate(1 + hashes.length * ENTRY_BYTES);
+        buffer.put((byte) hashes.length);
+        for (int i = 0; i < hashes.length; i++) {
+            buffer.putInt(hashes[i]).putInt(minutes[i]);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * 解析令牌内容，格式不正确时返回空
+     */
+    @Nullable
+    static PopupCapToken fromBytes(byte[] bytes) {
+        if (bytes.length < 1) {
+            return null;
+        }
+        int size = bytes[0];
+        if (size < 0 || size > MAX_ENTRIES || bytes.length != 1 + size * ENTRY_BYTES) {
+            return null;
+        }
+        var buffer = ByteBuffer.wrap(bytes, 1, size * ENTRY_BYTES);
+        int[] hashes = new int[size];
+        int[] minutes = new int[size];
+        for (int i = 0; i < size; i++) {
+            hashes[i] = buffer.getInt();
+            minutes[i] = buffer.getInt();
+        }
+        return new PopupCapToken(hashes, minutes);
+    }
+
+    private int indexOf(String name) {
+        int hash = name.hashCode();
+        for (int i = 0; i < hashes.length; i++) {
+            if (hashes[i] == hash) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int oldest() {
+        int oldest = 0;
+        for (int i = 1; i < minutes.length; i++) {
+            if (minutes[i] < minutes[oldest]) {
+                oldest = i;
+            }
+        }
+        return oldest;
+    }
+
+    private static int minutesOf(Instant instant) {
+        return (int) (instant.getEpochSecond() / 60);
+    }
+}
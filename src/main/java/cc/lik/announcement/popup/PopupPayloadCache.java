@@ -0,0 +1,67 @@
+package cc.lik.announcement.popup;
+
+import cc.lik.announcement.Audience;
+import cc.lik.announcement.cache.AnnouncementSnapshot;
+import cc.lik.announcement.extension.Announcement;
+import cc.lik.announcement.view.AnnouncementView;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import run.halo.app.infra.utils.JsonUtils;
+
+/**
+ * 内联到页面 head 的弹窗数据片段缓存。
+ * <p>片段按公告名称缓存预序列化的 {@code <script type="application/json">}，
+ * 快照变化后整体失效，渲染页面时只做一次内存匹配和字符串拼接。</p>
+ *
+ * @author Handsome
+ */
+@Component
+@RequiredArgsConstructor
+public class PopupPayloadCache {
+
+    static final String ELEMENT_ID = "likcc-announcement-popup";
+
+    // 当前路径没有弹窗时同样输出片段，告知前端无需再请求接口
+    private static final String EMPTY_FRAGMENT = script("null");
+
+    private final AnnouncementSnapshot snapshot;
+
+    private volatile Fragments fragments = new Fragments(-1, Map.of());
+
+    /**
+     * 获取受众在该路径下的弹窗数据片段，快照尚未就绪时为空，由前端自行请求接口。
+     * 仍在弹出间隔内的弹窗直接跳过，不会序列化到页面中。
+     */
+    public Optional<String> fragment(Audience audience, String path, PopupCapToken capToken) {
+        return snapshot.viewsIfReady().map(views -> views.popupMatcher(audience)
+            .first(path, capToken, Instant.now())
+            .map(popup -> fragmentsOf(views.getGeneration()).byName()
+                .computeIfAbsent(popup.getMetadata().getName(), name -> script(toJson(popup))))
+            .orElse(EMPTY_FRAGMENT));
+    }
+
+    private Fragments fragmentsOf(long generation) {
+        var current = fragments;
+        if (current.generation() != generation) {
+            current = new Fragments(generation, new ConcurrentHashMap<>());
+            fragments = current;
+        }
+        return current;
+    }
+
+    private static String toJson(Announcement announcement) {
+        // 只输出弹窗视图；转义 <，避免内容中的 </script> 提前闭合标签
+        return JsonUtils.objectToJson(AnnouncementView.POPUP.project(announcement)).replace("<", "\\u003c");
+    }
+
+    private static String script(String json) {
+        return "<script type=\"application/json\" id=\"" + ELEMENT_ID + "\">" + json + "</script>\n";
+    }
+
+    private record Fragments(long generation, Map<String, String> byName) {
+    }
+}
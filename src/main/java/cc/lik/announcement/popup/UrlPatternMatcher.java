@@ -0,0 +1,238 @@
+package cc.lik.announcement.popup;
+
+import cc.lik.announcement.extension.Announcement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 弹窗 URL 路径匹配器。
+ * <p>将一组有序公告的 {@code urlPatterns} 编译成按路径段划分的前缀树，匹配耗时只与路径长度相关，
+ * 而不随公告数量和规则数量增长。规则语义与前端一致：</p>
+ * <ul>
+ *     <li>为空或只有 {@code /} 表示仅首页</li>
+ *     <li>{@code *} 匹配任意字符（不包括 {@code /}）</li>
+ *     <li>{@code **} 匹配任意字符（包括 {@code /}）</li>
+ * </ul>
+ * <p>编译后的匹配器不可变，可被多个请求并发使用。</p>
+ *
+ * @author Handsome
+ */
+public final class UrlPatternMatcher {
+
+    private static final String HOMEPAGE = "/";
+
+    private final List<Announcement> announcements;
+    private final Node root = new Node();
+    // 通配符 ** 与普通字符出现在同一段内（如 /posts**）时无法按段拆分，退化为预编译正则
+    private final List<IndexedPattern> crossSegmentPatterns = new ArrayList<>();
+
+    private UrlPatternMatcher(List<Announcement> announcements) {
+        this.announcements = announcements;
+    }
+
+    /**
+     * 编译匹配器，公告顺序即为匹配优先级
+     */
+    public static UrlPatternMatcher compile(List<Announcement> announcements) {
+        var matcher = new UrlPatternMatcher(List.copyOf(announcements));
+        for (int i = 0; i < announcements.size(); i++) {
+            var spec = announcements.get(i).getAnnouncementSpec();
+            for (String pattern : parsePatterns(spec == null ? null : spec.getUrlPatterns())) {
+                matcher.add(pattern, i);
+            }
+        }
+        return matcher;
+    }
+
+    /**
+     * 路径匹配的第一个公告
+     */
+    public Optional<Announcement> first(String path) {
+        var matched = match(path);
+        int index = matched.nextSetBit(0);
+        return index < 0 ? Optional.empty() : Optional.of(announcements.get(index));
+    }
+
+    /**
+     * 路径匹配的第一个未达到频率限制的公告，令牌为空时与 {@link #first(String)} 相同
+     */
+    public Optional<Announcement> first(String path, PopupCapToken capToken, Instant now) {
+        if (capToken.isEmpty()) {
+            return first(path);
+        }
+        var matched = match(path);
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            var announcement = announcements.get(i);
+            if (!capToken.isCapped(announcement, now)) {
+                return Optional.of(announcement);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 路径匹配的全部公告，按优先级排列
+     */
+    public List<Announcement> matches(String path) {
+        var matched = match(path);
+        var result = new ArrayList<Announcement>(matched.cardinality());
+        for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+            result.add(announcements.get(i));
+        }
+        return result;
+    }
+
+    BitSet match(String path) {
+        var normalized = StringUtils.isEmpty(path) ? HOMEPAGE : path;
+        var matched = new BitSet(announcements.size());
+        collect(root, normalized.split("/", -1), 0, matched);
+        for (IndexedPattern pattern : crossSegmentPatterns) {
+            if (!matched.get(pattern.index()) && pattern.pattern().matcher(normalized).matches()) {
+                matched.set(pattern.index());
+            }
+        }
+        return matched;
+    }
+
+    static List<String> parsePatterns(String patterns) {
+        if (StringUtils.isBlank(patterns)) {
+            return List.of(HOMEPAGE);
+        }
+        return patterns.lines()
+            .map(String::trim)
+            .filter(StringUtils::isNotEmpty)
+            .toList();
+    }
+
+    private void add(String pattern, int index) {
+        var segments = pattern.split("/", -1);
+        for (String segment : segments) {
+            if (segment.contains("**") && !segment.equals("**")) {
+                crossSegmentPatterns.add(new IndexedPattern(toRegex(pattern), index));
+                return;
+            }
+        }
+        var node = root;
+        for (String segment : segments) {
+            node = node.child(segment);
+        }
+        node.terminal.set(index);
+    }
+
+    private static void collect(Node node, String[] segments, int offset, BitSet matched) {
+        if (offset == segments.length) {
+            matched.or(node.terminal);
+            return;
+        }
+        var segment = segments[offset];
+        var literal = node.literals.get(segment);
+        if (literal != null) {
+            collect(literal, segments, offset + 1, matched);
+        }
+        if (node.anySegment != null) {
+            collect(node.anySegment, segments, offset + 1, matched);
+        }
+        for (GlobChild glob : node.globs) {
+            if (glob.matches(segment)) {
+                collect(glob.node(), segments, offset + 1, matched);
+            }
+        }
+        if (node.anyPath != null) {
+            // ** 至少消费一个路径段（可以为空段）
+            for (int next = offset + 1; next <= segments.length; next++) {
+                collect(node.anyPath, segments, next, matched);
+            }
+        }
+    }
+
+    private static Pattern toRegex(String pattern) {
+        var regex = new StringBuilder("^");
+        int i = 0;
+        while (i < pattern.length()) {
+            int star = pattern.indexOf('*', i);
+            if (star < 0) {
+                regex.append(Pattern.quote(pattern.substring(i)));
+                break;
+            }
+            if (star > i) {
+                regex.append(Pattern.quote(pattern.substring(i, star)));
+            }
+            if (star + 1 < pattern.length() && pattern.charAt(star + 1) == '*') {
+                regex.append(".*");
+                i = star + 2;
+            } else {
+                regex.append("[^/]*");
+                i = star + 1;
+            }
+        }
+        return Pattern.compile(regex.append('$').toString());
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private final List<GlobChild> globs = new ArrayList<>();
+        private final BitSet terminal = new BitSet();
+        private Node anySegment;
+        private Node anyPath;
+
+        Node child(String segment) {
+            if ("**".equals(segment)) {
+                if (anyPath == null) {
+                    anyPath = new Node();
+                }
+                return anyPath;
+            }
+            if ("*".equals(segment)) {
+                if (anySegment == null) {
+                    anySegment = new Node();
+                }
+                return anySegment;
+            }
+            if (segment.indexOf('*') >= 0) {
+                for (GlobChild glob : globs) {
+                    if (glob.glob().equals(segment)) {
+                        return glob.node();
+                    }
+                }
+                var glob = new GlobChild(segment, segment.split("\\*", -1), new Node());
+                globs.add(glob);
+                return glob.node();
+            }
+            return literals.computeIfAbsent(segment, s -> new Node());
+        }
+    }
+
+    /**
+     * 段内通配，如 {@code v*-beta}，按 * 拆分后顺序匹配各片段
+     */
+    private record GlobChild(String glob, String[] parts, Node node) {
+        boolean matches(String segment) {
+            var head = parts[0];
+            var tail = parts[parts.length - 1];
+            if (segment.length() < head.length() + tail.length()
+                || !segment.startsWith(head) || !segment.endsWith(tail)) {
+                return false;
+            }
+            int position = head.length();
+            int limit = segment.length() - tail.length();
+            for (int i = 1; i < parts.length - 1; i++) {
+                int found = segment.indexOf(parts[i], position);
+                if (found < 0 || found + parts[i].length() > limit) {
+                    return false;
+                }
+                position = found + parts[i].length();
+            }
+            return true;
+        }
+    }
+
+    private record IndexedPattern(Pattern pattern, int index) {
+    }
+}
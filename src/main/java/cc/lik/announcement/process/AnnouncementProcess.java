@@ -1,42 +1,91 @@
 package cc.lik.announcement.process;
 
+import cc.lik.announcement.Audience;
+import cc.lik.announcement.asset.AnnouncementAssets;
+import cc.lik.announcement.metrics.AnnouncementMetrics;
+import cc.lik.announcement.popup.PopupCapSigner;
+import cc.lik.announcement.popup.PopupPayloadCache;
+import cc.lik.announcement.setting.BasicSetting;
 import java.util.Properties;
-import lombok.RequiredArgsConstructor;
 import org.pf4j.PluginWrapper;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.util.PropertyPlaceholderHelper;
 import org.thymeleaf.context.ITemplateContext;
+import org.thymeleaf.context.IWebContext;
 import org.thymeleaf.model.IModel;
 import org.thymeleaf.model.IModelFactory;
 import org.thymeleaf.processor.element.IElementModelStructureHandler;
 import reactor.core.publisher.Mono;
+import run.halo.app.plugin.ReactiveSettingFetcher;
 import run.halo.app.theme.dialect.TemplateHeadProcessor;
 
 @Component
-@RequiredArgsConstructor
 public class AnnouncementProcess implements TemplateHeadProcessor {
 
     static final PropertyPlaceholderHelper PROPERTY_PLACEHOLDER_HELPER =
         new PropertyPlaceholderHelper("${", "}");
 
-    private final PluginWrapper pluginWrapper;
+    private final ReactiveSettingFetcher settingFetcher;
+    private final PopupPayloadCache popupPayloadCache;
+    private final PopupCapSigner popupCapSigner;
+    private final AnnouncementMetrics metrics;
+    // 插件版本和资源哈希在运行期间不会变化，脚本片段只需生成一次
+    private final String componentScript;
+
+    public AnnouncementProcess(PluginWrapper pluginWrapper, ReactiveSettingFetcher settingFetcher,
+        PopupPayloadCache popupPayloadCache, PopupCapSigner popupCapSigner, AnnouncementMetrics metrics,
+        AnnouncementAssets assets) {
+        this.settingFetcher = settingFetcher;
+        this.popupPayloadCache = popupPayloadCache;
+        this.popupCapSigner = popupCapSigner;
+        this.metrics = metrics;
+        this.componentScript = componentScript(pluginWrapper, assets);
+    }
 
     @Override
     public Mono<Void> process(ITemplateContext context, IModel model,
         IElementModelStructureHandler structureHandler) {
         final IModelFactory modelFactory = context.getModelFactory();
-        model.add(modelFactory.createText(componentScript()));
-        return Mono.empty();
+        model.add(modelFactory.createText(componentScript));
+        return metrics.timeHeadRender(settingFetcher.fetch(BasicSetting.GROUP, BasicSetting.class)
+            .filter(BasicSetting::isInlinePopup)
+            .flatMap(setting -> Audience.current(true))
+            .zipWith(popupCapSigner.read(cookie(context, PopupCapSigner.COOKIE_NAME)))
+            .mapNotNull(tuple -> popupPayloadCache.fragment(tuple.getT1(), requestPath(context), tuple.getT2())
+                .orElse(null))
+            .doOnNext(fragment -> model.add(modelFactory.createText(fragment)))
+            .then());
+    }
+
+    private static String requestPath(ITemplateContext context) {
+        if (context instanceof IWebContext webContext) {
+            return webContext.getExchange().getRequest().getRequestPath();
+        }
+        return "/";
+    }
+
+    @Nullable
+    private static String cookie(ITemplateContext context, String name) {
+        if (context instanceof IWebContext webContext) {
+            return webContext.getExchange().getRequest().getCookieValue(name);
+        }
+        return null;
     }
 
-    private String componentScript() {
+    private static String componentScript(PluginWrapper pluginWrapper, AnnouncementAssets assets) {
+        final String version = pluginWrapper.getDescriptor().getVersion();
         final Properties properties = new Properties();
-        properties.setProperty("version", pluginWrapper.getDescriptor().getVersion());
+        properties.setProperty("stylesheet", assets.url(AnnouncementAssets.STYLESHEET, version));
+        properties.setProperty("script", assets.url(AnnouncementAssets.SCRIPT, version));
+        // preload 让脚本与样式在解析到 body 之前就开始下载
         return PROPERTY_PLACEHOLDER_HELPER.replacePlaceholders("""
             <!-- announcement start -->
-            <link rel="stylesheet" href="/plugins/announcement/assets/static/announcement.css?version=${version}" />
-            <script defer src="/plugins/announcement/assets/static/announcement.umd.cjs?version=${version}"></script>
+            <link rel="preload" href="${stylesheet}" as="style" />
+            <link rel="preload" href="${script}" as="script" />
+            <link rel="stylesheet" href="${stylesheet}" />
+            <script defer src="${script}"></script>
             <!-- announcement end -->
             """, properties);
     }
-}
\ No newline at end of file
+}
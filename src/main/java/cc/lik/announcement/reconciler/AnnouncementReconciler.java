@@ -0,0 +1,117 @@
+package cc.lik.announcement.reconciler;
+
+import cc.lik.announcement.cache.AnnouncementSnapshot;
+import cc.lik.announcement.extension.Announcement;
+import cc.lik.announcement.extension.AnnouncementStats;
+import cc.lik.announcement.extension.ArchivedAnnouncement;
+import cc.lik.announcement.render.ContentRenderer;
+import cc.lik.announcement.schedule.PublishWindow;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import run.halo.app.extension.ExtensionClient;
+import run.halo.app.extension.controller.Controller;
+import run.halo.app.extension.controller.ControllerBuilder;
+import run.halo.app.extension.controller.Reconciler;
+
+/**
+ * 监听公告的增删改，将变更同步到内存快照，公告删除时一并清理其统计（归档的公告除外）。
+ * 设置了展示时间窗口的公告会在开始和结束时刻重新调谐，以切换展示状态
+ *
+ * @author Handsome
+ */
+@Component
+@RequiredArgsConstructor
+public class AnnouncementReconciler implements Reconciler<Reconciler.Request> {
+
+    private final ExtensionClient client;
+    private final AnnouncementSnapshot snapshot;
+
+    @Override
+    public Result reconcile(Request request) {
+        var fetched = client.fetch(Announcement.class, request.name())
+            .filter(announcement -> announcement.getMetadata().getDeletionTimestamp() == null);
+        if (fetched.isEmpty()) {
+            snapshot.remove(request.name());
+            // 归档的公告保留统计，恢复后继续累计
+            if (client.fetch(ArchivedAnnouncement.class, request.name()).isEmpty()) {
+                client.fetch(AnnouncementStats.class, request.name()).ifPresent(client::delete);
+            }
+            return Result.doNotRetry();
+        }
+        var announcement = fetched.get();
+        if (normalize(announcement)) {
+            // 更新后会再次触发调谐，届时再同步到快照
+            client.update(announcement);
+            return Result.doNotRetry();
+        }
+        if (announcement.getAnnouncementSpec() != null && !ContentRenderer.isUpToDate(announcement)) {
+            // 正文变化时重新渲染，读取端只使用渲染结果
+            ContentRenderer.render(announcement);
+            client.update(announcement);
+            return Result.doNotRetry();
+        }
+        var spec = announcement.getAnnouncementSpec();
+        var now = Instant.now();
+        if (spec != null && updateActive(announcement, PublishWindow.isActiveAt(spec, now))) {
+            // 展示状态变化同样写回存储，再次调谐时同步快照并安排下一个边界
+            client.update(announcement);
+            return Result.doNotRetry();
+        }
+        snapshot.upsert(announcement);
+        // 在下一个时间边界重新调谐，由控制器的延迟队列按时触发
+        return Optional.ofNullable(spec)
+            .flatMap(s -> PublishWindow.nextBoundary(s, now))
+            .map(boundary -> new Result(true, Duration.between(now, boundary)))
+            .orElseGet(Result::doNotRetry);
+    }
+
+    private static boolean updateActive(Announcement announcement, boolean active) {
+        var status = announcement.getStatus();
+        if (status == null) {
+            status = new Announcement.AnnouncementStatus();
+            announcement.setStatus(status);
+        }
+        if (Boolean.valueOf(active).equals(status.getActive())) {
+            return false;
+        }
+        status.setActive(active);
+        return true;
+    }
+
+    /**
+     * 补齐旧数据中缺失的布尔和权限字段，使其在布尔类型索引和默认排序键中有确定的值。
+     * 控制器启动时会调谐全部公告，因此这里同时承担了索引调整后的数据迁移。
+     *
+     * @return 是否有字段被修改
+     */
+    static boolean normalize(Announcement announcement) {
+        var spec = announcement.getAnnouncementSpec();
+        if (spec == null) {
+            return false;
+        }
+        boolean changed = false;
+        if (spec.getEnablePinning() == null) {
+            spec.setEnablePinning(false);
+            changed = true;
+        }
+        if (spec.getEnablePopup() == null) {
+            spec.setEnablePopup(false);
+            changed = true;
+        }
+        if (spec.getPermissions() == null) {
+            spec.setPermissions(Announcement.AnnouncementSpec.ViewPermissions.everyone);
+            changed = true;
+        }
+        return changed;
+    }
+
+    @Override
+    public Controller setupWith(ControllerBuilder builder) {
+        return builder
+            .extension(new Announcement())
+            .build();
+    }
+}
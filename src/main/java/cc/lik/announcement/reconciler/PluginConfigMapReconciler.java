@@ -0,0 +1,51 @@
+package cc.lik.announcement.reconciler;
+
+import cc.lik.announcement.cache.AnnouncementTypesCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import run.halo.app.extension.ConfigMap;
+import run.halo.app.extension.ExtensionClient;
+import run.halo.app.extension.ExtensionMatcher;
+import run.halo.app.extension.ListOptions;
+import run.halo.app.extension.controller.Controller;
+import run.halo.app.extension.controller.ControllerBuilder;
+import run.halo.app.extension.controller.Reconciler;
+import run.halo.app.extension.index.query.Queries;
+
+/**
+ * 监听插件 ConfigMap 的变更，刷新由其派生的缓存
+ *
+ * @author Handsome
+ */
+@Component
+@RequiredArgsConstructor
+public class PluginConfigMapReconciler implements Reconciler<Reconciler.Request> {
+
+    private final ExtensionClient client;
+    private final AnnouncementTypesCache typesCache;
+
+    @Override
+    public Result reconcile(Request request) {
+        if (!AnnouncementTypesCache.CONFIG_MAP_NAME.equals(request.name())) {
+            return Result.doNotRetry();
+        }
+        typesCache.refresh(client.fetch(ConfigMap.class, request.name()).orElse(null));
+        return Result.doNotRetry();
+    }
+
+    @Override
+    public Controller setupWith(ControllerBuilder builder) {
+        // 只关心插件自身的 ConfigMap，其他 ConfigMap 的变更不入队
+        ExtensionMatcher matcher = extension ->
+            AnnouncementTypesCache.CONFIG_MAP_NAME.equals(extension.getMetadata().getName());
+        return builder
+            .extension(new ConfigMap())
+            .onAddMatcher(matcher)
+            .onUpdateMatcher(matcher)
+            .onDeleteMatcher(matcher)
+            .syncAllListOptions(ListOptions.builder()
+                .andQuery(Queries.equal("metadata.name", AnnouncementTypesCache.CONFIG_MAP_NAME))
+                .build())
+            .build();
+    }
+}
@@ -0,0 +1,124 @@
+package cc.lik.announcement.render;
+
+import cc.lik.announcement.extension.Announcement;
+import cc.lik.announcement.extension.Announcement.AnnouncementStatus;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+import org.apache.commons.lang3.StringUtils;
+import org.jsoup.Jsoup;
+import org.jsoup.safety.Safelist;
+import org.springframework.lang.Nullable;
+
+/**
+ * 公告正文的写入时渲染。
+ * <p>在调谐时为正文生成安全的 HTML、纯文本摘要、字数和内容摘要，读取时直接使用结果，无需再处理正文。</p>
+ * <ul>
+ *     <li>富文本（默认）按白名单清洗，去除脚本、事件属性等不安全内容，保留排版所需的 class 和 style</li>
+ *     <li>代码模式由管理员直接编写 HTML，原样保留</li>
+ * </ul>
+ *
+ * @author Handsome
+ */
+public final class ContentRenderer {
+
+    public static final String EDITOR_TYPE_CODE = "code";
+    public static final int EXCERPT_LENGTH = 160;
+
+    private static final Safelist SAFELIST = Safelist.relaxed()
+        .addTags("hr", "mark", "s", "del", "figure", "figcaption")
+        .addAttributes(":all", "class", "style")
+        .addAttributes("a", "target", "rel")
+        .preserveRelativeLinks(true);
+
+    private ContentRenderer() {
+    }
+
+    /**
+     * 正文的摘要值，编辑器类型不同时渲染结果也不同，因此一并计入
+     */
+    public static String contentHash(Announcement.AnnouncementSpec spec) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update(StringUtils.defaultString(spec.getEditorType()).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(StringUtils.defaultString(spec.getContent()).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 渲染结果是否与当前正文一致
+     */
+    public static boolean isUpToDate(Announcement announcement) {
+        var status = announcement.getStatus();
+        return status != null
+            && status.getRenderedContent() != null
+            && Objects.equals(status.getContentHash(), contentHash(announcement.getAnnouncementSpec()));
+    }
+
+    /**
+     * 按当前正文重新渲染，结果写入公告状态
+     */
+    public static void render(Announcement announcement) {
+        var spec = announcement.getAnnouncementSpec();
+        var content = StringUtils.defaultString(spec.getContent());
+        var rendered = EDITOR_TYPE_CODE.equals(spec.getEditorType())
+            ? content
+            : Jsoup.clean(content, "", SAFELIST);
+        var text = plainText(rendered);
+
+        var status = announcement.getStatus() == null ? new AnnouncementStatus() : announcement.getStatus();
+        status.setRenderedContent(rendered);
+        status.setExcerpt(excerpt(text));
+        status.setWordCount(wordCount(text));
+        status.setContentHash(contentHash(spec));
+        announcement.setStatus(status);
+    }
+
+    @Nullable
+    public static String plainText(@Nullable String html) {
+        return StringUtils.isBlank(html) ? html : Jsoup.parse(html).text();
+    }
+
+    static String excerpt(@Nullable String text) {
+        if (StringUtils.isEmpty(text)) {
+            return "";
+        }
+        if (text.codePointCount(0, text.length()) <= EXCERPT_LENGTH) {
+            return text;
+        }
+        return text.substring(0, text.offsetByCodePoints(0, EXCERPT_LENGTH)).stripTrailing() + "…";
+    }
+
+    /**
+     * 字数：每个中日韩字符计一个字，连续的字母数字计一个词
+     */
+    static int wordCount(@Nullable String text) {
+        if (StringUtils.isEmpty(text)) {
+            return 0;
+        }
+        int count = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (Character.isIdeographic(codePoint)) {
+                count++;
+                inWord = false;
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                if (!inWord) {
+                    count++;
+                    inWord = true;
+                }
+            } else {
+                inWord = false;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,37 @@
+package cc.lik.announcement.schedule;
+
+import cc.lik.announcement.extension.Announcement;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.lang.Nullable;
+
+/**
+ * 公告的展示时间窗口 {@code [startAt, endAt)}，任一端为空表示不限制。
+ * <p>是否处于窗口内由调谐器在边界时刻计算并写入 {@code status.active}，
+ * 查询只读取该状态，不在每次请求中比较时间。</p>
+ *
+ * @author Handsome
+ */
+public final class PublishWindow {
+
+    private PublishWindow() {
+    }
+
+    public static boolean isActiveAt(Announcement.AnnouncementSpec spec, Instant now) {
+        return (spec.getStartAt() == null || !now.isBefore(spec.getStartAt()))
+            && (spec.getEndAt() == null || now.isBefore(spec.getEndAt()));
+    }
+
+    /**
+     * 下一个会改变展示状态的时间点，之后不再变化时为空
+     */
+    public static Optional<Instant> nextBoundary(Announcement.AnnouncementSpec spec, Instant now) {
+        return Optional.ofNullable(firstAfter(now, spec.getStartAt()))
+            .or(() -> Optional.ofNullable(firstAfter(now, spec.getEndAt())));
+    }
+
+    @Nullable
+    private static Instant firstAfter(Instant now, @Nullable Instant boundary) {
+        return boundary != null && boundary.isAfter(now) ? boundary : null;
+    }
+}
@@ -0,0 +1,141 @@
+package cc.lik.announcement.search;
+
+import cc.lik.announcement.event.AnnouncementChangedEvent;
+import cc.lik.announcement.extension.Announcement;
+import cc.lik.announcement.render.ContentRenderer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 公告关键词倒排索引。
+ * <p>索引标题（含公告名称）和去除 HTML 标签后的正文，由快照变更事件增量维护。
+ * 查询时所有词项都需命中，按 TF-IDF 打分，标题命中的权重高于正文。</p>
+ *
+ * @author Handsome
+ */
+@Component
+public class AnnouncementSearchIndex {
+
+    private static final int TITLE = 0;
+    private static final int CONTENT = 1;
+    private static final int TITLE_WEIGHT = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 词项 -> 公告名称 -> [标题词频, 正文词频]
+    private final Map<String, Map<String, int[]>> postings = new HashMap<>();
+    private final Map<String, Set<String>> documentTerms = new HashMap<>();
+
+    @EventListener
+    public void onAnnouncementChanged(AnnouncementChangedEvent event) {
+        var current = event.getCurrent();
+        if (current != null && event.getPrevious() != null
+            && sameText(event.getPrevious(), current)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeDocument(event.getName());
+            if (current != null) {
+                addDocument(current);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 按相关度从高到低返回命中的公告名称
+     */
+    public List<String> search(String keyword) {
+        var terms = new LinkedHashSet<>(NgramTokenizer.queryTerms(keyword));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            var termPostings = new ArrayList<Map<String, int[]>>(terms.size());
+            for (String term : terms) {
+                var posting = postings.get(term);
+                if (posting == null) {
+                    return List.of();
+                }
+                termPostings.add(posting);
+            }
+            // 从最稀有的词项开始求交集，候选集最小
+            termPostings.sort(Comparator.comparingInt(Map::size));
+            int documentCount = documentTerms.size();
+            Map<String, Double> scores = new HashMap<>();
+            termPostings.get(0).forEach((name, tf) -> scores.put(name, 0d));
+            for (Map<String, int[]> posting : termPostings) {
+                double idf = Math.log(1 + (double) documentCount / posting.size());
+                scores.entrySet().removeIf(entry -> !posting.containsKey(entry.getKey()));
+                scores.replaceAll((name, score) -> {
+                    int[] tf = posting.get(name);
+                    return score + idf * (TITLE_WEIGHT * tf[TITLE] + tf[CONTENT]);
+                });
+            }
+            return scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addDocument(Announcement announcement) {
+        var name = announcement.getMetadata().getName();
+        var spec = announcement.getAnnouncementSpec();
+        var terms = new LinkedHashSet<String>();
+        index(name, name + ' ' + (spec == null ? "" : StringUtils.defaultString(spec.getTitle())), TITLE, terms);
+        index(name, spec == null ? null : ContentRenderer.plainText(spec.getContent()), CONTENT, terms);
+        documentTerms.put(name, terms);
+    }
+
+    private void index(String name, @Nullable String text, int field, Set<String> terms) {
+        for (String term : NgramTokenizer.indexTerms(text)) {
+            postings.computeIfAbsent(term, t -> new HashMap<>())
+                .computeIfAbsent(name, n -> new int[2])[field]++;
+            terms.add(term);
+        }
+    }
+
+    private void removeDocument(String name) {
+        var terms = documentTerms.remove(name);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            var posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(name);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static boolean sameText(Announcement previous, Announcement current) {
+        var previousSpec = previous.getAnnouncementSpec();
+        var currentSpec = current.getAnnouncementSpec();
+        if (previousSpec == null || currentSpec == null) {
+            return previousSpec == currentSpec;
+        }
+        return Objects.equals(previousSpec.getTitle(), currentSpec.getTitle())
+            && Objects.equals(previousSpec.getContent(), currentSpec.getContent());
+    }
+}
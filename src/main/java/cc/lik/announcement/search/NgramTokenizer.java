@@ -0,0 +1,112 @@
+package cc.lik.announcement.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 面向中日韩文本的 n-gram 分词器。
+ * <p>中日韩字符没有天然的词边界，按单字和相邻双字切分；其他文字按单词切分，
+ * 索引时额外写入单词前缀，以支持边输入边搜索。</p>
+ *
+ * @author Handsome
+ */
+final class NgramTokenizer {
+
+    static final int MAX_PREFIX_LENGTH = 16;
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 索引分词：中日韩字符输出单字和双字，其他单词输出自身及其前缀，结果可能包含重复词项
+     */
+    static List<String> indexTerms(String text) {
+        var terms = new ArrayList<String>();
+        split(text, new RunHandler() {
+            @Override
+            public void cjk(int[] codePoints, int from, int to) {
+                for (int i = from; i < to; i++) {
+                    terms.add(new String(codePoints, i, 1));
+                    if (i + 1 < to) {
+                        terms.add(new String(codePoints, i, 2));
+                    }
+                }
+            }
+
+            @Override
+            public void word(String word) {
+                int limit = Math.min(word.length(), MAX_PREFIX_LENGTH);
+                for (int length = 1; length < limit; length++) {
+                    terms.add(word.substring(0, length));
+                }
+                terms.add(word.length() > MAX_PREFIX_LENGTH ? word.substring(0, MAX_PREFIX_LENGTH) : word);
+            }
+        });
+        return terms;
+    }
+
+    /**
+     * 查询分词：中日韩字符按双字切分（只有一个字时使用单字），其他单词作为前缀词项
+     */
+    static List<String> queryTerms(String text) {
+        var terms = new ArrayList<String>();
+        split(text, new RunHandler() {
+            @Override
+            public void cjk(int[] codePoints, int from, int to) {
+                if (to - from == 1) {
+                    terms.add(new String(codePoints, from, 1));
+                    return;
+                }
+                for (int i = from; i + 1 < to; i++) {
+                    terms.add(new String(codePoints, i, 2));
+                }
+            }
+
+            @Override
+            public void word(String word) {
+                terms.add(word.length() > MAX_PREFIX_LENGTH ? word.substring(0, MAX_PREFIX_LENGTH) : word);
+            }
+        });
+        return terms;
+    }
+
+    private static void split(String text, RunHandler handler) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        int[] codePoints = text.toLowerCase(Locale.ROOT).codePoints().toArray();
+        int i = 0;
+        while (i < codePoints.length) {
+            int start = i;
+            if (isCjk(codePoints[i])) {
+                while (i < codePoints.length && isCjk(codePoints[i])) {
+                    i++;
+                }
+                handler.cjk(codePoints, start, i);
+            } else if (Character.isLetterOrDigit(codePoints[i])) {
+                while (i < codePoints.length && !isCjk(codePoints[i])
+                    && Character.isLetterOrDigit(codePoints[i])) {
+                    i++;
+                }
+                handler.word(new String(codePoints, start, i - start));
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        var script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+            || script == Character.UnicodeScript.HIRAGANA
+            || script == Character.UnicodeScript.KATAKANA
+            || script == Character.UnicodeScript.HANGUL;
+    }
+
+    private interface RunHandler {
+        void cjk(int[] codePoints, int from, int to);
+
+        void word(String word);
+    }
+}
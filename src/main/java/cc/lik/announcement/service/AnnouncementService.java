@@ -1,7 +1,13 @@
 package cc.lik.announcement.service;
 
 import cc.lik.announcement.AnnouncementQuery;
+import cc.lik.announcement.Audience;
+import cc.lik.announcement.BatchRequest;
+import cc.lik.announcement.BatchResult;
+import cc.lik.announcement.CursorPage;
 import cc.lik.announcement.extension.Announcement;
+import cc.lik.announcement.popup.PopupCapToken;
+import org.springframework.lang.Nullable;
 import reactor.core.publisher.Mono;
 import run.halo.app.extension.ListResult;
 
@@ -15,11 +21,65 @@ public interface AnnouncementService {
      * 根据允许的权限列表查询公告
      */
     Mono<ListResult<Announcement>> listAnnouncementByPermissions(AnnouncementQuery query, List<String> allowedPermissions);
+
+    /**
+     * 按受众查询公告，仅含分页和类型筛选的查询直接由内存快照响应，其余查询回落到存储
+     * @param query 查询条件
+     * @param audience 请求方受众
+     * @return 公告分页结果
+     */
+    Mono<ListResult<Announcement>> listAnnouncementByAudience(AnnouncementQuery query, Audience audience);
     
+    /**
+     * 游标分页查询公告，按默认排序读取游标之后的一页
+     * @param query 查询条件
+     * @param audience 请求方受众，为空时不限制受众（控制台）
+     * @return 游标分页结果
+     */
+    Mono<CursorPage<Announcement>> listAnnouncementByCursor(AnnouncementQuery query, @Nullable Audience audience);
+
+    /**
+     * 解析当前路径应当展示的弹窗公告
+     * @param audience 弹窗受众
+     * @param path 请求路径
+     * @param capToken 访客最近看过的弹窗，仍在弹出间隔内的公告会被跳过
+     * @return 第一个匹配路径且未达到频率限制的弹窗公告，没有时为空
+     */
+    Mono<Announcement> resolvePopup(Audience audience, String path, PopupCapToken capToken);
+
+    /**
+     * 获取受众可见的公告
+     * @param name 公告名称
+     * @param audience 请求方受众
+     * @return 公告对象，不存在或对受众不可见时为空
+     */
+    Mono<Announcement> getVisibleAnnouncement(String name, Audience audience);
+
     /**
      * 根据名称获取公告
      * @param name 公告名称
      * @return 公告对象
      */
     Mono<Announcement> getAnnouncementByName(String name);
+
+    /**
+     * 批量获取公告
+     * @param names 公告名称
+     * @return 逐项结果
+     */
+    Mono<BatchResult> getAnnouncements(List<String> names);
+
+    /**
+     * 批量删除公告，整批完成后快照只失效一次
+     * @param names 公告名称
+     * @return 逐项结果
+     */
+    Mono<BatchResult> deleteAnnouncements(List<String> names);
+
+    /**
+     * 批量修改公告的可见范围、置顶和弹窗开关，整批完成后快照只失效一次
+     * @param request 名称和补丁字段
+     * @return 逐项结果
+     */
+    Mono<BatchResult> patchAnnouncements(BatchRequest request);
 }
@@ -1,45 +1,85 @@
 package cc.lik.announcement.service.impl;
 
+import cc.lik.announcement.AnnouncementIndexes;
 import cc.lik.announcement.AnnouncementQuery;
+import cc.lik.announcement.Audience;
+import cc.lik.announcement.BatchRequest;
+import cc.lik.announcement.BatchResult;
+import cc.lik.announcement.CursorPage;
+import cc.lik.announcement.archive.AnnouncementArchive;
+import cc.lik.announcement.cache.AnnouncementSnapshot;
+import cc.lik.announcement.cache.AnnouncementSnapshot.Views;
 import cc.lik.announcement.extension.Announcement;
+import cc.lik.announcement.metrics.AnnouncementMetrics;
+import cc.lik.announcement.popup.PopupCapToken;
+import cc.lik.announcement.search.AnnouncementSearchIndex;
 import cc.lik.announcement.service.AnnouncementService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 import run.halo.app.extension.ListOptions;
 import run.halo.app.extension.ListResult;
+import run.halo.app.extension.PageRequest;
 import run.halo.app.extension.PageRequestImpl;
 import run.halo.app.extension.ReactiveExtensionClient;
 import run.halo.app.extension.index.query.Queries;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class AnnouncementServiceImpl implements AnnouncementService {
 
     private final ReactiveExtensionClient client;
+    private final AnnouncementSnapshot snapshot;
+    private final AnnouncementSearchIndex searchIndex;
+    private final AnnouncementMetrics metrics;
+    private final AnnouncementArchive archive;
+
+    private static final int DEFAULT_CURSOR_PAGE_SIZE = 20;
+    // 批量操作访问存储的并发上限
+    private static final int BATCH_CONCURRENCY = 8;
     
-    // 默认排序：置顶优先，然后按创建时间倒序
+    // 默认排序：置顶优先，然后按创建时间倒序，由组合排序键索引直接提供
     private Sort defaultSort() {
-        return Sort.by(
-            Sort.Order.desc("announcementSpec.enablePinning"),
-            Sort.Order.desc("metadata.creationTimestamp")
-        );
+        return Sort.by(Sort.Order.desc(AnnouncementIndexes.DEFAULT_ORDER));
     }
     
     @Override
     public Mono<ListResult<Announcement>> listAnnouncement(AnnouncementQuery query) {
-        return client.listBy(Announcement.class, query.toListOptions(),
+        if (query.isSearchable()) {
+            return search(query, null);
+        }
+        return listFromStore(query.toListOptions(),
             PageRequestImpl.of(query.getPage(), query.getSize(), defaultSort()));
     }
     
     @Override
     public Mono<ListResult<Announcement>> listAnnouncementByPermissions(AnnouncementQuery query, List<String> allowedPermissions) {
+        return listFromStore(permissionOptions(query, allowedPermissions),
+            PageRequestImpl.of(query.getPage(), query.getSize(), defaultSort()));
+    }
+
+    private Mono<ListResult<Announcement>> listFromStore(ListOptions options, PageRequest pageRequest) {
+        return client.listBy(Announcement.class, options, pageRequest)
+            .doOnSubscribe(subscription -> metrics.storeRoundTrip("list"))
+            .doOnNext(result -> metrics.resultSize("store", result.getItems().size()));
+    }
+
+    static ListOptions permissionOptions(AnnouncementQuery query, List<String> allowedPermissions) {
         // 使用 or 组合多个 equal 查询
         var permQueries = allowedPermissions.stream()
-            .map(perm -> Queries.equal("announcementSpec.permissions", perm))
+            .map(perm -> Queries.equal(AnnouncementIndexes.PERMISSIONS, perm))
             .toList();
         
         // 将多个查询用 or 组合
@@ -51,13 +91,168 @@ public class AnnouncementServiceImpl implements AnnouncementService {
         if (combinedQuery != null) {
             builder.andQuery(combinedQuery);
         }
-        
-        return client.listBy(Announcement.class, builder.build(),
-            PageRequestImpl.of(query.getPage(), query.getSize(), defaultSort()));
+        // 公开查询只包含展示时间窗口内的公告
+        builder.andQuery(Queries.equal(AnnouncementIndexes.ACTIVE, true));
+        return builder.build();
+    }
+
+    @Override
+    public Mono<CursorPage<Announcement>> listAnnouncementByCursor(AnnouncementQuery query, @Nullable Audience audience) {
+        var afterKey = CursorPage.decode(query.getCursor());
+        int size = query.getSize() > 0 ? query.getSize() : DEFAULT_CURSOR_PAGE_SIZE;
+        boolean withTotal = query.isWithTotal();
+
+        if (query.isSearchable()) {
+            // 游标分页按默认排序而非相关度返回搜索结果
+            var filter = query.toPredicate();
+            return snapshot.views().map(views -> CursorPage.after(
+                searchIndex.search(query.getKeyword()).stream()
+                    .map(views::get)
+                    .filter(Objects::nonNull)
+                    .filter(announcement -> audience == null || Views.isVisibleTo(announcement, audience))
+                    .filter(filter)
+                    .sorted(AnnouncementSnapshot.DEFAULT_ORDER)
+                    .toList(),
+                afterKey, size, withTotal))
+                .doOnNext(page -> metrics.resultSize("search", page.items().size()));
+        }
+        if (audience != null && query.isSnapshotServable()) {
+            return snapshot.views()
+                .map(views -> CursorPage.after(views.list(audience, query.getType()), afterKey, size, withTotal))
+                .doOnNext(page -> metrics.resultSize("snapshot", page.items().size()));
+        }
+
+        var options = audience == null
+            ? query.toListOptions()
+            : permissionOptions(query, audience.getPermissions());
+        var pageOptions = ListOptions.builder(options);
+        if (afterKey != null) {
+            pageOptions.andQuery(Queries.lessThan(AnnouncementIndexes.DEFAULT_ORDER, afterKey));
+        }
+        var page = listFromStore(pageOptions.build(), PageRequestImpl.of(1, size, defaultSort()))
+            .map(result -> {
+                var items = result.getItems();
+                String next = result.getTotal() > items.size() && !items.isEmpty()
+                    ? CursorPage.encode(AnnouncementIndexes.defaultOrderKey(items.get(items.size() - 1)))
+                    : null;
+                return new CursorPage<>(items, next, null);
+            });
+        if (!withTotal) {
+            return page;
+        }
+        var total = client.listBy(Announcement.class, options, PageRequestImpl.of(1, 1, defaultSort()))
+            .doOnSubscribe(subscription -> metrics.storeRoundTrip("count"))
+            .map(ListResult::getTotal);
+        return Mono.zip(page, total, (result, count) -> new CursorPage<>(result.items(), result.nextCursor(), count));
     }
     
+    @Override
+    public Mono<ListResult<Announcement>> listAnnouncementByAudience(AnnouncementQuery query, Audience audience) {
+        if (query.isSearchable()) {
+            return search(query, audience);
+        }
+        if (!query.isSnapshotServable()) {
+            return listAnnouncementByPermissions(query, audience.getPermissions());
+        }
+        // 翻过在线公告后由归档补齐
+        return snapshot.views()
+            .flatMap(views -> archive.page(views.list(audience, query.getType()), audience, query.getType(),
+                query.getPage(), query.getSize()))
+            .doOnNext(result -> metrics.resultSize("snapshot", result.getItems().size()));
+    }
+
+    /**
+     * 通过关键词索引搜索，结果按相关度排序，audience 为空时不限制受众
+     */
+    private Mono<ListResult<Announcement>> search(AnnouncementQuery query, @Nullable Audience audience) {
+        var filter = query.toPredicate();
+        return snapshot.views().map(views -> {
+            var hits = searchIndex.search(query.getKeyword()).stream()
+                .map(views::get)
+                .filter(Objects::nonNull)
+                .filter(announcement -> audience == null || Views.isVisibleTo(announcement, audience))
+                .filter(filter)
+                .toList();
+            metrics.resultSize("search", hits.size());
+            return Views.slice(hits, query.getPage(), query.getSize());
+        });
+    }
+
+    @Override
+    public Mono<Announcement> resolvePopup(Audience audience, String path, PopupCapToken capToken) {
+        return snapshot.views()
+            .flatMap(views -> Mono.justOrEmpty(views.popupMatcher(audience).first(path, capToken, Instant.now())));
+    }
+
+    @Override
+    public Mono<Announcement> getVisibleAnnouncement(String name, Audience audience) {
+        return snapshot.views()
+            .flatMap(views -> Mono.justOrEmpty(views.get(name)))
+            .filter(announcement -> Views.isVisibleTo(announcement, audience));
+    }
+
     @Override
     public Mono<Announcement> getAnnouncementByName(String name) {
-        return client.get(Announcement.class, name);
+        return client.get(Announcement.class, name)
+            .doOnSubscribe(subscription -> metrics.storeRoundTrip("get"));
+    }
+
+    @Override
+    public Mono<BatchResult> getAnnouncements(List<String> names) {
+        return Flux.fromIterable(BatchRequest.checkNames(names))
+            .flatMapSequential(name -> client.fetch(Announcement.class, name)
+                .doOnSubscribe(subscription -> metrics.storeRoundTrip("get"))
+                .map(announcement -> BatchResult.Item.ok(name, announcement))
+                .defaultIfEmpty(BatchResult.Item.notFound(name))
+                .onErrorResume(e -> Mono.just(BatchResult.Item.error(name, e))), BATCH_CONCURRENCY)
+            .collectList()
+            .map(BatchResult::new);
+    }
+
+    @Override
+    public Mono<BatchResult> deleteAnnouncements(List<String> names) {
+        return Flux.fromIterable(BatchRequest.checkNames(names))
+            .flatMapSequential(name -> client.fetch(Announcement.class, name)
+                .flatMap(client::delete)
+                .doOnSubscribe(subscription -> metrics.storeRoundTrip("delete"))
+                .map(deleted -> BatchResult.Item.ok(name, null))
+                .defaultIfEmpty(BatchResult.Item.notFound(name))
+                .onErrorResume(e -> Mono.just(BatchResult.Item.error(name, e))), BATCH_CONCURRENCY)
+            .collectList()
+            .doOnNext(items -> snapshot.applyAll(List.of(), items.stream()
+                .filter(item -> item.status() == BatchResult.Status.ok)
+                .map(BatchResult.Item::name)
+                .toList()))
+            .map(BatchResult::new);
+    }
+
+    @Override
+    public Mono<BatchResult> patchAnnouncements(BatchRequest request) {
+        var names = BatchRequest.checkNames(request.names());
+        if (!request.hasPatch()) {
+            throw new ServerWebInputException("Nothing to patch");
+        }
+        return Flux.fromIterable(names)
+            .flatMapSequential(name -> Mono.defer(() -> client.fetch(Announcement.class, name))
+                .filter(announcement -> announcement.getAnnouncementSpec() != null)
+                .flatMap(announcement -> {
+                    var spec = announcement.getAnnouncementSpec();
+                    Optional.ofNullable(request.permissions()).ifPresent(spec::setPermissions);
+                    Optional.ofNullable(request.enablePinning()).ifPresent(spec::setEnablePinning);
+                    Optional.ofNullable(request.enablePopup()).ifPresent(spec::setEnablePopup);
+                    return client.update(announcement);
+                })
+                .retryWhen(Retry.backoff(3, Duration.ofMillis(100))
+                    .filter(OptimisticLockingFailureException.class::isInstance))
+                .doOnSubscribe(subscription -> metrics.storeRoundTrip("update"))
+                .map(updated -> BatchResult.Item.ok(name, updated))
+                .defaultIfEmpty(BatchResult.Item.notFound(name))
+                .onErrorResume(e -> Mono.just(BatchResult.Item.error(name, e))), BATCH_CONCURRENCY)
+            .collectList()
+            .doOnNext(items -> snapshot.applyAll(items.stream()
+                .map(BatchResult.Item::announcement)
+                .filter(Objects::nonNull)
+                .toList(), List.of()))
+            .map(BatchResult::new);
     }
 }
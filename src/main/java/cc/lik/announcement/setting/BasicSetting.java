@@ -0,0 +1,34 @@
+package cc.lik.announcement.setting;
+
+import lombok.Data;
+
+/**
+ * 插件基础设置，对应 settings.yaml 中的 basic 分组
+ *
+ * @author Handsome
+ */
+@Data
+public class BasicSetting {
+
+    public static final String GROUP = "basic";
+
+    /**
+     * 是否将当前页面的弹窗公告直接内联到页面 head 中，省去前端额外请求
+     */
+    private boolean inlinePopup;
+
+    /**
+     * 公开接口响应的 Cache-Control 头
+     */
+    private String cacheControl;
+
+    /**
+     * 创建超过该天数的公告自动归档，0 表示不按时间归档
+     */
+    private int archiveAfterDays;
+
+    /**
+     * 是否自动归档已过展示结束时间的公告
+     */
+    private boolean archiveExpired;
+}
@@ -0,0 +1,176 @@
+package cc.lik.announcement.stats;
+
+import cc.lik.announcement.cache.AnnouncementSnapshot;
+import cc.lik.announcement.extension.AnnouncementStats;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import run.halo.app.extension.Metadata;
+import run.halo.app.extension.ReactiveExtensionClient;
+
+/**
+ * 公告统计的内存聚合器。
+ * <p>上报事件只在分段的 {@link LongAdder} 上累加，不加锁也不访问存储；
+ * 增量按固定间隔批量合并到 {@link AnnouncementStats}，写入失败的增量会放回计数器等待下一次合并。</p>
+ * <p>只统计快照中存在的公告，计数器数量以公告数量为上限。</p>
+ *
+ * @author Handsome
+ */
+@Slf4j
+@Component
+public class AnnouncementStatsCollector implements InitializingBean, DisposableBean {
+
+    static final Duration FLUSH_INTERVAL = Duration.ofSeconds(30);
+    static final int MAX_EVENTS_PER_BEACON = 64;
+
+    private final ReactiveExtensionClient client;
+    private final AnnouncementSnapshot snapshot;
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+    private Disposable flushing;
+
+    public AnnouncementStatsCollector(ReactiveExtensionClient client, AnnouncementSnapshot snapshot) {
+        this.client = client;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * 记录一批事件，未知的公告和事件类型会被忽略
+     */
+    public void record(BeaconRequest beacon) {
+        if (beacon == null || beacon.events() == null) {
+            return;
+        }
+        var views = snapshot.viewsIfReady().orElse(null);
+        if (views == null) {
+            return;
+        }
+        var events = beacon.events();
+        int limit = Math.min(events.size(), MAX_EVENTS_PER_BEACON);
+        for (int i = 0; i < limit; i++) {
+            var event = events.get(i);
+            if (event == null || event.name() == null || views.get(event.name()) == null) {
+                continue;
+            }
+            var adder = counters.computeIfAbsent(event.name(), name -> new Counters()).adder(event.type());
+            if (adder != null) {
+                adder.increment();
+            }
+        }
+    }
+
+    /**
+     * 将累积的增量合并到存储
+     */
+    public Mono<Void> flush() {
+        return Flux.fromIterable(counters.entrySet())
+            .flatMap(entry -> {
+                var name = entry.getKey();
+                var delta = entry.getValue().drain();
+                if (delta.isEmpty()) {
+                    // 公告已删除且没有待写入的增量时回收计数器
+                    if (snapshot.viewsIfReady().map(views -> views.get(name) == null).orElse(false)) {
+                        counters.remove(name, entry.getValue());
+                    }
+                    return Mono.empty();
+                }
+                return persist(name, delta)
+                    .onErrorResume(e -> {
+                        log.warn("Failed to flush stats for announcement [{}], will retry later", name, e);
+                        entry.getValue().restore(delta);
+                        return Mono.empty();
+                    });
+            }, 4)
+            .then();
+    }
+
+    private Mono<Void> persist(String name, Delta delta) {
+        return Mono.defer(() -> client.fetch(AnnouncementStats.class, name)
+                .flatMap(stats -> {
+                    delta.applyTo(stats.getSpec());
+                    return client.update(stats);
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    var stats = new AnnouncementStats();
+                    stats.setMetadata(new Metadata());
+                    stats.getMetadata().setName(name);
+                    delta.applyTo(stats.getSpec());
+                    return client.create(stats);
+                })))
+            .retryWhen(Retry.backoff(3, Duration.ofMillis(100))
+                .filter(OptimisticLockingFailureException.class::isInstance))
+            .then();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        flushing = Flux.interval(FLUSH_INTERVAL)
+            .onBackpressureDrop()
+            .concatMap(tick -> flush())
+            .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (flushing != null) {
+            flushing.dispose();
+        }
+        // 停止时写出剩余的增量
+        flush().block(Duration.ofSeconds(10));
+    }
+
+    private static final class Counters {
+        private final LongAdder impressions = new LongAdder();
+        private final LongAdder primaryClicks = new LongAdder();
+        private final LongAdder secondaryClicks = new LongAdder();
+        private final LongAdder dismissals = new LongAdder();
+
+        LongAdder adder(String type) {
+            if (type == null) {
+                return null;
+            }
+            return switch (type) {
+                case "impression" -> impressions;
+                case "primaryClick" -> primaryClicks;
+                case "secondaryClick" -> secondaryClicks;
+                case "dismiss" -> dismissals;
+                default -> null;
+            };
+        }
+
+        Delta drain() {
+            return new Delta(impressions.sumThenReset(), primaryClicks.sumThenReset(),
+                secondaryClicks.sumThenReset(), dismissals.sumThenReset());
+        }
+
+        void restore(Delta delta) {
+            impressions.add(delta.impressions());
+            primaryClicks.add(delta.primaryClicks());
+            secondaryClicks.add(delta.secondaryClicks());
+            dismissals.add(delta.dismissals());
+        }
+    }
+
+    private record Delta(long impressions, long primaryClicks, long secondaryClicks, long dismissals) {
+
+        boolean isEmpty() {
+            return impressions == 0 && primaryClicks == 0 && secondaryClicks == 0 && dismissals == 0;
+        }
+
+        void applyTo(AnnouncementStats.StatsSpec spec) {
+            spec.setImpressions(spec.getImpressions() + impressions);
+            spec.setPrimaryClicks(spec.getPrimaryClicks() + primaryClicks);
+            spec.setSecondaryClicks(spec.getSecondaryClicks() + secondaryClicks);
+            spec.setDismissals(spec.getDismissals() + dismissals);
+        }
+    }
+}
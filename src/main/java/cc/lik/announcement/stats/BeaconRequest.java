@@ -0,0 +1,21 @@
+package cc.lik.announcement.stats;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * 前台批量上报的统计事件
+ *
+ * @author Handsome
+ */
+public record BeaconRequest(List<Event> events) {
+
+    /**
+     * @param name 公告名称
+     * @param type 事件类型：impression, primaryClick, secondaryClick, dismiss
+     */
+    public record Event(String name,
+                        @Schema(allowableValues = {"impression", "primaryClick", "secondaryClick",
+                            "dismiss"}) String type) {
+    }
+}
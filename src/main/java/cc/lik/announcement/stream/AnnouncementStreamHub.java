@@ -0,0 +1,147 @@
+package cc.lik.announcement.stream;
+
+import cc.lik.announcement.Audience;
+import cc.lik.announcement.cache.AnnouncementSnapshot.Views;
+import cc.lik.announcement.event.AnnouncementChangedEvent;
+import cc.lik.announcement.extension.Announcement;
+import cc.lik.announcement.view.AnnouncementView;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import run.halo.app.infra.utils.JsonUtils;
+
+/**
+ * 公告变更的实时推送中心。
+ * <p>所有订阅者共享同一个事件源，变更只在快照中发生一次，按受众序列化一次后分发给全部订阅者。
+ * 最近的变更保存在有限的重放缓冲区中，断线重连时可凭 {@code Last-Event-ID} 补发；
+ * 超出缓冲区或跨进程重启时发送 {@code reset} 事件，提示客户端重新拉取。</p>
+ * <p>处理不过来的订阅者只保留最新的事件，事件 id 中的序号连续递增，客户端可据此发现遗漏。</p>
+ * <p>事件数据是公告的摘要视图，不含正文，客户端收到事件后按需重新拉取。</p>
+ *
+ * @author Handsome
+ */
+@Component
+public class AnnouncementStreamHub {
+
+    static final int REPLAY_LIMIT = 256;
+    static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(25);
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final Sinks.Many<Change> sink = Sinks.many().replay().limit(REPLAY_LIMIT);
+    private long sequence;
+
+    @EventListener
+    public synchronized void onAnnouncementChanged(AnnouncementChangedEvent event) {
+        if (event.isInitialLoad()) {
+            return;
+        }
+        // 在同步块内发出，保证序号顺序与发出顺序一致
+        sink.tryEmitNext(new Change(++sequence, event.getName(), event.getPrevious(), event.getCurrent()));
+    }
+
+    /**
+     * 订阅受众可见的公告变更
+     *
+     * @param audience 订阅者受众，需为列表受众
+     * @param lastEventId 客户端最后收到的事件 id，用于断线续传
+     */
+    public Flux<ServerSentEvent<String>> subscribe(Audience audience, @Nullable String lastEventId) {
+        return Flux.defer(() -> {
+            long current = currentSequence();
+            long resumeFrom = resumeSequence(lastEventId, current);
+            long after = resumeFrom < 0 ? current : resumeFrom;
+            Flux<ServerSentEvent<String>> reset = resumeFrom < 0
+                ? Flux.just(ServerSentEvent.builder("{}").id(eventId(current)).event("reset").build())
+                : Flux.empty();
+            Flux<ServerSentEvent<String>> changes = sink.asFlux()
+                .filter(change -> change.sequence() > after)
+                .flatMapIterable(change -> change.toEvent(audience, epoch).stream().toList());
+            Flux<ServerSentEvent<String>> heartbeats = Flux.interval(HEARTBEAT_INTERVAL)
+                .map(tick -> ServerSentEvent.<String>builder().comment("heartbeat").build());
+            return Flux.merge(reset.concatWith(changes), heartbeats)
+                .onBackpressureLatest();
+        });
+    }
+
+    private synchronized long currentSequence() {
+        return sequence;
+    }
+
+    private long resumeSequence(@Nullable String lastEventId, long current) {
+        if (StringUtils.isBlank(lastEventId)) {
+            return current;
+        }
+        var separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !epoch.equals(lastEventId.substring(0, separator))) {
+            return -1;
+        }
+        try {
+            long last = Long.parseLong(lastEventId.substring(separator + 1));
+            if (last > current || last < current - REPLAY_LIMIT) {
+                return -1;
+            }
+            return last;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private String eventId(long sequence) {
+        return epoch + '-' + sequence;
+    }
+
+    private static final class Change {
+        private final long sequence;
+        private final String name;
+        @Nullable
+        private final Announcement previous;
+        @Nullable
+        private final Announcement current;
+        // 同一受众的订阅者共享序列化结果
+        private final Map<Audience, Optional<ServerSentEvent<String>>> events = new ConcurrentHashMap<>();
+
+        Change(long sequence, String name, @Nullable Announcement previous, @Nullable Announcement current) {
+            this.sequence = sequence;
+            this.name = name;
+            this.previous = previous;
+            this.current = current;
+        }
+
+        long sequence() {
+            return sequence;
+        }
+
+        Optional<ServerSentEvent<String>> toEvent(Audience audience, String epoch) {
+            return events.computeIfAbsent(audience, key -> {
+                boolean before = isVisible(previous, key);
+                boolean after = isVisible(current, key);
+                if (!before && !after) {
+                    return Optional.empty();
+                }
+                String type = !before ? "created" : after ? "updated" : "deleted";
+                String data = after
+                    ? JsonUtils.objectToJson(AnnouncementView.SUMMARY.project(current))
+                    : JsonUtils.objectToJson(Map.of("name", name));
+                return Optional.of(ServerSentEvent.builder(data)
+                    .id(epoch + '-' + sequence)
+                    .event(type)
+                    .build());
+            });
+        }
+
+        private static boolean isVisible(@Nullable Announcement announcement, Audience audience) {
+            return announcement != null
+                && announcement.getAnnouncementSpec() != null
+                && announcement.getMetadata().getDeletionTimestamp() == null
+                && Views.isVisibleTo(announcement, audience);
+        }
+    }
+}
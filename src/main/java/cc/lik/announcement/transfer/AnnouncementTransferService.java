@@ -0,0 +1,347 @@
+package cc.lik.announcement.transfer;
+
+import cc.lik.announcement.AnnouncementIndexes;
+import cc.lik.announcement.archive.AnnouncementArchive;
+import cc.lik.announcement.extension.Announcement;
+import cc.lik.announcement.extension.ArchivedAnnouncement;
+import cc.lik.announcement.render.ContentRenderer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import run.halo.app.extension.AbstractExtension;
+import run.halo.app.extension.ListOptions;
+import run.halo.app.extension.Metadata;
+import run.halo.app.extension.PageRequestImpl;
+import run.halo.app.extension.ReactiveExtensionClient;
+import run.halo.app.extension.index.query.Queries;
+import run.halo.app.infra.utils.JsonUtils;
+
+/**
+ * 公告的 NDJSON 导入导出。
+ * <p>导出按默认排序键分批读取存储，逐条写出；导入按行解码上传内容，逐行校验并以有限并发写入，
+ * 两者的内存占用都只与单批数据和单行长度相关，与公告总数无关。</p>
+ * <p>在线公告和归档公告都会导出，按每行的 {@code kind} 区分，导入时各自写回原来的类型，
+ * 同名的公告不能同时处于在线和归档状态。</p>
+ *
+ * @author Handsome
+ */
+@Component
+@RequiredArgsConstructor
+public class AnnouncementTransferService {
+
+    static final int EXPORT_BATCH_SIZE = 200;
+    static final int IMPORT_CONCURRENCY = 4;
+    // 单行上限，足以容纳较大的富文本正文
+    static final int MAX_LINE_BYTES = 8 * 1024 * 1024;
+
+    private static final Pattern NAME_PATTERN = Pattern.compile("[a-z0-9]([-a-z0-9.]*[a-z0-9])?");
+    private static final Set<String> POSITIONS =
+        Set.of("center", "left-bottom", "right-bottom", "left-top", "right-top");
+    private static final Set<String> EDITOR_TYPES = Set.of("richtext", ContentRenderer.EDITOR_TYPE_CODE);
+
+    private final ReactiveExtensionClient client;
+    private final AnnouncementArchive archive;
+
+    /**
+     * 按默认排序导出全部在线公告，再按原创建时间倒序导出全部归档公告
+     */
+    public Flux<AbstractExtension> export() {
+        Flux<Announcement> live = exportBatch(null)
+            .expand(batch -> batch.size() < EXPORT_BATCH_SIZE
+                ? Mono.empty()
+                : exportBatch(AnnouncementIndexes.defaultOrderKey(batch.get(batch.size() - 1))))
+            .concatMapIterable(batch -> batch);
+        Flux<ArchivedAnnouncement> archived = exportArchivedBatch(null)
+            .expand(batch -> batch.size() < EXPORT_BATCH_SIZE
+                ? Mono.empty()
+                : exportArchivedBatch(AnnouncementIndexes.archiveOrderKey(batch.get(batch.size() - 1))))
+            .concatMapIterable(batch -> batch);
+        return Flux.concat(live, archived);
+    }
+
+    private Mono<List<Announcement>> exportBatch(@Nullable String afterKey) {
+        var options = ListOptions.builder();
+        if (afterKey != null) {
+            options.andQuery(Queries.lessThan(AnnouncementIndexes.DEFAULT_ORDER, afterKey));
+        }
+        return client.listBy(Announcement.class, options.build(),
+                PageRequestImpl.of(1, EXPORT_BATCH_SIZE, Sort.by(Sort.Order.desc(AnnouncementIndexes.DEFAULT_ORDER))))
+            .map(result -> result.getItems());
+    }
+
+    private Mono<List<ArchivedAnnouncement>> exportArchivedBatch(@Nullable String afterKey) {
+        var options = ListOptions.builder();
+        if (afterKey != null) {
+            options.andQuery(Queries.lessThan(AnnouncementIndexes.ARCHIVE_ORDER, afterKey));
+        }
+        return client.listBy(ArchivedAnnouncement.class, options.build(),
+                PageRequestImpl.of(1, EXPORT_BATCH_SIZE, Sort.by(Sort.Order.desc(AnnouncementIndexes.ARCHIVE_ORDER))))
+            .map(result -> result.getItems());
+    }
+
+    /**
+     * 导入 NDJSON，每行一个在线公告或归档公告，按名称新建或覆盖
+     *
+     * @param content 上传内容
+     * @param dryRun 只校验并统计，不写入存储
+     */
+    public Mono<ImportReport> importNdjson(Flux<DataBuffer> content, boolean dryRun) {
+        var decoder = StringDecoder.textPlainOnly(List.of("\n"), true);
+        decoder.setMaxInMemorySize(MAX_LINE_BYTES);
+        return decoder.decode(content, ResolvableType.forClass(String.class), null, Map.of())
+            .index()
+            .filter(line -> StringUtils.isNotBlank(line.getT2()))
+            .flatMapSequential(line -> importLine(line.getT1() + 1, line.getT2(), dryRun), IMPORT_CONCURRENCY)
+            .reduceWith(Summary::new, Summary::add)
+            .doOnNext(summary -> {
+                if (!dryRun && summary.archivedWritten > 0) {
+                    archive.archivedChanged();
+                }
+            })
+            .map(summary -> summary.toReport(dryRun));
+    }
+
+    private Mono<Outcome> importLine(long line, String json, boolean dryRun) {
+        final JsonNode node;
+        try {
+            node = JsonUtils.mapper().readTree(json);
+        } catch (JsonProcessingException e) {
+            return Mono.just(Outcome.failed(line, null, "Invalid JSON: " + e.getOriginalMessage()));
+        }
+        if (ArchivedAnnouncement.KIND.equals(node.path("kind").asText())) {
+            final ArchivedAnnouncement archived;
+            try {
+                archived = JsonUtils.mapper().treeToValue(node, ArchivedAnnouncement.class);
+            } catch (JsonProcessingException e) {
+                return Mono.just(Outcome.failed(line, null, "Invalid JSON: " + e.getOriginalMessage()));
+            }
+            return importArchived(line, archived, dryRun);
+        }
+        final Announcement announcement;
+        try {
+            announcement = JsonUtils.mapper().treeToValue(node, Announcement.class);
+        } catch (JsonProcessingException e) {
+            return Mono.just(Outcome.failed(line, null, "Invalid JSON: " + e.getOriginalMessage()));
+        }
+        var name = announcement.getMetadata() == null ? null : announcement.getMetadata().getName();
+        var problem = validate(announcement);
+        if (problem != null) {
+            return Mono.just(Outcome.failed(line, name, problem));
+        }
+        return client.fetch(ArchivedAnnouncement.class, name)
+            .map(existing -> Outcome.failed(line, name, "An archived announcement with the same name exists, "
+                + "restore it instead"))
+            .switchIfEmpty(Mono.defer(() -> importLive(line, name, announcement, dryRun)))
+            .onErrorResume(e -> Mono.just(Outcome.failed(line, name, e.getMessage())));
+    }
+
+    private Mono<Outcome> importLive(long line, String name, Announcement announcement, boolean dryRun) {
+        return client.fetch(Announcement.class, name)
+            .flatMap(existing -> {
+                if (dryRun) {
+                    return Mono.just(Outcome.updated());
+                }
+                // 保留存储中的元数据（版本、创建时间等），只覆盖内容和标签
+                existing.setAnnouncementSpec(announcement.getAnnouncementSpec());
+                existing.getMetadata().setLabels(announcement.getMetadata().getLabels());
+                existing.getMetadata().setAnnotations(announcement.getMetadata().getAnnotations());
+                return client.update(existing).thenReturn(Outcome.updated());
+            })
+            .switchIfEmpty(Mono.defer(() -> {
+                if (dryRun) {
+                    return Mono.just(Outcome.created());
+                }
+                var metadata = new Metadata();
+                metadata.setName(name);
+                metadata.setLabels(announcement.getMetadata().getLabels());
+                metadata.setAnnotations(announcement.getMetadata().getAnnotations());
+                var created = new Announcement();
+                created.setMetadata(metadata);
+                created.setAnnouncementSpec(announcement.getAnnouncementSpec());
+                return client.create(created).thenReturn(Outcome.created());
+            }));
+    }
+
+    private Mono<Outcome> importArchived(long line, ArchivedAnnouncement archived, boolean dryRun) {
+        var name = archived.getMetadata() == null ? null : archived.getMetadata().getName();
+        var problem = validate(archived.getMetadata(), archived.getAnnouncementSpec());
+        if (problem != null) {
+            return Mono.just(Outcome.failed(line, name, problem));
+        }
+        // 缺少归档信息时按刚刚手动归档处理
+        if (archived.getArchive() == null) {
+            archived.setArchive(new ArchivedAnnouncement.ArchiveInfo());
+        }
+        var info = archived.getArchive();
+        if (info.getArchivedAt() == null) {
+            info.setArchivedAt(Instant.now());
+        }
+        if (info.getOriginalCreationTimestamp() == null) {
+            info.setOriginalCreationTimestamp(info.getArchivedAt());
+        }
+        if (StringUtils.isBlank(info.getReason())) {
+            info.setReason(AnnouncementArchive.REASON_MANUAL);
+        }
+        return client.fetch(Announcement.class, name)
+            .map(existing -> Outcome.failed(line, name, "An announcement with the same name is online"))
+            .switchIfEmpty(Mono.defer(() -> client.fetch(ArchivedAnnouncement.class, name)
+                .flatMap(existing -> {
+                    if (dryRun) {
+                        return Mono.just(Outcome.updatedArchived());
+                    }
+                    existing.setAnnouncementSpec(archived.getAnnouncementSpec());
+                    existing.setStatus(render(archived));
+                    existing.setArchive(archived.getArchive());
+                    existing.getMetadata().setLabels(archived.getMetadata().getLabels());
+                    existing.getMetadata().setAnnotations(archived.getMetadata().getAnnotations());
+                    return client.update(existing).thenReturn(Outcome.updatedArchived());
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    if (dryRun) {
+                        return Mono.just(Outcome.createdArchived());
+                    }
+                    var metadata = new Metadata();
+                    metadata.setName(name);
+                    metadata.setLabels(archived.getMetadata().getLabels());
+                    metadata.setAnnotations(archived.getMetadata().getAnnotations());
+                    var created = new ArchivedAnnouncement();
+                    created.setMetadata(metadata);
+                    created.setAnnouncementSpec(archived.getAnnouncementSpec());
+                    created.setStatus(render(archived));
+                    created.setArchive(archived.getArchive());
+                    return client.create(created).thenReturn(Outcome.createdArchived());
+                }))))
+            .onErrorResume(e -> Mono.just(Outcome.failed(line, name, e.getMessage())));
+    }
+
+    /**
+     * 归档公告没有调谐器，导入时按正文生成渲染结果，正文未变化时沿用文件中的结果
+     */
+    private static Announcement.AnnouncementStatus render(ArchivedAnnouncement archived) {
+        var announcement = new Announcement();
+        announcement.setMetadata(archived.getMetadata());
+        announcement.setAnnouncementSpec(archived.getAnnouncementSpec());
+        announcement.setStatus(archived.getStatus());
+        if (!ContentRenderer.isUpToDate(announcement)) {
+            ContentRenderer.render(announcement);
+        }
+        return announcement.getStatus();
+    }
+
+    /**
+     * 校验导入的公告，通过时返回空，否则返回失败原因
+     */
+    @Nullable
+    static String validate(Announcement announcement) {
+        return validate(announcement.getMetadata(), announcement.getAnnouncementSpec());
+    }
+
+    @Nullable
+    static String validate(@Nullable Metadata metadata, @Nullable Announcement.AnnouncementSpec spec) {
+        if (metadata == null || StringUtils.isBlank(metadata.getName())) {
+            return "metadata.name is required";
+        }
+        if (metadata.getName().length() > 253 || !NAME_PATTERN.matcher(metadata.getName()).matches()) {
+            return "metadata.name is invalid: " + metadata.getName();
+        }
+        if (spec == null) {
+            return "announcementSpec is required";
+        }
+        if (StringUtils.isBlank(spec.getTitle())) {
+            return "announcementSpec.title is required";
+        }
+        if (spec.getContent() == null) {
+            return "announcementSpec.content is required";
+        }
+        if (spec.getPosition() != null && !POSITIONS.contains(spec.getPosition())) {
+            return "announcementSpec.position is invalid: " + spec.getPosition();
+        }
+        if (spec.getEditorType() != null && !EDITOR_TYPES.contains(spec.getEditorType())) {
+            return "announcementSpec.editorType is invalid: " + spec.getEditorType();
+        }
+        if (spec.getAutoClose() < 0 || spec.getPopupInterval() < 0) {
+            return "announcementSpec.autoClose and popupInterval must not be negative";
+        }
+        if (spec.getStartAt() != null && spec.getEndAt() != null && !spec.getStartAt().isBefore(spec.getEndAt())) {
+            return "announcementSpec.endAt must be after startAt";
+        }
+        return null;
+    }
+
+    private record Outcome(Kind kind, boolean archived, @Nullable ImportReport.Error error) {
+
+        enum Kind {
+            CREATED,
+            UPDATED,
+            FAILED
+        }
+
+        static Outcome created() {
+            return new Outcome(Kind.CREATED, false, null);
+        }
+
+        static Outcome updated() {
+            return new Outcome(Kind.UPDATED, false, null);
+        }
+
+        static Outcome createdArchived() {
+            return new Outcome(Kind.CREATED, true, null);
+        }
+
+        static Outcome updatedArchived() {
+            return new Outcome(Kind.UPDATED, true, null);
+        }
+
+        static Outcome failed(long line, @Nullable String name, String message) {
+            return new Outcome(Kind.FAILED, false, new ImportReport.Error(line, name, message));
+        }
+    }
+
+    /**
+     * 逐行累加的统计，只保留有限条失败明细
+     */
+    private static final class Summary {
+        private long created;
+        private long updated;
+        private long failed;
+        private long archivedWritten;
+        private final List<ImportReport.Error> errors = new ArrayList<>();
+
+        Summary add(Outcome outcome) {
+            if (outcome.archived()) {
+                archivedWritten++;
+            }
+            switch (outcome.kind()) {
+                case CREATED -> created++;
+                case UPDATED -> updated++;
+                case FAILED -> {
+                    failed++;
+                    if (errors.size() < ImportReport.MAX_ERRORS) {
+                        errors.add(outcome.error());
+                    }
+                }
+            }
+            return this;
+        }
+
+        ImportReport toReport(boolean dryRun) {
+            return new ImportReport(dryRun, created + updated + failed, created, updated, failed,
+                List.copyOf(errors));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package cc.lik.announcement.transfer;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * 导入结果汇总
+ *
+ * @param dryRun 是否为演练，演练时不写入存储
+ * @param total 读取的公告行数，不含空行
+ * @param created 新建（演练时为将新建）的数量
+ * @param updated 更新（演练时为将更新）的数量
+ * @param failed 校验或写入失败的数量
+ * @param errors 失败明细，最多保留 {@link #MAX_ERRORS} 条
+ * @author Handsome
+ */
+public record ImportReport(boolean dryRun, long total, long created, long updated, long failed,
+                           @Schema(description = "失败明细，最多保留 100 条") List<Error> errors) {
+
+    public static final int MAX_ERRORS = 100;
+
+    /**
+     * @param line 行号，从 1 开始
+     * @param name 公告名称，无法解析时为空
+     * @param message 失败原因
+     */
+    @Schema(name = "ImportError")
+    public record Error(long line, String name, String message) {
+    }
+}
@@ -0,0 +1,123 @@
+package cc.lik.announcement.view;
+
+import cc.lik.announcement.extension.Announcement;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.beans.BeanUtils;
+
+/**
+ * 公告的裁剪视图，字段结构与 {@link Announcement} 保持一致，前端可以按同一类型读取，缺失的字段不输出
+ *
+ * @author Handsome
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AnnouncementProjection(Meta metadata, Spec announcementSpec, Status status) {
+
+    static AnnouncementProjection summary(Announcement announcement) {
+        var spec = announcement.getAnnouncementSpec();
+        var status = Optional.ofNullable(announcement.getStatus());
+        return new AnnouncementProjection(Meta.of(announcement),
+            new Spec(spec.getTitle(), spec.getType(), spec.getEnablePinning(), spec.getEnablePopup(),
+                null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+                null, null, null, null),
+            new Status(null,
+                status.map(Announcement.AnnouncementStatus::getExcerpt).orElse(null),
+                status.map(Announcement.AnnouncementStatus::getWordCount).orElse(null)));
+    }
+
+    static AnnouncementProjection popup(Announcement announcement) {
+        var spec = announcement.getAnnouncementSpec();
+        var rendered = Optional.ofNullable(announcement.getStatus())
+            .map(Announcement.AnnouncementStatus::getRenderedContent)
+            .orElse(null);
+        return new AnnouncementProjection(Meta.of(announcement),
+            new Spec(spec.getTitle(), spec.getType(), spec.getEnablePinning(), spec.getEnablePopup(),
+                // 尚未渲染的旧数据回退到原始正文
+                rendered == null ? spec.getContent() : null,
+                spec.getPosition(), spec.getAutoClose(), spec.getCloseOnClickOutside(),
+                spec.getPopupInterval(), spec.getConfettiEnable(),
+                spec.getPopupIcon(), spec.getPopupIconBgColor(),
+                spec.getPrimaryButtonText(), spec.getPrimaryButtonColor(), spec.getPrimaryButtonAction(),
+                spec.getPrimaryButtonUrl(), spec.getPrimaryButtonCallback(),
+                spec.getSecondaryButtonText(), spec.getSecondaryButtonColor(), spec.getSecondaryButtonAction(),
+                spec.getSecondaryButtonUrl(), spec.getSecondaryButtonCallback()),
+            rendered == null ? null : new Status(rendered, null, null));
+    }
+
+    /**
+     * 公开接口的完整公告：正文替换为渲染后的 HTML，状态中不再重复附带渲染结果
+     */
+    static Announcement publicFull(Announcement announcement) {
+        var spec = announcement.getAnnouncementSpec();
+        var status = announcement.getStatus();
+        if (spec == null || status == null || status.getRenderedContent() == null) {
+            // 尚未渲染的旧数据只有原始正文，本身就只有一份
+            return announcement;
+        }
+        var copy = shallowCopy(announcement);
+        // 规格的字段都是不可变值，浅复制后只替换正文，不必深复制整个规格
+        var publicSpec = new Announcement.AnnouncementSpec();
+        BeanUtils.copyProperties(spec, publicSpec, "content");
+        publicSpec.setContent(status.getRenderedContent());
+        copy.setAnnouncementSpec(publicSpec);
+        copy.setStatus(statusWithoutContent(status));
+        return copy;
+    }
+
+    /**
+     * 控制台的完整公告：编辑只需要原始正文，不附带渲染结果
+     */
+    static Announcement consoleFull(Announcement announcement) {
+        var status = announcement.getStatus();
+        if (status == null || status.getRenderedContent() == null) {
+            return announcement;
+        }
+        var copy = shallowCopy(announcement);
+        copy.setAnnouncementSpec(announcement.getAnnouncementSpec());
+        var consoleStatus = statusWithoutContent(status);
+        // 保留摘要值：回写时调谐器发现缺少渲染结果会重新渲染
+        consoleStatus.setContentHash(status.getContentHash());
+        copy.setStatus(consoleStatus);
+        return copy;
+    }
+
+    private static Announcement shallowCopy(Announcement announcement) {
+        var copy = new Announcement();
+        copy.setApiVersion(announcement.getApiVersion());
+        copy.setKind(announcement.getKind());
+        copy.setMetadata(announcement.getMetadata());
+        return copy;
+    }
+
+    private static Announcement.AnnouncementStatus statusWithoutContent(Announcement.AnnouncementStatus status) {
+        var copy = new Announcement.AnnouncementStatus();
+        copy.setExcerpt(status.getExcerpt());
+        copy.setWordCount(status.getWordCount());
+        copy.setActive(status.getActive());
+        return copy;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Meta(String name, Instant creationTimestamp) {
+        static Meta of(Announcement announcement) {
+            return new Meta(announcement.getMetadata().getName(),
+                announcement.getMetadata().getCreationTimestamp());
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Spec(String title, String type, Boolean enablePinning, Boolean enablePopup,
+                       String content, String position, Integer autoClose, Boolean closeOnClickOutside,
+                       Integer popupInterval, Boolean confettiEnable,
+                       String popupIcon, String popupIconBgColor,
+                       String primaryButtonText, String primaryButtonColor, String primaryButtonAction,
+                       String primaryButtonUrl, String primaryButtonCallback,
+                       String secondaryButtonText, String secondaryButtonColor, String secondaryButtonAction,
+                       String secondaryButtonUrl, String secondaryButtonCallback) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Status(String renderedContent, String excerpt, Integer wordCount) {
+    }
+}
@@ -0,0 +1,87 @@
+package cc.lik.announcement.view;
+
+import cc.lik.announcement.CursorPage;
+import cc.lik.announcement.extension.Announcement;
+import java.util.Locale;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.web.server.ServerWebInputException;
+import run.halo.app.extension.ListResult;
+
+/**
+ * 公告响应的字段视图，按调用方实际使用的字段裁剪响应
+ * <ul>
+ *     <li>{@code full}：完整公告（默认）。公开接口中正文为渲染后的 HTML，不再附带原始正文；
+ *     控制台中为原始正文，不附带渲染结果，正文都只输出一份</li>
+ *     <li>{@code summary}：列表展示所需的标题、类型、置顶、创建时间和纯文本摘要，不含正文</li>
+ *     <li>{@code popup}：弹窗展示所需的字段和渲染后的正文，不含 URL 规则等配置</li>
+ * </ul>
+ *
+ * @author Handsome
+ */
+public enum AnnouncementView {
+    FULL,
+    SUMMARY,
+    POPUP,
+    // 以下两个由 forPublic、forConsole 得到，不能通过参数指定
+    PUBLIC_FULL,
+    CONSOLE_FULL;
+
+    public static AnnouncementView parse(@Nullable String value) {
+        if (StringUtils.isBlank(value)) {
+            return FULL;
+        }
+        try {
+            var view = valueOf(value.trim().toUpperCase(Locale.ROOT));
+            if (view == PUBLIC_FULL || view == CONSOLE_FULL) {
+                throw new IllegalArgumentException(value);
+            }
+            return view;
+        } catch (IllegalArgumentException e) {
+            throw new ServerWebInputException("Unsupported view: " + value);
+        }
+    }
+
+    /**
+     * 公开接口实际使用的视图
+     */
+    public AnnouncementView forPublic() {
+        return this == FULL ? PUBLIC_FULL : this;
+    }
+
+    /**
+     * 控制台接口实际使用的视图
+     */
+    public AnnouncementView forConsole() {
+        return this == FULL ? CONSOLE_FULL : this;
+    }
+
+    /**
+     * 参数值，同时用作响应缓存键的一部分
+     */
+    public String value() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public Object project(Announcement announcement) {
+        return switch (this) {
+            case FULL -> announcement;
+            case SUMMARY -> AnnouncementProjection.summary(announcement);
+            case POPUP -> AnnouncementProjection.popup(announcement);
+            case PUBLIC_FULL -> AnnouncementProjection.publicFull(announcement);
+            case CONSOLE_FULL -> AnnouncementProjection.consoleFull(announcement);
+        };
+    }
+
+    public ListResult<?> project(ListResult<Announcement> result) {
+        if (this == FULL) {
+            return result;
+        }
+        return new ListResult<>(result.getPage(), result.getSize(), result.getTotal(),
+            result.getItems().stream().map(this::project).toList());
+    }
+
+    public CursorPage<?> project(CursorPage<Announcement> page) {
+        return this == FULL ? page : page.map(this::project);
+    }
+}
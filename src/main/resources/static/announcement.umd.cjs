@@ -1 +0,0 @@
-!function(t){"function"==typeof define&&define.amd?define(t):t()}(function(){"use strict";var t,e,n,r,i,o,l,a,s,c,u,f,p,d,h,v,g,m,b,_,y,w,k,x,$,M,z,S,C,E,T,O,P,I,N,A,W,j,B,L,D,R,F,q,H,U,V=Object.defineProperty,Y=t=>{throw TypeError(t)},Z=(t,e,n)=>((t,e,n)=>e in t?V(t,e,{enumerable:!0,configurable:!0,writable:!0,value:n}):t[e]=n)(t,"symbol"!=typeof e?e+"":e,n),X=(t,e,n)=>e.has(t)||Y("Cannot "+n),J=(t,e,n)=>(X(t,e,"read from private field"),n?n.call(t):e.get(t)),K=(t,e,n)=>e.has(t)?Y("Cannot add the same private member more than once"):e instanceof WeakSet?e.add(t):e.set(t,n),G=(t,e,n,r)=>(X(t,e,"write to private field"),r?r.call(t,n):e.set(t,n),n),Q=(t,e,n)=>(X(t,e,"access private method"),n);typeof window<"u"&&((t=window.__svelte??(window.__svelte={})).v??(t.v=new Set)).add("5");const tt="[!",et={},nt=Symbol();var rt=Array.isArray,it=Array.prototype.indexOf,ot=Array.from,lt=Object.keys,at=Object.defineProperty,st=Object.getOwnPropertyDescriptor,ct=Object.prototype,ut=Array.prototype,ft=Object.getPrototypeOf,pt=Object.isExtensible;function dt(){var t,e;return{promise:new Promise((n,r)=>{t=n,e=r}),resolve:t,reject:e}}const ht=16,vt=32,gt=64,mt=128,bt=512,_t=1024,yt=2048,wt=4096,kt=8192,xt=16384,$t=32768,Mt=65536,zt=1<<17,St=1<<18,Ct=1<<19,Et=1<<25,Tt=32768,Ot=1<<21,Pt=1<<22,It=1<<23,Nt=Symbol("$state"),At=Symbol("legacy props"),Wt=new class extends Error{constructor(){super(...arguments),Z(this,"name","StaleReactionError"),Z(this,"message","The reaction that called `getAbortSignal()` was re-run or destroyed")}};function jt(t){console.warn("https://svelte.dev/e/hydration_mismatch")}let Bt,Lt=!1;function Dt(t){Lt=t}function Rt(t){if(null===t)throw jt(),et;return Bt=t}function Ft(){return Rt(Ye(Bt))}function qt(t){if(Lt){if(null!==Ye(Bt))throw jt(),et;Bt=t}}function Ht(t=!0){for(var e=0,n=Bt;;){if(8===n.nodeType){var r=n.data;if("]"===r){if(0===e)return n;e-=1}else("["===r||r===tt)&&(e+=1)}var i=Ye(n);t&&n.remove(),n=i}}function Ut(t){if(!t||8!==t.nodeType)throw jt(),et;return t.data}function Vt(t){return t===this.v}function Yt(t){return!function(t,e){return t!=t?e==e:t!==e||null!==t&&"object"==typeof t||"function"==typeof t}(t,this.v)}let Zt=null;function Xt(t){Zt=t}function Jt(t,e=!1,n){Zt={p:Zt,i:!1,c:null,e:null,s:t,x:null,l:null}}function Kt(t){var e=Zt,n=e.e;if(null!==n)for(var r of(e.e=null,n))nn(r);return void 0!==t&&(e.x=t),e.i=!0,Zt=e.p,t??{}}let Gt=[];function Qt(){var t=Gt;Gt=[],function(t){for(var e=0;e<t.length;e++)t[e]()}(t)}function te(t){if(0===Gt.length&&!ue){var e=Gt;queueMicrotask(()=>{e===Gt&&Qt()})}Gt.push(t)}function ee(){for(;Gt.length>0;)Qt()}function ne(t){var e=Mn;if(null===e)return kn.f|=It,t;if(0===(e.f&$t)){if(0===(e.f&mt))throw t;e.b.error(t)}else re(t,e)}function re(t,e){for(;null!==e;){if(0!==(e.f&mt))try{return void e.b.error(t)}catch(e){t=e}e=e.parent}throw t}const ie=new Set;let oe=null,le=null,ae=[],se=null,ce=!1,ue=!1;e=new WeakMap,n=new WeakMap,r=new WeakMap,i=new WeakMap,o=new WeakMap,l=new WeakMap,a=new WeakMap,s=new WeakSet,c=function(t,e){var n;t.f^=_t;for(var r=t.first;null!==r;){var i=r.f,o=!!(96&i),a=o&&0!==(i&_t)||0!==(i&kt)||this.skipped_effects.has(r);if(0!==(r.f&mt)&&null!=(n=r.b)&&n.is_pending()&&(e={parent:e,effect:r,effects:[],render_effects:[]}),!a&&null!==r.fn){o?r.f^=_t:4&i?e.effects.push(r):jn(r)&&(0!==(r.f&ht)&&J(this,l).add(r),Fn(r));var c=r.first;if(null!==c){r=c;continue}}var f=r.parent;for(r=r.next;null===r&&null!==f;)f===e.effect&&(Q(this,s,u).call(this,e.effects),Q(this,s,u).call(this,e.render_effects),e=e.parent),r=f.next,f=f.parent}},u=function(t){for(const e of t)0!==(e.f&yt)?J(this,l).add(e):0!==(e.f&wt)&&J(this,a).add(e),Q(this,s,f).call(this,e.deps),Yn(e,_t)},f=function(t){if(null!==t)for(const e of t)!(2&e.f)||0===(e.f&Tt)||(e.f^=Tt,Q(this,s,f).call(this,e.deps))},p=function(){if(0===J(this,i)){for(const t of J(this,e))t();J(this,e).clear()}0===J(this,r)&&Q(this,s,d).call(this)},d=function(){var t;if(ie.size>1){this.previous.clear();var e=le,n=!0,r={parent:null,effect:null,effects:[],render_effects:[]};for(const e of ie){if(e===this){n=!1;continue}const o=[];for(const[t,r]of this.current){if(e.current.has(t)){if(!n||r===e.current.get(t))continue;e.current.set(t,r)}o.push(t)}if(0===o.length)continue;const l=[...e.current.keys()].filter(t=>!this.current.has(t));if(l.length>0){var i=ae;ae=[];const n=new Set,a=new Map;for(const t of o)me(t,l,n,a);if(ae.length>0){oe=e,e.apply();for(const n of ae)Q(t=e,s,c).call(t,n,r);e.deactivate()}ae=i}}oe=null,le=e}this.committed=!0,ie.delete(this)};let fe=class t{constructor(){K(this,s),Z(this,"committed",!1),Z(this,"current",new Map),Z(this,"previous",new Map),K(this,e,new Set),K(this,n,new Set),K(this,r,0),K(this,i,0),K(this,o,null),K(this,l,new Set),K(this,a,new Set),Z(this,"skipped_effects",new Set),Z(this,"is_fork",!1)}is_deferred(){return this.is_fork||J(this,i)>0}process(t){var e;ae=[],this.apply();var n={parent:null,effect:null,effects:[],render_effects:[]};for(const e of t)Q(this,s,c).call(this,e,n);this.is_fork||Q(this,s,p).call(this),this.is_deferred()?(Q(this,s,u).call(this,n.effects),Q(this,s,u).call(this,n.render_effects)):(oe=null,ge(n.render_effects),ge(n.effects),null==(e=J(this,o))||e.resolve()),le=null}capture(t,e){this.previous.has(t)||this.previous.set(t,e),0===(t.f&It)&&(this.current.set(t,t.v),null==le||le.set(t,t.v))}activate(){oe=this,this.apply()}deactivate(){oe===this&&(oe=null,le=null)}flush(){if(this.activate(),ae.length>0){if(de(),null!==oe&&oe!==this)return}else 0===J(this,r)&&this.process([]);this.deactivate()}discard(){for(const t of J(this,n))t(this);J(this,n).clear()}increment(t){G(this,r,J(this,r)+1),t&&G(this,i,J(this,i)+1)}decrement(t){G(this,r,J(this,r)-1),t&&G(this,i,J(this,i)-1),this.revive()}revive(){for(const t of J(this,l))J(this,a).delete(t),Yn(t,yt),_e(t);for(const t of J(this,a))Yn(t,wt),_e(t);this.flush()}oncommit(t){J(this,e).add(t)}ondiscard(t){J(this,n).add(t)}settled(){return(J(this,o)??G(this,o,dt())).promise}static ensure(){if(null===oe){const e=oe=new t;ie.add(oe),ue||t.enqueue(()=>{oe===e&&e.flush()})}return oe}static enqueue(t){te(t)}apply(){}};function pe(t){var e=ue;ue=!0;try{for(;;){if(ee(),0===ae.length&&(null==oe||oe.flush(),0===ae.length))return void(se=null);de()}}finally{ue=e}}function de(){var t=bn;ce=!0;try{var e=0;for(_n(!0);ae.length>0;){var n=fe.ensure();if(e++>1e3)he();n.process(ae),Te.clear()}}finally{ce=!1,_n(t),se=null}}function he(){try{!function(){throw new Error("https://svelte.dev/e/effect_update_depth_exceeded")}()}catch(t){re(t,se)}}let ve=null;function ge(t){var e=t.length;if(0!==e){for(var n=0;n<e;){var r=t[n++];if(!(24576&r.f)&&jn(r)&&(ve=new Set,Fn(r),null===r.deps&&null===r.first&&null===r.nodes&&(null===r.teardown&&null===r.ac?pn(r):r.fn=null),(null==ve?void 0:ve.size)>0)){Te.clear();for(const t of ve){if(24576&t.f)continue;const e=[t];let n=t.parent;for(;null!==n;)ve.has(n)&&(ve.delete(n),e.push(n)),n=n.parent;for(let t=e.length-1;t>=0;t--){const n=e[t];!(24576&n.f)&&Fn(n)}}ve.clear()}}ve=null}}function me(t,e,n,r){if(!n.has(t)&&(n.add(t),null!==t.reactions))for(const i of t.reactions){const t=i.f;2&t?me(i,e,n,r):0!==(t&(Pt|ht))&&0===(t&yt)&&be(i,e,r)&&(Yn(i,yt),_e(i))}}function be(t,e,n){const r=n.get(t);if(void 0!==r)return r;if(null!==t.deps)for(const r of t.deps){if(e.includes(r))return!0;if(2&r.f&&be(r,e,n))return n.set(r,!0),!0}return n.set(t,!1),!1}function _e(t){for(var e=se=t;null!==e.parent;){var n=(e=e.parent).f;if(ce&&e===Mn&&0!==(n&ht)&&0===(n&St))return;if(96&n){if(0===(n&_t))return;e.f^=_t}}ae.push(e)}function ye(t){let e,n=0,r=Pe(0);return()=>{en()&&(qn(r),rn(()=>(0===n&&(e=function(t){var e=xn;try{return xn=!0,t()}finally{xn=e}}(()=>t(()=>je(r)))),n+=1,()=>{te(()=>{n-=1,0===n&&(null==e||e(),e=void 0,je(r))})})))}}class we{constructor(t,e,n){K(this,T),Z(this,"parent"),K(this,h,!1),K(this,v),K(this,g,Lt?Bt:null),K(this,m),K(this,b),K(this,_),K(this,y,null),K(this,w,null),K(this,k,null),K(this,x,null),K(this,$,null),K(this,M,0),K(this,z,0),K(this,S,!1),K(this,C,null),K(this,E,ye(()=>(G(this,C,Pe(J(this,M))),()=>{G(this,C,null)}))),G(this,v,t),G(this,m,e),G(this,b,n),this.parent=Mn.b,G(this,h,!!J(this,m).pending),G(this,_,ln(()=>{if(Mn.b=this,Lt){const t=J(this,g);Ft(),8===t.nodeType&&t.data===tt?Q(this,T,P).call(this):Q(this,T,O).call(this)}else{var t=Q(this,T,I).call(this);try{G(this,y,an(()=>n(t)))}catch(t){this.error(t)}J(this,z)>0?Q(this,T,A).call(this):G(this,h,!1)}return()=>{var t;null==(t=J(this,$))||t.remove()}},589952)),Lt&&G(this,v,Bt)}is_pending(){return J(this,h)||!!this.parent&&this.parent.is_pending()}has_pending_snippet(){return!!J(this,m).pending}update_pending_count(t){Q(this,T,W).call(this,t),G(this,M,J(this,M)+t),J(this,C)&&We(J(this,C),J(this,M))}get_effect_pending(){return J(this,E).call(this),qn(J(this,C))}error(t){var e=J(this,m).onerror;let n=J(this,m).failed;if(J(this,S)||!e&&!n)throw t;J(this,y)&&(un(J(this,y)),G(this,y,null)),J(this,w)&&(un(J(this,w)),G(this,w,null)),J(this,k)&&(un(J(this,k)),G(this,k,null)),Lt&&(Rt(J(this,g)),function(t=1){if(Lt){for(var e=t,n=Bt;e--;)n=Ye(n);Bt=n}}(),Rt(Ht()));var r=!1,i=!1;const o=()=>{r?console.warn("https://svelte.dev/e/svelte_boundary_reset_noop"):(r=!0,i&&function(){throw new Error("https://svelte.dev/e/svelte_boundary_reset_onerror")}(),fe.ensure(),G(this,M,0),null!==J(this,k)&&dn(J(this,k),()=>{G(this,k,null)}),G(this,h,this.has_pending_snippet()),G(this,y,Q(this,T,N).call(this,()=>(G(this,S,!1),an(()=>J(this,b).call(this,J(this,v)))))),J(this,z)>0?Q(this,T,A).call(this):G(this,h,!1))};var l=kn;try{$n(null),i=!0,null==e||e(t,o),i=!1}catch(t){re(t,J(this,_)&&J(this,_).parent)}finally{$n(l)}n&&te(()=>{G(this,k,Q(this,T,N).call(this,()=>{fe.ensure(),G(this,S,!0);try{return an(()=>{n(J(this,v),()=>t,()=>o)})}catch(t){return re(t,J(this,_).parent),null}finally{G(this,S,!1)}}))})}}function ke(t,e,n,r){const i=$e;if(0!==n.length||0!==t.length){var o=oe,l=Mn,a=function(){var t=Mn,e=kn,n=Zt,r=oe;return function(i=!0){zn(t),$n(e),Xt(n),i&&(null==r||r.activate())}}();t.length>0?Promise.all(t).then(()=>{a();try{return s()}finally{null==o||o.deactivate(),xe()}}):s()}else r(e.map(i));function s(){Promise.all(n.map(t=>function(t){let e=Mn;null===e&&function(){throw new Error("https://svelte.dev/e/async_derived_orphan")}();var n=e.b,r=void 0,i=Pe(nt),o=!kn,l=new Map;return function(t){tn(Pt|Ct,t,!0)}(()=>{var e,a=dt();r=a.promise;try{Promise.resolve(t()).then(a.resolve,a.reject).then(()=>{s===oe&&s.committed&&s.deactivate(),xe()})}catch(t){a.reject(t),xe()}var s=oe;if(o){var c=!n.is_pending();n.update_pending_count(1),s.increment(c),null==(e=l.get(s))||e.reject(Wt),l.delete(s),l.set(s,a)}const u=(t,e=void 0)=>{if(s.activate(),e)e!==Wt&&(i.f|=It,We(i,e));else{0!==(i.f&It)&&(i.f^=It),We(i,t);for(const[t,e]of l){if(l.delete(t),t===s)break;e.reject(Wt)}}o&&(n.update_pending_count(-1),s.decrement(c))};a.promise.then(u,t=>u(null,t||"unknown"))}),function(t){const e=tn(8,null,!1);Yn(e,_t),e.teardown=t}(()=>{for(const t of l.values())t.reject(Wt)}),new Promise(t=>{function e(n){function o(){n===r?t(i):e(r)}n.then(o,o)}e(r)})}(t))).then(t=>{a();try{r([...e.map(i),...t])}catch(t){0===(l.f&xt)&&re(t,l)}null==o||o.deactivate(),xe()}).catch(t=>{re(t,l)})}}function xe(){zn(null),$n(null),Xt(null)}function $e(t){var e=null!==kn&&2&kn.f?kn:null;return null!==Mn&&(Mn.f|=Ct),{ctx:Zt,deps:null,effects:null,equals:Vt,f:2050,fn:t,reactions:null,rv:0,v:nt,wv:0,parent:e??Mn,ac:null}}function Me(t){const e=$e(t);return Cn(e),e}function ze(t){var e=t.effects;if(null!==e){t.effects=null;for(var n=0;n<e.length;n+=1)un(e[n])}}function Se(t){var e,n=Mn;zn(function(t){for(var e=t.parent;null!==e;){if(!(2&e.f))return 0===(e.f&xt)?e:null;e=e.parent}return null}(t));try{t.f&=~Tt,ze(t),e=Ln(t)}finally{zn(n)}return e}function Ce(t){var e=Se(t);if(t.equals(e)||(null!=oe&&oe.is_fork||(t.v=e),t.wv=Wn()),!yn)if(null!==le)(en()||null!=oe&&oe.is_fork)&&le.set(t,e);else{Yn(t,0===(t.f&bt)?wt:_t)}}h=new WeakMap,v=new WeakMap,g=new WeakMap,m=new WeakMap,b=new WeakMap,_=new WeakMap,y=new WeakMap,w=new WeakMap,k=new WeakMap,x=new WeakMap,$=new WeakMap,M=new WeakMap,z=new WeakMap,S=new WeakMap,C=new WeakMap,E=new WeakMap,T=new WeakSet,O=function(){try{G(this,y,an(()=>J(this,b).call(this,J(this,v))))}catch(t){this.error(t)}G(this,h,!1)},P=function(){const t=J(this,m).pending;t&&(G(this,w,an(()=>t(J(this,v)))),fe.enqueue(()=>{var t=Q(this,T,I).call(this);G(this,y,Q(this,T,N).call(this,()=>(fe.ensure(),an(()=>J(this,b).call(this,t))))),J(this,z)>0?Q(this,T,A).call(this):(dn(J(this,w),()=>{G(this,w,null)}),G(this,h,!1))}))},I=function(){var t=J(this,v);return J(this,h)&&(G(this,$,Ue()),J(this,v).before(J(this,$)),t=J(this,$)),t},N=function(t){var e=Mn,n=kn,r=Zt;zn(J(this,_)),$n(J(this,_)),Xt(J(this,_).ctx);try{return t()}catch(t){return ne(t),null}finally{zn(e),$n(n),Xt(r)}},A=function(){const t=J(this,m).pending;null!==J(this,y)&&(G(this,x,document.createDocumentFragment()),J(this,x).append(J(this,$)),mn(J(this,y),J(this,x))),null===J(this,w)&&G(this,w,an(()=>t(J(this,v))))},W=function(t){var e;this.has_pending_snippet()?(G(this,z,J(this,z)+t),0===J(this,z)&&(G(this,h,!1),J(this,w)&&dn(J(this,w),()=>{G(this,w,null)}),J(this,x)&&(J(this,v).before(J(this,x)),G(this,x,null)))):this.parent&&Q(e=this.parent,T,W).call(e,t)};let Ee=new Set;const Te=new Map;let Oe=!1;function Pe(t,e){return{f:0,v:t,reactions:null,equals:Vt,rv:0,wv:0}}function Ie(t,e){const n=Pe(t);return Cn(n),n}function Ne(t,e=!1,n=!0){const r=Pe(t);return e||(r.equals=Yt),r}function Ae(t,e,n=!1){return null!==kn&&(!xn||0!==(kn.f&zt))&&4325394&kn.f&&(null==Sn||!Sn.includes(t))&&function(){throw new Error("https://svelte.dev/e/state_unsafe_mutation")}(),We(t,n?Le(e):e)}function We(t,e){if(!t.equals(e)){var n=t.v;yn?Te.set(t,e):Te.set(t,n),t.v=e;var r=fe.ensure();r.capture(t,n),!!(2&t.f)&&(0!==(t.f&yt)&&Se(t),Yn(t,0!==(t.f&bt)?_t:wt)),t.wv=Wn(),Be(t,yt),null!==Mn&&0!==(Mn.f&_t)&&!(96&Mn.f)&&(null===On?function(t){On=t}([t]):On.push(t)),!r.is_fork&&Ee.size>0&&!Oe&&function(){Oe=!1;var t=bn;_n(!0);const e=Array.from(Ee);try{for(const t of e)0!==(t.f&_t)&&Yn(t,wt),jn(t)&&Fn(t)}finally{_n(t)}Ee.clear()}()}return e}function je(t){Ae(t,t.v+1)}function Be(t,e){var n=t.reactions;if(null!==n)for(var r=n.length,i=0;i<r;i++){var o=n[i],l=o.f,a=0===(l&yt);if(a&&Yn(o,e),2&l){var s=o;null==le||le.delete(s),0===(l&Tt)&&(l&bt&&(o.f|=Tt),Be(s,wt))}else a&&(0!==(l&ht)&&null!==ve&&ve.add(o),_e(o))}}function Le(t){if("object"!=typeof t||null===t||Nt in t)return t;const e=ft(t);if(e!==ct&&e!==ut)return t;var n=new Map,r=rt(t),i=Ie(0),o=Nn,l=t=>{if(Nn===o)return t();var e=kn,n=Nn;$n(null),An(o);var r=t();return $n(e),An(n),r};return r&&n.set("length",Ie(t.length)),new Proxy(t,{defineProperty(t,e,r){(!("value"in r)||!1===r.configurable||!1===r.enumerable||!1===r.writable)&&function(){throw new Error("https://svelte.dev/e/state_descriptors_fixed")}();var i=n.get(e);return void 0===i?i=l(()=>{var t=Ie(r.value);return n.set(e,t),t}):Ae(i,r.value,!0),!0},deleteProperty(t,e){var r=n.get(e);if(void 0===r){if(e in t){const t=l(()=>Ie(nt));n.set(e,t),je(i)}}else Ae(r,nt),je(i);return!0},get(e,r,i){var o;if(r===Nt)return t;var a=n.get(r),s=r in e;if(void 0===a&&(!s||null!=(o=st(e,r))&&o.writable)&&(a=l(()=>Ie(Le(s?e[r]:nt))),n.set(r,a)),void 0!==a){var c=qn(a);return c===nt?void 0:c}return Reflect.get(e,r,i)},getOwnPropertyDescriptor(t,e){var r=Reflect.getOwnPropertyDescriptor(t,e);if(r&&"value"in r){var i=n.get(e);i&&(r.value=qn(i))}else if(void 0===r){var o=n.get(e),l=null==o?void 0:o.v;if(void 0!==o&&l!==nt)return{enumerable:!0,configurable:!0,value:l,writable:!0}}return r},has(t,e){var r;if(e===Nt)return!0;var i=n.get(e),o=void 0!==i&&i.v!==nt||Reflect.has(t,e);if((void 0!==i||null!==Mn&&(!o||null!=(r=st(t,e))&&r.writable))&&(void 0===i&&(i=l(()=>Ie(o?Le(t[e]):nt)),n.set(e,i)),qn(i)===nt))return!1;return o},set(t,e,o,a){var s,c=n.get(e),u=e in t;if(r&&"length"===e)for(var f=o;f<c.v;f+=1){var p=n.get(f+"");void 0!==p?Ae(p,nt):f in t&&(p=l(()=>Ie(nt)),n.set(f+"",p))}void 0===c?(!u||null!=(s=st(t,e))&&s.writable)&&(Ae(c=l(()=>Ie(void 0)),Le(o)),n.set(e,c)):(u=c.v!==nt,Ae(c,l(()=>Le(o))));var d=Reflect.getOwnPropertyDescriptor(t,e);if(null!=d&&d.set&&d.set.call(a,o),!u){if(r&&"string"==typeof e){var h=n.get("length"),v=Number(e);Number.isInteger(v)&&v>=h.v&&Ae(h,v+1)}je(i)}return!0},ownKeys(t){qn(i);var e=Reflect.ownKeys(t).filter(t=>{var e=n.get(t);return void 0===e||e.v!==nt});for(var[r,o]of n)o.v!==nt&&!(r in t)&&e.push(r);return e},setPrototypeOf(){!function(){throw new Error("https://svelte.dev/e/state_prototype_fixed")}()}})}var De,Re,Fe,qe;function He(){if(void 0===De){De=window,Re=/Firefox/.test(navigator.userAgent);var t=Element.prototype,e=Node.prototype,n=Text.prototype;Fe=st(e,"firstChild").get,qe=st(e,"nextSibling").get,pt(t)&&(t.__click=void 0,t.__className=void 0,t.__attributes=null,t.__style=void 0,t.__e=void 0),pt(n)&&(n.__t=void 0)}}function Ue(t=""){return document.createTextNode(t)}function Ve(t){return Fe.call(t)}function Ye(t){return qe.call(t)}function Ze(t,e){if(!Lt)return Ve(t);var n=Ve(Bt);if(null===n)n=Bt.appendChild(Ue());else if(e&&3!==n.nodeType){var r=Ue();return null==n||n.before(r),Rt(r),r}return Rt(n),n}function Xe(t,e=!1){if(!Lt){var n=Ve(t);return n instanceof Comment&&""===n.data?Ye(n):n}if(e&&3!==(null==Bt?void 0:Bt.nodeType)){var r=Ue();return null==Bt||Bt.before(r),Rt(r),r}return Bt}function Je(t,e=1,n=!1){let r=Lt?Bt:t;for(var i;e--;)i=r,r=Ye(r);if(!Lt)return r;if(n&&3!==(null==r?void 0:r.nodeType)){var o=Ue();return null===r?null==i||i.after(o):r.before(o),Rt(o),o}return Rt(r),r}function Ke(t){t.textContent=""}function Ge(t){var e=kn,n=Mn;$n(null),zn(null);try{return t()}finally{$n(e),zn(n)}}function Qe(t){null===Mn&&(null===kn&&function(){throw new Error("https://svelte.dev/e/effect_orphan")}(),function(){throw new Error("https://svelte.dev/e/effect_in_unowned_derived")}()),yn&&function(){throw new Error("https://svelte.dev/e/effect_in_teardown")}()}function tn(t,e,n){var r=Mn;null!==r&&0!==(r.f&kt)&&(t|=kt);var i={ctx:Zt,deps:null,nodes:null,f:t|yt|bt,first:null,fn:e,last:null,next:null,parent:r,b:r&&r.b,prev:null,teardown:null,wv:0,ac:null};if(n)try{Fn(i),i.f|=$t}catch(t){throw un(i),t}else null!==e&&_e(i);var o=i;if(n&&null===o.deps&&null===o.teardown&&null===o.nodes&&o.first===o.last&&0===(o.f&Ct)&&(o=o.first,0!==(t&ht)&&0!==(t&Mt)&&null!==o&&(o.f|=Mt)),null!==o&&(o.parent=r,null!==r&&function(t,e){var n=e.last;null===n?e.last=e.first=t:(n.next=t,t.prev=n,e.last=t)}(o,r),null!==kn&&2&kn.f&&0===(t&gt))){var l=kn;(l.effects??(l.effects=[])).push(o)}return i}function en(){return null!==kn&&!xn}function nn(t){return tn(1048580,t,!1)}function rn(t,e=0){return tn(8|e,t,!0)}function on(t,e=[],n=[],r=[]){ke(r,e,n,e=>{tn(8,()=>t(...e.map(qn)),!0)})}function ln(t,e=0){return tn(ht|e,t,!0)}function an(t){return tn(vt|Ct,t,!0)}function sn(t){var e=t.teardown;if(null!==e){const t=yn,n=kn;wn(!0),$n(null);try{e.call(null)}finally{wn(t),$n(n)}}}function cn(t,e=!1){var n=t.first;for(t.first=t.last=null;null!==n;){const t=n.ac;null!==t&&Ge(()=>{t.abort(Wt)});var r=n.next;0!==(n.f&gt)?n.parent=null:un(n,e),n=r}}function un(t,e=!0){var n=!1;(e||0!==(t.f&St))&&null!==t.nodes&&null!==t.nodes.end&&(fn(t.nodes.start,t.nodes.end),n=!0),cn(t,e&&!n),Rn(t,0),Yn(t,xt);var r=t.nodes&&t.nodes.t;if(null!==r)for(const t of r)t.stop();sn(t);var i=t.parent;null!==i&&null!==i.first&&pn(t),t.next=t.prev=t.teardown=t.ctx=t.deps=t.fn=t.nodes=t.ac=null}function fn(t,e){for(;null!==t;){var n=t===e?null:Ye(t);t.remove(),t=n}}function pn(t){var e=t.parent,n=t.prev,r=t.next;null!==n&&(n.next=r),null!==r&&(r.prev=n),null!==e&&(e.first===t&&(e.first=r),e.last===t&&(e.last=n))}function dn(t,e,n=!0){var r=[];hn(t,r,!0);var i=()=>{n&&un(t),e&&e()},o=r.length;if(o>0){var l=()=>--o||i();for(var a of r)a.out(l)}else i()}function hn(t,e,n){if(0===(t.f&kt)){t.f^=kt;var r=t.nodes&&t.nodes.t;if(null!==r)for(const t of r)(t.is_global||n)&&e.push(t);for(var i=t.first;null!==i;){var o=i.next;hn(i,e,!!(0!==(i.f&Mt)||0!==(i.f&vt)&&0!==(t.f&ht))&&n),i=o}}}function vn(t){gn(t,!0)}function gn(t,e){if(0!==(t.f&kt)){t.f^=kt,0===(t.f&_t)&&(Yn(t,yt),_e(t));for(var n=t.first;null!==n;){var r=n.next;gn(n,!!(0!==(n.f&Mt)||0!==(n.f&vt))&&e),n=r}var i=t.nodes&&t.nodes.t;if(null!==i)for(const t of i)(t.is_global||e)&&t.in()}}function mn(t,e){if(t.nodes)for(var n=t.nodes.start,r=t.nodes.end;null!==n;){var i=n===r?null:Ye(n);e.append(n),n=i}}let bn=!1;function _n(t){bn=t}let yn=!1;function wn(t){yn=t}let kn=null,xn=!1;function $n(t){kn=t}let Mn=null;function zn(t){Mn=t}let Sn=null;function Cn(t){null!==kn&&(null===Sn?Sn=[t]:Sn.push(t))}let En=null,Tn=0,On=null;let Pn=1,In=0,Nn=In;function An(t){Nn=t}function Wn(){return++Pn}function jn(t){var e=t.f;if(0!==(e&yt))return!0;if(2&e&&(t.f&=~Tt),0!==(e&wt)){var n=t.deps;if(null!==n)for(var r=n.length,i=0;i<r;i++){var o=n[i];if(jn(o)&&Ce(o),o.wv>t.wv)return!0}0!==(e&bt)&&null===le&&Yn(t,_t)}return!1}function Bn(t,e,n=!0){var r=t.reactions;if(null!==r&&(null==Sn||!Sn.includes(t)))for(var i=0;i<r.length;i++){var o=r[i];2&o.f?Bn(o,e,!1):e===o&&(n?Yn(o,yt):0!==(o.f&_t)&&Yn(o,wt),_e(o))}}function Ln(t){var e,n=En,r=Tn,i=On,o=kn,l=Sn,a=Zt,s=xn,c=Nn,u=t.f;En=null,Tn=0,On=null,kn=96&u?null:t,Sn=null,Xt(t.ctx),xn=!1,Nn=++In,null!==t.ac&&(Ge(()=>{t.ac.abort(Wt)}),t.ac=null);try{t.f|=Ot;var f=(0,t.fn)(),p=t.deps;if(null!==En){var d;if(Rn(t,Tn),null!==p&&Tn>0)for(p.length=Tn+En.length,d=0;d<En.length;d++)p[Tn+d]=En[d];else t.deps=p=En;if(en()&&0!==(t.f&bt))for(d=Tn;d<p.length;d++)((e=p[d]).reactions??(e.reactions=[])).push(t)}else null!==p&&Tn<p.length&&(Rn(t,Tn),p.length=Tn);if(!(null===On||xn||null===p||6146&t.f))for(d=0;d<On.length;d++)Bn(On[d],t);return null!==o&&o!==t&&(In++,null!==On&&(null===i?i=On:i.push(...On))),0!==(t.f&It)&&(t.f^=It),f}catch(t){return ne(t)}finally{t.f^=Ot,En=n,Tn=r,On=i,kn=o,Sn=l,Xt(a),xn=s,Nn=c}}function Dn(t,e){let n=e.reactions;if(null!==n){var r=it.call(n,t);if(-1!==r){var i=n.length-1;0===i?n=e.reactions=null:(n[r]=n[i],n.pop())}}null===n&&2&e.f&&(null===En||!En.includes(e))&&(Yn(e,wt),0!==(e.f&bt)&&(e.f^=bt,e.f&=~Tt),ze(e),Rn(e,0))}function Rn(t,e){var n=t.deps;if(null!==n)for(var r=e;r<n.length;r++)Dn(t,n[r])}function Fn(t){var e=t.f;if(0===(e&xt)){Yn(t,_t);var n=Mn,r=bn;Mn=t,bn=!0;try{16777232&e?function(t){for(var e=t.first;null!==e;){var n=e.next;0===(e.f&vt)&&un(e),e=n}}(t):cn(t),sn(t);var i=Ln(t);t.teardown="function"==typeof i?i:null,t.wv=Pn}finally{bn=r,Mn=n}}}function qn(t){var e=!!(2&t.f);if(null!==kn&&!xn&&!(null!==Mn&&0!==(Mn.f&xt)||null!=Sn&&Sn.includes(t))){var n=kn.deps;if(0!==(kn.f&Ot))t.rv<In&&(t.rv=In,null===En&&null!==n&&n[Tn]===t?Tn++:null===En?En=[t]:En.includes(t)||En.push(t));else{(kn.deps??(kn.deps=[])).push(t);var r=t.reactions;null===r?t.reactions=[kn]:r.includes(kn)||r.push(kn)}}if(yn){if(Te.has(t))return Te.get(t);if(e){var i=t,o=i.v;return(0===(i.f&_t)&&null!==i.reactions||Un(i))&&(o=Se(i)),Te.set(i,o),o}}else e&&(null==le||!le.has(t)||null!=oe&&oe.is_fork&&!en())&&(jn(i=t)&&Ce(i),bn&&en()&&0===(i.f&bt)&&Hn(i));if(null!=le&&le.has(t))return le.get(t);if(0!==(t.f&It))throw t.v;return t.v}function Hn(t){if(null!==t.deps){t.f^=bt;for(const e of t.deps)(e.reactions??(e.reactions=[])).push(t),2&e.f&&0===(e.f&bt)&&Hn(e)}}function Un(t){if(t.v===nt)return!0;if(null===t.deps)return!1;for(const e of t.deps)if(Te.has(e)||2&e.f&&Un(e))return!0;return!1}const Vn=-7169;function Yn(t,e){t.f=t.f&Vn|e}const Zn=new Set,Xn=new Set;let Jn=null;function Kn(t){var e,n=this,r=n.ownerDocument,i=t.type,o=(null==(e=t.composedPath)?void 0:e.call(t))||[],l=o[0]||t.target;Jn=t;var a=0,s=Jn===t&&t.__root;if(s){var c=o.indexOf(s);if(-1!==c&&(n===document||n===window))return void(t.__root=n);var u=o.indexOf(n);if(-1===u)return;c<=u&&(a=c)}if((l=o[a]||t.target)!==n){at(t,"currentTarget",{configurable:!0,get:()=>l||r});var f=kn,p=Mn;$n(null),zn(null);try{for(var d,h=[];null!==l;){var v=l.assignedSlot||l.parentNode||l.host||null;try{var g=l["__"+i];null!=g&&(!l.disabled||t.target===l)&&g.call(l,t)}catch(t){d?h.push(t):d=t}if(t.cancelBubble||v===n||null===v)break;l=v}if(d){for(let t of h)queueMicrotask(()=>{throw t});throw d}}finally{t.__root=n,delete t.currentTarget,$n(f),zn(p)}}}function Gn(t){var e=document.createElement("template");return e.innerHTML=t.replaceAll("<!>","\x3c!----\x3e"),e.content}function Qn(t,e){var n=Mn;null===n.nodes&&(n.nodes={start:t,end:e,a:null,t:null})}function tr(t,e){var n,r=!!(1&e),i=!!(2&e),o=!t.startsWith("<!>");return()=>{if(Lt)return Qn(Bt,null),Bt;void 0===n&&(n=Gn(o?t:"<!>"+t),r||(n=Ve(n)));var e=i||Re?document.importNode(n,!0):n.cloneNode(!0);r?Qn(Ve(e),e.lastChild):Qn(e,e);return e}}function er(){if(Lt)return Qn(Bt,null),Bt;var t=document.createDocumentFragment(),e=document.createComment(""),n=Ue();return t.append(e,n),Qn(e,n),t}function nr(t,e){if(Lt){var n=Mn;return(0===(n.f&$t)||null===n.nodes.end)&&(n.nodes.end=Bt),void Ft()}null!==t&&t.before(e)}const rr=["touchstart","touchmove"];function ir(t){return rr.includes(t)}function or(t,e){var n=null==e?"":"object"==typeof e?e+"":e;n!==(t.__t??(t.__t=t.nodeValue))&&(t.__t=n,t.nodeValue=n+"")}function lr(t,e){return cr(t,e)}function ar(t,e){He(),e.intro=e.intro??!1;const n=e.target,r=Lt,i=Bt;try{for(var o=Ve(n);o&&(8!==o.nodeType||"["!==o.data);)o=Ye(o);if(!o)throw et;Dt(!0),Rt(o);const r=cr(t,{...e,anchor:o});return Dt(!1),r}catch(r){if(r instanceof Error&&r.message.split("\n").some(t=>t.startsWith("https://svelte.dev/e/")))throw r;return r!==et&&console.warn("Failed to hydrate: ",r),!1===e.recover&&function(){throw new Error("https://svelte.dev/e/hydration_failed")}(),He(),Ke(n),Dt(!1),lr(t,e)}finally{Dt(r),Rt(i)}}const sr=new Map;function cr(t,{target:e,anchor:n,props:r={},events:i,context:o,intro:l=!0}){He();var a=new Set,s=t=>{for(var n=0;n<t.length;n++){var r=t[n];if(!a.has(r)){a.add(r);var i=ir(r);e.addEventListener(r,Kn,{passive:i});var o=sr.get(r);void 0===o?(document.addEventListener(r,Kn,{passive:i}),sr.set(r,1)):sr.set(r,o+1)}}};s(ot(Zn)),Xn.add(s);var c=void 0,u=function(t){fe.ensure();const e=tn(gt|Ct,t,!0);return(t={})=>new Promise(n=>{t.outro?dn(e,()=>{un(e),n(void 0)}):(un(e),n(void 0))})}(()=>{var l=n??e.appendChild(Ue());return function(t,e,n){new we(t,e,n)}(l,{pending:()=>{}},e=>{o&&(Jt({}),Zt.c=o);if(i&&(r.$$events=i),Lt&&Qn(e,null),c=t(e,r)||{},Lt&&(Mn.nodes.end=Bt,null===Bt||8!==Bt.nodeType||"]"!==Bt.data))throw jt(),et;o&&Kt()}),()=>{var t;for(var r of a){e.removeEventListener(r,Kn);var i=sr.get(r);0===--i?(document.removeEventListener(r,Kn),sr.delete(r)):sr.set(r,i)}Xn.delete(s),l!==n&&(null==(t=l.parentNode)||t.removeChild(l))}});return ur.set(c,u),c}let ur=new WeakMap;class fr{constructor(t,e=!0){Z(this,"anchor"),K(this,j,new Map),K(this,B,new Map),K(this,L,new Map),K(this,D,new Set),K(this,R,!0),K(this,F,()=>{var t=oe;if(J(this,j).has(t)){var e=J(this,j).get(t),n=J(this,B).get(e);if(n)vn(n),J(this,D).delete(e);else{var r=J(this,L).get(e);r&&(J(this,B).set(e,r.effect),J(this,L).delete(e),r.fragment.lastChild.remove(),this.anchor.before(r.fragment),n=r.effect)}for(const[e,n]of J(this,j)){if(J(this,j).delete(e),e===t)break;const r=J(this,L).get(n);r&&(un(r.effect),J(this,L).delete(n))}for(const[t,r]of J(this,B)){if(t===e||J(this,D).has(t))continue;const i=()=>{if(Array.from(J(this,j).values()).includes(t)){var e=document.createDocumentFragment();mn(r,e),e.append(Ue()),J(this,L).set(t,{effect:r,fragment:e})}else un(r);J(this,D).delete(t),J(this,B).delete(t)};J(this,R)||!n?(J(this,D).add(t),dn(r,i,!1)):i()}}}),K(this,q,t=>{J(this,j).delete(t);const e=Array.from(J(this,j).values());for(const[t,n]of J(this,L))e.includes(t)||(un(n.effect),J(this,L).delete(t))}),this.anchor=t,G(this,R,e)}ensure(t,e){var n=oe;!e||J(this,B).has(t)||J(this,L).has(t)||J(this,B).set(t,an(()=>e(this.anchor)));J(this,j).set(n,t),Lt&&(this.anchor=Bt),J(this,F).call(this)}}function pr(t,e,n=!1){Lt&&Ft();var r=new fr(t);function i(e,n){if(Lt){if(e===(Ut(t)===tt)){var i=Ht();return Rt(i),r.anchor=i,Dt(!1),r.ensure(e,n),void Dt(!0)}}r.ensure(e,n)}ln(()=>{var t=!1;e((e,n=!0)=>{t=!0,i(n,e)}),t||i(!1,null)},n?Mt:0)}function dr(t,e){return e}function hr(t,e=!0){for(var n=0;n<t.length;n++)un(t[n],e)}var vr;function gr(t,e,n,r,i,o=null){var l=t,a=new Map;if(!!(4&e)){var s=t;l=Lt?Rt(Ve(s)):s.appendChild(Ue())}Lt&&Ft();var c,u=null,f=function(t){const e=$e(t);return e.equals=Yt,e}(()=>{var t=n();return rt(t)?t:null==t?[]:ot(t)}),p=!0;function d(){h.fallback=u,function(t,e,n,r,i){var o,l,a,s,c,u,f,p,d,h,v,g,m,b,_,y=!!(8&r),w=e.length,k=t.items,x=t.effect.first,$=null,M=[],z=[];if(y)for(_=0;_<w;_+=1)g=e[_],m=i(g,_),0===((b=k.get(m).e).f&Et)&&(null==(l=null==(o=b.nodes)?void 0:o.a)||l.measure(),(v??(v=new Set)).add(b));for(_=0;_<w;_+=1){if(m=i(g=e[_],_),b=k.get(m).e,null!==t.outrogroups)for(const e of t.outrogroups)e.pending.delete(b),e.done.delete(b);if(0!==(b.f&Et)){if(b.f^=Et,b!==x){var S=$?$.next:x;b===t.effect.last&&(t.effect.last=b.prev),b.prev&&(b.prev.next=b.next),b.next&&(b.next.prev=b.prev),_r(t,$,b),_r(t,b,S),br(b,S,n),M=[],z=[],x=($=b).next;continue}br(b,null,n)}if(0!==(b.f&kt)&&(vn(b),y&&(null==(s=null==(a=b.nodes)?void 0:a.a)||s.unfix(),(v??(v=new Set)).delete(b))),b!==x){if(void 0!==h&&h.has(b)){if(M.length<z.length){var C,E=z[0];$=E.prev;var T=M[0],O=M[M.length-1];for(C=0;C<M.length;C+=1)br(M[C],E,n);for(C=0;C<z.length;C+=1)h.delete(z[C]);_r(t,T.prev,O.next),_r(t,$,T),_r(t,O,E),x=E,$=O,_-=1,M=[],z=[]}else h.delete(b),br(b,x,n),_r(t,b.prev,b.next),_r(t,b,null===$?t.effect.first:$.next),_r(t,$,b),$=b;continue}for(M=[],z=[];null!==x&&x!==b;)(h??(h=new Set)).add(x),z.push(x),x=x.next;if(null===x)continue}0===(b.f&Et)&&M.push(b),$=b,x=b.next}if(null!==t.outrogroups){for(const e of t.outrogroups)0===e.pending.size&&(hr(ot(e.done)),null==(c=t.outrogroups)||c.delete(e));0===t.outrogroups.size&&(t.outrogroups=null)}if(null!==x||void 0!==h){var P=[];if(void 0!==h)for(b of h)0===(b.f&kt)&&P.push(b);for(;null!==x;)0===(x.f&kt)&&x!==t.fallback&&P.push(x),x=x.next;var I=P.length;if(I>0){var N=4&r&&0===w?n:null;if(y){for(_=0;_<I;_+=1)null==(f=null==(u=P[_].nodes)?void 0:u.a)||f.measure();for(_=0;_<I;_+=1)null==(d=null==(p=P[_].nodes)?void 0:p.a)||d.fix()}!function(t,e,n){for(var r,i=e.length,o=e.length,l=0;l<i;l++){let n=e[l];dn(n,()=>{if(r){if(r.pending.delete(n),r.done.add(n),0===r.pending.size){var e=t.outrogroups;hr(ot(r.done)),e.delete(r),0===e.size&&(t.outrogroups=null)}}else o-=1},!1)}if(0===o){var a=null!==n;if(a){var s=n,c=s.parentNode;Ke(c),c.append(s),t.items.clear()}hr(e,!a)}else r={pending:new Set(e),done:new Set},(t.outrogroups??(t.outrogroups=new Set)).add(r)}(t,P,N)}}y&&te(()=>{var t,e;if(void 0!==v)for(b of v)null==(e=null==(t=b.nodes)?void 0:t.a)||e.apply()})}(h,c,l,e,r),null!==u&&(0===c.length?0===(u.f&Et)?vn(u):(u.f^=Et,br(u,null,l)):dn(u,()=>{u=null}))}var h={effect:ln(()=>{var t=(c=qn(f)).length;let s=!1;Lt&&(Ut(l)===tt!==(0===t)&&(Rt(l=Ht()),Dt(!1),s=!0));for(var h=new Set,v=0;v<t;v+=1){Lt&&8===Bt.nodeType&&"]"===Bt.data&&(l=Bt,s=!0,Dt(!1));var g=c[v],m=r(g,v),b=p?null:a.get(m);b?(b.v&&We(b.v,g),b.i&&We(b.i,v)):(b=mr(a,p?l:vr??(vr=Ue()),g,m,v,i,e,n),p||(b.e.f|=Et),a.set(m,b)),h.add(m)}0===t&&o&&!u&&(p?u=an(()=>o(l)):(u=an(()=>o(vr??(vr=Ue())))).f|=Et),Lt&&t>0&&Rt(Ht()),p||d(),s&&Dt(!0),qn(f)}),items:a,outrogroups:null,fallback:u};p=!1,Lt&&(l=Bt)}function mr(t,e,n,r,i,o,l,a){var s=1&l?16&l?Pe(n):Ne(n,!1,!1):null,c=2&l?Pe(i):null;return{v:s,i:c,e:an(()=>(o(e,s??n,c??i,a),()=>{t.delete(r)}))}}function br(t,e,n){if(t.nodes)for(var r=t.nodes.start,i=t.nodes.end,o=e&&0===(e.f&Et)?e.nodes.start:n;null!==r;){var l=Ye(r);if(o.before(r),r===i)return;r=l}}function _r(t,e,n){null===e?t.effect.first=n:e.next=n,null===n?t.effect.last=e:n.prev=e}function yr(t,e){!function(t){tn(4,t,!1)}(()=>{var n=t.getRootNode(),r=n.host?n:n.head??n.ownerDocument.head;if(!r.querySelector("#"+e.hash)){const t=document.createElement("style");t.id=e.hash,t.textContent=e.code,r.appendChild(t)}})}j=new WeakMap,B=new WeakMap,L=new WeakMap,D=new WeakMap,R=new WeakMap,F=new WeakMap,q=new WeakMap;const wr=[..." \t\n\r\f \v\ufeff"];function kr(t,e,n,r,i,o){var l=t.__className;if(Lt||l!==n||void 0===l){var a=function(t,e,n){var r=""+t;if(n)for(var i in n)if(n[i])r=r?r+" "+i:i;else if(r.length)for(var o=i.length,l=0;(l=r.indexOf(i,l))>=0;){var a=l+o;0!==l&&!wr.includes(r[l-1])||a!==r.length&&!wr.includes(r[a])?l=a:r=(0===l?"":r.substring(0,l))+r.substring(a+1)}return""===r?null:r}(n,0,o);(!Lt||a!==t.getAttribute("class"))&&(null==a?t.removeAttribute("class"):t.className=a),t.__className=n}else if(o&&i!==o)for(var s in o){var c=!!o[s];(null==i||c!==!!i[s])&&t.classList.toggle(s,c)}return o}function xr(t,e,n,r){var i=t.__style;if(Lt||i!==e){var o=function(t){return null==t?null:String(t)}(e);(!Lt||o!==t.getAttribute("style"))&&(null==o?t.removeAttribute("style"):t.style.cssText=o),t.__style=e}return r}function $r(t,e,n,r){var i,o=r,l=!0,a=()=>(l&&(l=!1,o=r),o);void 0===t[e]&&void 0!==r&&a(),i=()=>{var n=t[e];return void 0===n?a():(l=!0,n)};var s=!1,c=$e(()=>(s=!1,i())),u=Mn;return function(t,e){if(arguments.length>0){const n=e?qn(c):t;return Ae(c,n),s=!0,void 0!==o&&(o=n),t}return yn&&s||0!==(u.f&xt)?c.v:qn(c)}}class Mr{constructor(t){var e;K(this,H),K(this,U);var n=new Map,r=(t,e)=>{var r=Ne(e,!1,!1);return n.set(t,r),r};const i=new Proxy({...t.props||{},$$events:{}},{get:(t,e)=>qn(n.get(e)??r(e,Reflect.get(t,e))),has:(t,e)=>e===At||(qn(n.get(e)??r(e,Reflect.get(t,e))),Reflect.has(t,e)),set:(t,e,i)=>(Ae(n.get(e)??r(e,i),i),Reflect.set(t,e,i))});G(this,U,(t.hydrate?ar:lr)(t.component,{target:t.target,anchor:t.anchor,props:i,context:t.context,intro:t.intro??!1,recover:t.recover})),(!(null!=(e=null==t?void 0:t.props)&&e.$$host)||!1===t.sync)&&pe(),G(this,H,i.$$events);for(const t of Object.keys(J(this,U)))"$set"===t||"$destroy"===t||"$on"===t||at(this,t,{get(){return J(this,U)[t]},set(e){J(this,U)[t]=e},enumerable:!0});J(this,U).$set=t=>{Object.assign(i,t)},J(this,U).$destroy=()=>{!function(t,e){const n=ur.get(t);n?(ur.delete(t),n(e)):Promise.resolve()}(J(this,U))}}$set(t){J(this,U).$set(t)}$on(t,e){J(this,H)[t]=J(this,H)[t]||[];const n=(...t)=>e.call(this,...t);return J(this,H)[t].push(n),()=>{J(this,H)[t]=J(this,H)[t].filter(t=>t!==n)}}$destroy(){J(this,U).$destroy()}}let zr;function Sr(t,e,n,r){var i;const o=null==(i=n[t])?void 0:i.type;if(e="Boolean"===o&&"boolean"!=typeof e?null!=e:e,!r||!n[t])return e;if("toAttribute"===r)switch(o){case"Object":case"Array":return null==e?null:JSON.stringify(e);case"Boolean":return e?"":null;case"Number":return e??null;default:return e}else switch(o){case"Object":case"Array":return e&&JSON.parse(e);case"Boolean":default:return e;case"Number":return null!=e?+e:e}}H=new WeakMap,U=new WeakMap,"function"==typeof HTMLElement&&(zr=class extends HTMLElement{constructor(t,e,n){super(),Z(this,"$$ctor"),Z(this,"$$s"),Z(this,"$$c"),Z(this,"$$cn",!1),Z(this,"$$d",{}),Z(this,"$$r",!1),Z(this,"$$p_d",{}),Z(this,"$$l",{}),Z(this,"$$l_u",new Map),Z(this,"$$me"),this.$$ctor=t,this.$$s=e,n&&this.attachShadow({mode:"open"})}addEventListener(t,e,n){if(this.$$l[t]=this.$$l[t]||[],this.$$l[t].push(e),this.$$c){const n=this.$$c.$on(t,e);this.$$l_u.set(e,n)}super.addEventListener(t,e,n)}removeEventListener(t,e,n){if(super.removeEventListener(t,e,n),this.$$c){const t=this.$$l_u.get(e);t&&(t(),this.$$l_u.delete(e))}}async connectedCallback(){if(this.$$cn=!0,!this.$$c){let e=function(t){return e=>{const n=document.createElement("slot");"default"!==t&&(n.name=t),nr(e,n)}};if(await Promise.resolve(),!this.$$cn||this.$$c)return;const n={},r=function(t){const e={};return t.childNodes.forEach(t=>{e[t.slot||"default"]=!0}),e}(this);for(const t of this.$$s)t in r&&("default"!==t||this.$$d.children?n[t]=e(t):(this.$$d.children=e(t),n.default=!0));for(const t of this.attributes){const e=this.$$g_p(t.name);e in this.$$d||(this.$$d[e]=Sr(e,t.value,this.$$p_d,"toProp"))}for(const t in this.$$p_d)!(t in this.$$d)&&void 0!==this[t]&&(this.$$d[t]=this[t],delete this[t]);this.$$c=(t={component:this.$$ctor,target:this.shadowRoot||this,props:{...this.$$d,$$slots:n,$$host:this}},new Mr(t)),this.$$me=function(t){fe.ensure();const e=tn(gt|Ct,t,!0);return()=>{un(e)}}(()=>{rn(()=>{var t;this.$$r=!0;for(const e of lt(this.$$c)){if(null==(t=this.$$p_d[e])||!t.reflect)continue;this.$$d[e]=this.$$c[e];const n=Sr(e,this.$$d[e],this.$$p_d,"toAttribute");null==n?this.removeAttribute(this.$$p_d[e].attribute||e):this.setAttribute(this.$$p_d[e].attribute||e,n)}this.$$r=!1})});for(const t in this.$$l)for(const e of this.$$l[t]){const n=this.$$c.$on(t,e);this.$$l_u.set(e,n)}this.$$l={}}var t}attributeChangedCallback(t,e,n){var r;this.$$r||(t=this.$$g_p(t),this.$$d[t]=Sr(t,n,this.$$p_d,"toProp"),null==(r=this.$$c)||r.$set({[t]:this.$$d[t]}))}disconnectedCallback(){this.$$cn=!1,Promise.resolve().then(()=>{!this.$$cn&&this.$$c&&(this.$$c.$destroy(),this.$$me(),this.$$c=void 0)})}$$g_p(t){return lt(this.$$p_d).find(e=>this.$$p_d[e].attribute===t||!this.$$p_d[e].attribute&&e.toLowerCase()===t)||t}});var Cr=tr("<button> </button>"),Er=tr('<div class="likcc-ann__row likcc-ann__row--loading svelte-1rp0zpg"><span class="likcc-ann__skeleton svelte-1rp0zpg" style="width: 60%"></span> <span class="likcc-ann__skeleton svelte-1rp0zpg" style="width: 140px"></span></div>'),Tr=tr('<div class="likcc-ann__empty svelte-1rp0zpg">暂无公告</div>'),Or=tr('<span class="likcc-ann__pin svelte-1rp0zpg" title="置顶"><svg viewBox="0 0 1024 1024" fill="currentColor" width="14" height="14" class="svelte-1rp0zpg"><path d="M820.736 230.4H201.728c-18.432 0-33.28-14.848-33.28-33.28s14.848-33.28 33.28-33.28h619.008c18.432 0 33.28 14.848 33.28 33.28s-14.848 33.28-33.28 33.28zM511.488 878.08c-18.432 0-33.28-14.848-33.28-33.28V368.128c0-18.432 14.848-33.28 33.28-33.28s33.28 14.848 33.28 33.28V844.8c0 18.432-14.848 33.28-33.28 33.28z" class="svelte-1rp0zpg"></path><path d="M673.28 549.376c-8.704 0-16.896-3.072-23.552-9.728l-138.24-138.24-138.24 138.24c-12.8 12.8-34.304 12.8-47.104 0-12.8-12.8-12.8-34.304 0-47.104l161.792-161.792c12.8-12.8 34.304-12.8 47.104 0l161.792 161.792c12.8 12.8 12.8 34.304 0 47.104-6.656 6.144-14.848 9.728-23.552 9.728z" class="svelte-1rp0zpg"></path></svg></span>'),Pr=tr('<span class="likcc-ann__type svelte-1rp0zpg"> </span>'),Ir=tr('<button class="likcc-ann__row svelte-1rp0zpg"><span class="likcc-ann__content svelte-1rp0zpg"><!> <!> <span class="likcc-ann__title svelte-1rp0zpg"> </span></span> <span class="likcc-ann__date svelte-1rp0zpg"> </span></button>'),Nr=tr('<div class="likcc-ann__pager svelte-1rp0zpg"><button class="likcc-ann__pager-btn svelte-1rp0zpg">上一页</button> <span class="likcc-ann__pager-info svelte-1rp0zpg"> </span> <button class="likcc-ann__pager-btn svelte-1rp0zpg">下一页</button></div>'),Ar=tr('<div class="likcc-ann-modal__overlay svelte-1rp0zpg" role="dialog" aria-modal="true" tabindex="-1"><div class="likcc-ann-modal svelte-1rp0zpg" role="document"><div class="likcc-ann-modal__header svelte-1rp0zpg"><h2 class="likcc-ann-modal__title svelte-1rp0zpg"> </h2> <span class="likcc-ann-modal__date svelte-1rp0zpg"> </span> <button class="likcc-ann-modal__close svelte-1rp0zpg" aria-label="关闭">×</button></div> <div class="likcc-ann-modal__body svelte-1rp0zpg"><!></div></div></div>'),Wr=tr('<div class="likcc-ann svelte-1rp0zpg"><div class="likcc-ann__tabs svelte-1rp0zpg"><button>全部</button> <!></div> <div class="likcc-ann__stats svelte-1rp0zpg"> </div> <div class="likcc-ann__list svelte-1rp0zpg"><!></div> <!></div> <!>',1);const jr={hash:"svelte-1rp0zpg",code:'.likcc-ann.svelte-1rp0zpg {--likcc-c-text: #1d2129;--likcc-c-text-2: #4e5969;--likcc-c-text-3: #86909c;--likcc-c-primary: #165dff;--likcc-c-border: #e5e6eb;--likcc-c-bg: #fff;--likcc-c-bg-hover: #f7f8fa;font-family:-apple-system, BlinkMacSystemFont, "PingFang SC", "Hiragino Sans GB", "Microsoft YaHei", sans-serif;font-size:14px;color:var(--likcc-c-text);line-height:1.5;}\n\n  /* Tabs */.likcc-ann__tabs.svelte-1rp0zpg {display:flex;gap:32px;border-bottom:1px solid var(--likcc-c-border);margin-bottom:16px;}.likcc-ann__tab.svelte-1rp0zpg {position:relative;padding:12px 0;background:none;border:none;font-size:14px;color:var(--likcc-c-text-2);cursor:pointer;transition:color 0.2s;}.likcc-ann__tab.svelte-1rp0zpg:hover {color:var(--likcc-c-text);}.likcc-ann__tab--active.svelte-1rp0zpg {color:var(--likcc-c-primary);font-weight:500;}.likcc-ann__tab--active.svelte-1rp0zpg::after {content:"";position:absolute;left:0;right:0;bottom:-1px;height:2px;background:var(--likcc-c-primary);}\n\n  /* Stats */.likcc-ann__stats.svelte-1rp0zpg {padding:12px 0;font-size:13px;color:var(--likcc-c-text-3);}\n\n  /* List */.likcc-ann__list.svelte-1rp0zpg {border-top:1px solid var(--likcc-c-border);}.likcc-ann__row.svelte-1rp0zpg {display:flex;align-items:center;justify-content:space-between;width:100%;padding:16px 0;background:none;border:none;border-bottom:1px solid var(--likcc-c-border);text-align:left;cursor:pointer;transition:background 0.15s;font:inherit;color:inherit;}.likcc-ann__row.svelte-1rp0zpg:hover {background:var(--likcc-c-bg-hover);}.likcc-ann__row--loading.svelte-1rp0zpg {pointer-events:none;}.likcc-ann__content.svelte-1rp0zpg {flex:1;min-width:0;display:flex;align-items:center;}.likcc-ann__type.svelte-1rp0zpg {flex-shrink:0;font-weight:500;}.likcc-ann__pin.svelte-1rp0zpg {flex-shrink:0;display:inline-flex;align-items:center;margin-right:6px;color:#f59e0b;}.likcc-ann__title.svelte-1rp0zpg {overflow:hidden;text-overflow:ellipsis;white-space:nowrap;}.likcc-ann__row.svelte-1rp0zpg:hover .likcc-ann__title:where(.svelte-1rp0zpg) {color:var(--likcc-c-primary);}.likcc-ann__date.svelte-1rp0zpg {flex-shrink:0;margin-left:24px;font-size:13px;color:var(--likcc-c-text-3);font-variant-numeric:tabular-nums;}\n\n  /* Empty */.likcc-ann__empty.svelte-1rp0zpg {padding:48px 0;text-align:center;color:var(--likcc-c-text-3);}\n\n  /* Skeleton */.likcc-ann__skeleton.svelte-1rp0zpg {display:block;height:16px;background:linear-gradient(90deg, #f2f3f5 25%, #e5e6eb 50%, #f2f3f5 75%);background-size:200% 100%;border-radius:4px;\n    animation: svelte-1rp0zpg-likcc-shimmer 1.5s infinite;}\n\n  @keyframes svelte-1rp0zpg-likcc-shimmer {\n    0% { background-position: 200% 0; }\n    100% { background-position: -200% 0; }\n  }\n\n  /* Pager */.likcc-ann__pager.svelte-1rp0zpg {display:flex;align-items:center;justify-content:center;gap:16px;padding:24px 0;}.likcc-ann__pager-btn.svelte-1rp0zpg {padding:6px 16px;background:var(--likcc-c-bg);border:1px solid var(--likcc-c-border);border-radius:4px;font-size:13px;color:var(--likcc-c-text-2);cursor:pointer;transition:all 0.15s;}.likcc-ann__pager-btn.svelte-1rp0zpg:hover:not(:disabled) {color:var(--likcc-c-primary);border-color:var(--likcc-c-primary);}.likcc-ann__pager-btn.svelte-1rp0zpg:disabled {opacity:0.5;cursor:not-allowed;}.likcc-ann__pager-info.svelte-1rp0zpg {font-size:13px;color:var(--likcc-c-text-3);}\n\n  /* Modal */.likcc-ann-modal__overlay.svelte-1rp0zpg {position:fixed;inset:0;z-index:99999;background:rgba(0, 0, 0, 0.45);display:flex;align-items:center;justify-content:center;padding:24px;}.likcc-ann-modal.svelte-1rp0zpg {width:100%;max-width:640px;max-height:80vh;background:#fff;border-radius:8px;display:flex;flex-direction:column;box-shadow:0 8px 40px rgba(0, 0, 0, 0.12);}.likcc-ann-modal__header.svelte-1rp0zpg {position:relative;padding:20px 48px 16px 24px;border-bottom:1px solid var(--likcc-c-border);}.likcc-ann-modal__title.svelte-1rp0zpg {font-size:18px;font-weight:600;margin:0 0 8px;line-height:1.4;}.likcc-ann-modal__date.svelte-1rp0zpg {font-size:13px;color:var(--likcc-c-text-3);}.likcc-ann-modal__close.svelte-1rp0zpg {position:absolute;top:16px;right:16px;width:32px;height:32px;display:flex;align-items:center;justify-content:center;background:none;border:none;font-size:24px;color:var(--likcc-c-text-3);cursor:pointer;border-radius:4px;transition:all 0.15s;}.likcc-ann-modal__close.svelte-1rp0zpg:hover {background:var(--likcc-c-bg-hover);color:var(--likcc-c-text);}.likcc-ann-modal__body.svelte-1rp0zpg {flex:1;overflow-y:auto;padding:24px;font-size:15px;line-height:1.8;}.likcc-ann-modal__body.svelte-1rp0zpg p {margin:0 0 1em;}.likcc-ann-modal__body.svelte-1rp0zpg img {max-width:100%;height:auto;border-radius:4px;}.likcc-ann-modal__body.svelte-1rp0zpg a {color:var(--likcc-c-primary);}\n\n  @media (max-width: 640px) {.likcc-ann__tabs.svelte-1rp0zpg {gap:20px;overflow-x:auto;}.likcc-ann__date.svelte-1rp0zpg {display:none;}.likcc-ann-modal.svelte-1rp0zpg {max-height:90vh;border-radius:12px 12px 0 0;}.likcc-ann-modal__overlay.svelte-1rp0zpg {padding:0;align-items:flex-end;}\n  }'};(function(t){for(var e=0;e<t.length;e++)Zn.add(t[e]);for(var n of Xn)n(t)})(["click","keydown"]),customElements.define("announcement-list",function(t,e,n,r,i){let o=class extends zr{constructor(){super(t,n,i),this.$$p_d=e}static get observedAttributes(){return lt(e).map(t=>(e[t].attribute||t).toLowerCase())}};return lt(e).forEach(t=>{at(o.prototype,t,{get(){return this.$$c&&t in this.$$c?this.$$c[t]:this.$$d[t]},set(n){var r;n=Sr(t,n,e),this.$$d[t]=n;var i=this.$$c;i&&((null==(r=st(i,t))?void 0:r.get)?i[t]=n:i.$set({[t]:n}))}})}),r.forEach(t=>{at(o.prototype,t,{get(){var e;return null==(e=this.$$c)?void 0:e[t]}})}),t.element=o,o}(function(t,e){Jt(e,!0),yr(t,jr);let n=$r(e,"pageSize",0,10),r=$r(e,"typesConfig",0,""),i=Ie(!0),o=Ie(Le([])),l=Ie(1),a=Ie(0),s=Ie(1),c=Ie(!1),u=Ie(null),f=Ie(Le([])),p=Ie("");async function d(t=1){Ae(i,!0);try{let e=`/apis/public.announcement.lik.cc/v1alpha1/announcements?page=${t}&size=${n()}`;qn(p)&&(e+=`&type=${encodeURIComponent(qn(p))}`);const r=await(await fetch(e,{credentials:"same-origin"})).json();Ae(o,r.items||[],!0),Ae(a,r.total||0,!0),Ae(s,Math.ceil(qn(a)/n())||1,!0),Ae(l,t,!0)}catch{Ae(o,[],!0),Ae(a,0),Ae(s,1)}Ae(i,!1)}function h(t){qn(p)!==t&&(Ae(p,t,!0),d(1))}function v(t){const e=new Date(t),n=t=>String(t).padStart(2,"0");return`${e.getFullYear()}-${n(e.getMonth()+1)}-${n(e.getDate())} ${n(e.getHours())}:${n(e.getMinutes())}:${n(e.getSeconds())}`}function g(){Ae(c,!1),document.body.style.overflow=""}!function(t){Qe();var e=Mn.f;if(kn||0===(e&vt)||0!==(e&$t))return nn(t);var n=Zt;(n.e??(n.e=[])).push(t)}(()=>{(async function(){if(r())try{return void Ae(f,JSON.parse(r()),!0)}catch{}try{const t=await fetch("/apis/public.announcement.lik.cc/v1alpha1/types",{credentials:"same-origin"});t.ok&&Ae(f,await t.json(),!0)}catch{Ae(f,[],!0)}})().then(()=>d());const t=t=>"Escape"===t.key&&g();return document.addEventListener("keydown",t),()=>document.removeEventListener("keydown",t)});var m={get pageSize(){return n()},set pageSize(t=10){n(t),pe()},get typesConfig(){return r()},set typesConfig(t=""){r(t),pe()}},b=Wr(),_=Xe(b),y=Ze(_),w=Ze(y);let k;w.__click=()=>h(""),gr(Je(w,2),17,()=>qn(f),dr,(t,e)=>{var n=Cr();let r;n.__click=()=>h(qn(e).displayName);var i=Ze(n,!0);qt(n),on(()=>{r=kr(n,0,"likcc-ann__tab svelte-1rp0zpg",0,r,{"likcc-ann__tab--active":qn(p)===qn(e).displayName}),or(i,qn(e).displayName)}),nr(t,n)}),qt(y);var x=Je(y,2),$=Ze(x);qt(x);var M=Je(x,2),z=Ze(M),S=t=>{var e=er();gr(Xe(e),16,()=>[1,2,3,4],dr,(t,e)=>{nr(t,Er())}),nr(t,e)},C=t=>{var e=er(),n=Xe(e),r=t=>{nr(t,Tr())},i=t=>{var e=er();gr(Xe(e),17,()=>qn(o),dr,(t,e)=>{const n=Me(()=>{var t;return function(t){if(t)return qn(f).find(e=>e.displayName===t)}(null==(t=qn(e).announcementSpec)?void 0:t.type)}),r=Me(()=>{var t;return null==(t=qn(e).announcementSpec)?void 0:t.enablePinning});var i=Ir();i.__click=()=>function(t){Ae(u,t,!0),Ae(c,!0),document.body.style.overflow="hidden"}(qn(e));var o=Ze(i),l=Ze(o),a=t=>{nr(t,Or())};pr(l,t=>{qn(r)&&t(a)});var s=Je(l,2),p=t=>{var e=Pr(),r=Ze(e);qt(e),on(()=>{xr(e,`color: ${qn(n).color??""}`),or(r,`【${qn(n).displayName??""}】`)}),nr(t,e)};pr(s,t=>{qn(n)&&t(p)});var d=Je(s,2),h=Ze(d,!0);qt(d),qt(o);var g=Je(o,2),m=Ze(g,!0);qt(g),qt(i),on(t=>{var n;or(h,null==(n=qn(e).announcementSpec)?void 0:n.title),or(m,t)},[()=>{var t;return v(null==(t=qn(e).metadata)?void 0:t.creationTimestamp)}]),nr(t,i)}),nr(t,e)};pr(n,t=>{qn(o).length?t(i,!1):t(r)},!0),nr(t,e)};pr(z,t=>{qn(i)?t(S):t(C,!1)}),qt(M);var E=Je(M,2),T=t=>{var e=Nr(),n=Ze(e);n.__click=()=>d(qn(l)-1);var r=Je(n,2),i=Ze(r);qt(r);var o=Je(r,2);o.__click=()=>d(qn(l)+1),qt(e),on(()=>{n.disabled=qn(l)<=1,or(i,`${qn(l)??""} / ${qn(s)??""}`),o.disabled=qn(l)>=qn(s)}),nr(t,e)};pr(E,t=>{qn(s)>1&&t(T)}),qt(_);var O=Je(_,2),P=t=>{var e=Ar();e.__click=g,e.__keydown=t=>"Escape"===t.key&&g();var n=Ze(e);n.__click=t=>t.stopPropagation();var r=Ze(n),i=Ze(r),o=Ze(i,!0);qt(i);var l=Je(i,2),a=Ze(l,!0);qt(l),Je(l,2).__click=g,qt(r);var s=Je(r,2);(function(t,e,n=!1,r=!1){var i=t,o="";on(()=>{var t=Mn;if(o!==(o=e()??"")){if(null!==t.nodes&&(fn(t.nodes.start,t.nodes.end),t.nodes=null),""!==o){if(Lt){Bt.data;for(var l=Ft(),a=l;null!==l&&(8!==l.nodeType||""!==l.data);)a=l,l=Ye(l);if(null===l)throw jt(),et;return Qn(Bt,a),void(i=Rt(l))}var s=o+"";n?s=`<svg>${s}</svg>`:r&&(s=`<math>${s}</math>`);var c=Gn(s);if((n||r)&&(c=Ve(c)),Qn(Ve(c),c.lastChild),n||r)for(;Ve(c);)i.before(Ve(c));else i.before(c)}}else Lt&&Ft()})})(Ze(s),()=>{var t;return null==(t=qn(u).announcementSpec)?void 0:t.content}),qt(s),qt(n),qt(e),on(t=>{var e;or(o,null==(e=qn(u).announcementSpec)?void 0:e.title),or(a,t)},[()=>{var t;return v(null==(t=qn(u).metadata)?void 0:t.creationTimestamp)}]),nr(t,e)};return pr(O,t=>{qn(c)&&qn(u)&&t(P)}),on(()=>{k=kr(w,0,"likcc-ann__tab svelte-1rp0zpg",0,k,{"likcc-ann__tab--active":""===qn(p)}),or($,`为你展示 ${qn(a)??""} 条公告`)}),nr(t,b),Kt(m)},{pageSize:{attribute:"page-size",reflect:!0,type:"Number"},typesConfig:{attribute:"types-config",reflect:!0,type:"String"}},[],[],!1));var Br={};!function t(e,n,r,i){var o=!!(e.Worker&&e.Blob&&e.Promise&&e.OffscreenCanvas&&e.OffscreenCanvasRenderingContext2D&&e.HTMLCanvasElement&&e.HTMLCanvasElement.prototype.transferControlToOffscreen&&e.URL&&e.URL.createObjectURL),l="function"==typeof Path2D&&"function"==typeof DOMMatrix,a=function(){if(!e.OffscreenCanvas)return!1;try{var t=new OffscreenCanvas(1,1),n=t.getContext("2d");n.fillRect(0,0,1,1);var r=t.transferToImageBitmap();n.createPattern(r,"no-repeat")}catch{return!1}return!0}();function s(){}function c(t){var r=n.exports.Promise,i=void 0!==r?r:e.Promise;return"function"==typeof i?new i(t):(t(s,s),null)}var u,f,p,d=(u=a,f=new Map,{transform:function(t){if(u)return t;if(f.has(t))return f.get(t);var e=new OffscreenCanvas(t.width,t.height);return e.getContext("2d").drawImage(t,0,0),f.set(t,e),e},clear:function(){f.clear()}}),h=function(){var t,e,n=Math.floor(16.666666666666668),r={},i=0;return"function"==typeof requestAnimationFrame&&"function"==typeof cancelAnimationFrame?(t=function(t){var e=Math.random();return r[e]=requestAnimationFrame(function o(l){i===l||i+n-1<l?(i=l,delete r[e],t()):r[e]=requestAnimationFrame(o)}),e},e=function(t){r[t]&&cancelAnimationFrame(r[t])}):(t=function(t){return setTimeout(t,n)},e=function(t){return clearTimeout(t)}),{frame:t,cancel:e}}(),v=function(){var e,n,i={};return function(){if(e)return e;if(!r&&o){var l=["var CONFETTI, SIZE = {}, module = {};","("+t.toString()+")(this, module, true, SIZE);","onmessage = function(msg) {","  if (msg.data.options) {","    CONFETTI(msg.data.options).then(function () {","      if (msg.data.callback) {","        postMessage({ callback: msg.data.callback });","      }","    });","  } else if (msg.data.reset) {","    CONFETTI && CONFETTI.reset();","  } else if (msg.data.resize) {","    SIZE.width = msg.data.resize.width;","    SIZE.height = msg.data.resize.height;","  } else if (msg.data.canvas) {","    SIZE.width = msg.data.canvas.width;","    SIZE.height = msg.data.canvas.height;","    CONFETTI = module.exports.create(msg.data.canvas);","  }","}"].join("\n");try{e=new Worker(URL.createObjectURL(new Blob([l])))}catch(t){return typeof console<"u"&&"function"==typeof console.warn&&console.warn("🎊 Could not load worker",t),null}!function(t){function e(e,n){t.postMessage({options:e||{},callback:n})}t.init=function(e){var n=e.transferControlToOffscreen();t.postMessage({canvas:n},[n])},t.fire=function(r,o,l){if(n)return e(r,null),n;var a=Math.random().toString(36).slice(2);return n=c(function(o){function s(e){e.data.callback===a&&(delete i[a],t.removeEventListener("message",s),n=null,d.clear(),l(),o())}t.addEventListener("message",s),e(r,a),i[a]=s.bind(null,{data:{callback:a}})})},t.reset=function(){for(var e in t.postMessage({reset:!0}),i)i[e](),delete i[e]}}(e)}return e}}(),g={particleCount:50,angle:90,spread:45,startVelocity:45,decay:.9,gravity:1,drift:0,ticks:200,x:.5,y:.5,shapes:["square","circle"],zIndex:100,colors:["#26ccff","#a25afd","#ff5e7e","#88ff5a","#fcff42","#ffa62d","#ff36ff"],disableForReducedMotion:!1,scalar:1};function m(t,e,n){return function(t,e){return e?e(t):t}(t&&function(t){return null!=t}(t[e])?t[e]:g[e],n)}function b(t){return t<0?0:Math.floor(t)}function _(t,e){return Math.floor(Math.random()*(e-t))+t}function y(t){return parseInt(t,16)}function w(t){return t.map(k)}function k(t){var e=String(t).replace(/[^0-9a-f]/gi,"");return e.length<6&&(e=e[0]+e[0]+e[1]+e[1]+e[2]+e[2]),{r:y(e.substring(0,2)),g:y(e.substring(2,4)),b:y(e.substring(4,6))}}function x(t){t.width=document.documentElement.clientWidth,t.height=document.documentElement.clientHeight}function $(t){var e=t.getBoundingClientRect();t.width=e.width,t.height=e.height}function M(t){var e=t.angle*(Math.PI/180),n=t.spread*(Math.PI/180);return{x:t.x,y:t.y,wobble:10*Math.random(),wobbleSpeed:Math.min(.11,.1*Math.random()+.05),velocity:.5*t.startVelocity+Math.random()*t.startVelocity,angle2D:-e+(.5*n-Math.random()*n),tiltAngle:(.5*Math.random()+.25)*Math.PI,color:t.color,shape:t.shape,tick:0,totalTicks:t.ticks,decay:t.decay,drift:t.drift,random:Math.random()+2,tiltSin:0,tiltCos:0,wobbleX:0,wobbleY:0,gravity:3*t.gravity,ovalScalar:.6,scalar:t.scalar,flat:t.flat}}function z(t,e){e.x+=Math.cos(e.angle2D)*e.velocity+e.drift,e.y+=Math.sin(e.angle2D)*e.velocity+e.gravity,e.velocity*=e.decay,e.flat?(e.wobble=0,e.wobbleX=e.x+10*e.scalar,e.wobbleY=e.y+10*e.scalar,e.tiltSin=0,e.tiltCos=0,e.random=1):(e.wobble+=e.wobbleSpeed,e.wobbleX=e.x+10*e.scalar*Math.cos(e.wobble),e.wobbleY=e.y+10*e.scalar*Math.sin(e.wobble),e.tiltAngle+=.1,e.tiltSin=Math.sin(e.tiltAngle),e.tiltCos=Math.cos(e.tiltAngle),e.random=Math.random()+2);var n=e.tick++/e.totalTicks,r=e.x+e.random*e.tiltCos,i=e.y+e.random*e.tiltSin,o=e.wobbleX+e.random*e.tiltCos,a=e.wobbleY+e.random*e.tiltSin;if(t.fillStyle="rgba("+e.color.r+", "+e.color.g+", "+e.color.b+", "+(1-n)+")",t.beginPath(),l&&"path"===e.shape.type&&"string"==typeof e.shape.path&&Array.isArray(e.shape.matrix))t.fill(function(t,e,n,r,i,o,l){var a=new Path2D(t),s=new Path2D;s.addPath(a,new DOMMatrix(e));var c=new Path2D;return c.addPath(s,new DOMMatrix([Math.cos(l)*i,Math.sin(l)*i,-Math.sin(l)*o,Math.cos(l)*o,n,r])),c}(e.shape.path,e.shape.matrix,e.x,e.y,.1*Math.abs(o-r),.1*Math.abs(a-i),Math.PI/10*e.wobble));else if("bitmap"===e.shape.type){var s=Math.PI/10*e.wobble,c=.1*Math.abs(o-r),u=.1*Math.abs(a-i),f=e.shape.bitmap.width*e.scalar,p=e.shape.bitmap.height*e.scalar,h=new DOMMatrix([Math.cos(s)*c,Math.sin(s)*c,-Math.sin(s)*u,Math.cos(s)*u,e.x,e.y]);h.multiplySelf(new DOMMatrix(e.shape.matrix));var v=t.createPattern(d.transform(e.shape.bitmap),"no-repeat");v.setTransform(h),t.globalAlpha=1-n,t.fillStyle=v,t.fillRect(e.x-f/2,e.y-p/2,f,p),t.globalAlpha=1}else if("circle"===e.shape)t.ellipse?t.ellipse(e.x,e.y,Math.abs(o-r)*e.ovalScalar,Math.abs(a-i)*e.ovalScalar,Math.PI/10*e.wobble,0,2*Math.PI):function(t,e,n,r,i,o,l,a,s){t.save(),t.translate(e,n),t.rotate(o),t.scale(r,i),t.arc(0,0,1,l,a,s),t.restore()}(t,e.x,e.y,Math.abs(o-r)*e.ovalScalar,Math.abs(a-i)*e.ovalScalar,Math.PI/10*e.wobble,0,2*Math.PI);else if("star"===e.shape)for(var g=Math.PI/2*3,m=4*e.scalar,b=8*e.scalar,_=e.x,y=e.y,w=5,k=Math.PI/w;w--;)_=e.x+Math.cos(g)*b,y=e.y+Math.sin(g)*b,t.lineTo(_,y),g+=k,_=e.x+Math.cos(g)*m,y=e.y+Math.sin(g)*m,t.lineTo(_,y),g+=k;else t.moveTo(Math.floor(e.x),Math.floor(e.y)),t.lineTo(Math.floor(e.wobbleX),Math.floor(i)),t.lineTo(Math.floor(o),Math.floor(a)),t.lineTo(Math.floor(r),Math.floor(e.wobbleY));return t.closePath(),t.fill(),e.tick<e.totalTicks}function S(t,n){var l,a=!t,s=!!m(n||{},"resize"),u=!1,f=m(n,"disableForReducedMotion",Boolean),p=o&&!!m(n||{},"useWorker")?v():null,g=a?x:$,y=!(!t||!p)&&!!t.__confetti_initialized,k="function"==typeof matchMedia&&matchMedia("(prefers-reduced-motion)").matches;function S(e,n,o){for(var a=m(e,"particleCount",b),s=m(e,"angle",Number),u=m(e,"spread",Number),f=m(e,"startVelocity",Number),p=m(e,"decay",Number),v=m(e,"gravity",Number),y=m(e,"drift",Number),k=m(e,"colors",w),x=m(e,"ticks",Number),$=m(e,"shapes"),S=m(e,"scalar"),C=!!m(e,"flat"),E=function(t){var e=m(t,"origin",Object);return e.x=m(e,"x",Number),e.y=m(e,"y",Number),e}(e),T=a,O=[],P=t.width*E.x,I=t.height*E.y;T--;)O.push(M({x:P,y:I,angle:s,spread:u,startVelocity:f,color:k[T%k.length],shape:$[_(0,$.length)],ticks:x,decay:p,gravity:v,drift:y,scalar:S,flat:C}));return l?l.addFettis(O):(l=function(t,e,n,o,l){var a,s,u=e.slice(),f=t.getContext("2d"),p=c(function(e){function c(){a=s=null,f.clearRect(0,0,o.width,o.height),d.clear(),l(),e()}a=h.frame(function e(){r&&!(o.width===i.width&&o.height===i.height)&&(o.width=t.width=i.width,o.height=t.height=i.height),!o.width&&!o.height&&(n(t),o.width=t.width,o.height=t.height),f.clearRect(0,0,o.width,o.height),(u=u.filter(function(t){return z(f,t)})).length?a=h.frame(e):c()}),s=c});return{addFettis:function(t){return u=u.concat(t),p},canvas:t,promise:p,reset:function(){a&&h.cancel(a),s&&s()}}}(t,O,g,n,o),l.promise)}function C(n){var r=f||m(n,"disableForReducedMotion",Boolean),i=m(n,"zIndex",Number);if(r&&k)return c(function(t){t()});a&&l?t=l.canvas:a&&!t&&(t=function(t){var e=document.createElement("canvas");return e.style.position="fixed",e.style.top="0px",e.style.left="0px",e.style.pointerEvents="none",e.style.zIndex=t,e}(i),document.body.appendChild(t)),s&&!y&&g(t);var o={width:t.width,height:t.height};function d(){if(p){var e={getBoundingClientRect:function(){if(!a)return t.getBoundingClientRect()}};return g(e),void p.postMessage({resize:{width:e.width,height:e.height}})}o.width=o.height=null}function h(){l=null,s&&(u=!1,e.removeEventListener("resize",d)),a&&t&&(document.body.contains(t)&&document.body.removeChild(t),t=null,y=!1)}return p&&!y&&p.init(t),y=!0,p&&(t.__confetti_initialized=!0),s&&!u&&(u=!0,e.addEventListener("resize",d,!1)),p?p.fire(n,o,h):S(n,o,h)}return C.reset=function(){p&&p.reset(),l&&l.reset()},C}function C(){return p||(p=S(null,{useWorker:!0,resize:!0})),p}n.exports=function(){return C().apply(this,arguments)},n.exports.reset=function(){C().reset()},n.exports.create=S,n.exports.shapeFromPath=function(t){if(!l)throw new Error("path confetti are not supported in this browser");var e,n;"string"==typeof t?e=t:(e=t.path,n=t.matrix);var r=new Path2D(e),i=document.createElement("canvas").getContext("2d");if(!n){for(var o,a,s=1e3,c=s,u=s,f=0,p=0,d=0;d<s;d+=2)for(var h=0;h<s;h+=2)i.isPointInPath(r,d,h,"nonzero")&&(c=Math.min(c,d),u=Math.min(u,h),f=Math.max(f,d),p=Math.max(p,h));o=f-c,a=p-u;var v=Math.min(10/o,10/a);n=[v,0,0,v,-Math.round(o/2+c)*v,-Math.round(a/2+u)*v]}return{type:"path",path:e,matrix:n}},n.exports.shapeFromText=function(t){var e,n=1,r="#000000",i='"Apple Color Emoji", "Segoe UI Emoji", "Segoe UI Symbol", "Noto Color Emoji", "EmojiOne Color", "Android Emoji", "Twemoji Mozilla", "system emoji", sans-serif';"string"==typeof t?e=t:(e=t.text,n="scalar"in t?t.scalar:n,i="fontFamily"in t?t.fontFamily:i,r="color"in t?t.color:r);var o=10*n,l=o+"px "+i,a=new OffscreenCanvas(o,o),s=a.getContext("2d");s.font=l;var c=s.measureText(e),u=Math.ceil(c.actualBoundingBoxRight+c.actualBoundingBoxLeft),f=Math.ceil(c.actualBoundingBoxAscent+c.actualBoundingBoxDescent),p=c.actualBoundingBoxLeft+2,d=c.actualBoundingBoxAscent+2;u+=4,f+=4,(s=(a=new OffscreenCanvas(u,f)).getContext("2d")).font=l,s.fillStyle=r,s.fillText(e,p,d);var h=1/n;return{type:"bitmap",bitmap:a.transferToImageBitmap(),matrix:[h,0,0,h,-u*h/2,-f*h/2]}}}(function(){return typeof window<"u"?window:typeof self<"u"?self:this||{}}(),Br,!1);const Lr=Br.exports;Br.exports.create;const Dr={position:"center",autoClose:0,closeOnClickOutside:!0,popupInterval:0,confetti:!1};function Rr(t){return`likcc-popup-${t}-lastTime`}function Fr(t,e){var n;if(null==(n=t.announcementSpec)||!n.enablePopup)return!1;if(!function(t){const e=window.location.pathname;if(!t||!t.trim())return"/"===e||""===e;const n=t.split("\n").map(t=>t.trim()).filter(t=>t);return 1===n.length&&"/"===n[0]?"/"===e||""===e:n.some(t=>{let n=t.replace(/[.+?^${}()|[\]\\]/g,"\\$&").replace(/\*\*/g,"{{DOUBLE}}").replace(/\*/g,"[^/]*").replace(/{{DOUBLE}}/g,".*");n="^"+n+"$";try{return new RegExp(n).test(e)}catch{return!1}})}(t.announcementSpec.urlPatterns))return!1;const r=t.announcementSpec.popupInterval||e.popupInterval;if(r>0){const e=Rr(t.metadata.name),n=localStorage.getItem(e);if(n&&Date.now()-Number(n)<3600*r*1e3)return!1}return!0}function qr(t){t.style.opacity="0",t.style.transition="opacity 0.3s ease",setTimeout(()=>t.remove(),300),document.body.style.overflow=""}async function Hr(){var t,e,n,r,i,o,l;try{const a=await fetch("/apis/public.announcement.lik.cc/v1alpha1/announcements?popup=true&size=1",{credentials:"same-origin"});if(!a.ok)return;const s=null==(t=(await a.json()).items)?void 0:t[0];if(!s)return;const c={...Dr,position:(null==(e=s.announcementSpec)?void 0:e.position)||Dr.position,autoClose:(null==(n=s.announcementSpec)?void 0:n.autoClose)||Dr.autoClose,closeOnClickOutside:(null==(r=s.announcementSpec)?void 0:r.closeOnClickOutside)??Dr.closeOnClickOutside,popupInterval:(null==(i=s.announcementSpec)?void 0:i.popupInterval)||Dr.popupInterval,confetti:(null==(o=s.announcementSpec)?void 0:o.confettiEnable)??Dr.confetti};if(!Fr(s,c))return;!function(){if(document.getElementById("likcc-popup-styles"))return;const t=document.createElement("style");t.id="likcc-popup-styles",t.textContent="\n    .likcc-popup__overlay {\n      position: fixed;\n      inset: 0;\n      z-index: 99999;\n      display: flex;\n      justify-content: center;\n      align-items: center;\n      padding: 20px;\n      background: rgba(0, 0, 0, 0.4);\n      animation: likcc-fade 0.2s ease;\n    }\n    @keyframes likcc-fade { from { opacity: 0; } }\n    \n    .likcc-popup__wrapper {\n      position: relative;\n      max-width: 360px;\n      width: 100%;\n      border: 1px solid rgba(219, 234, 254, 1);\n      border-radius: 1rem;\n      background-color: #fff;\n      padding: 1.25rem;\n      box-shadow: 0 10px 40px rgba(0, 0, 0, 0.15);\n      animation: likcc-slide 0.3s ease;\n    }\n    @keyframes likcc-slide {\n      from { opacity: 0; transform: scale(0.95) translateY(-10px); }\n    }\n    \n    .likcc-popup__header {\n      display: flex;\n      align-items: center;\n      gap: 0.75rem;\n    }\n    \n    .likcc-popup__icon {\n      flex-shrink: 0;\n      display: flex;\n      align-items: center;\n      justify-content: center;\n      border-radius: 9999px;\n      background-color: rgba(96, 165, 250, 1);\n      padding: 0.5rem;\n      color: #fff;\n    }\n    .likcc-popup__icon svg {\n      height: 1rem;\n      width: 1rem;\n    }\n    \n    .likcc-popup__title {\n      margin: 0;\n      font-size: 1rem;\n      font-weight: 600;\n      color: rgba(55, 65, 81, 1);\n    }\n    \n    .likcc-popup__close {\n      position: absolute;\n      top: 12px;\n      right: 12px;\n      width: 28px;\n      height: 28px;\n      display: flex;\n      align-items: center;\n      justify-content: center;\n      background: transparent;\n      border: none;\n      color: #9ca3af;\n      cursor: pointer;\n      border-radius: 6px;\n      transition: all 0.2s;\n    }\n    .likcc-popup__close:hover { background: #f3f4f6; color: #6b7280; }\n    \n    .likcc-popup__content {\n      margin-top: 1rem;\n      font-size: 0.9rem;\n      color: rgba(107, 114, 128, 1);\n      line-height: 1.6;\n    }\n    .likcc-popup__content p { margin: 0 0 0.75rem; }\n    .likcc-popup__content p:last-child { margin: 0; }\n    .likcc-popup__content img { \n      display: block;\n      max-width: 100%; \n      height: auto; \n      border-radius: 8px; \n      margin: 12px 0;\n    }\n    .likcc-popup__content a { color: rgba(59, 130, 246, 1); }\n    \n    .likcc-popup__footer {\n      margin-top: 1.25rem;\n    }\n    \n    .likcc-popup__btn {\n      display: block;\n      width: 100%;\n      border: none;\n      border-radius: 0.5rem;\n      padding: 0.75rem 1.25rem;\n      text-align: center;\n      font-size: 0.875rem;\n      font-weight: 600;\n      cursor: pointer;\n      transition: all 0.15s ease;\n      text-decoration: none;\n    }\n    .likcc-popup__btn--primary {\n      background-color: rgba(59, 130, 246, 1);\n      color: #fff;\n    }\n    .likcc-popup__btn--primary:hover { \n      background-color: rgba(37, 99, 235, 1);\n    }\n    .likcc-popup__btn--secondary {\n      margin-top: 0.5rem;\n      background-color: rgba(249, 250, 251, 1);\n      color: rgba(107, 114, 128, 1);\n      border: none;\n    }\n    .likcc-popup__btn--secondary:hover {\n      background-color: rgb(230, 231, 233);\n    }\n    \n    @media (prefers-color-scheme: dark) {\n      .likcc-popup__wrapper { \n        background: #1f2937; \n        border-color: #374151;\n      }\n      .likcc-popup__title { color: #f3f4f6; }\n      .likcc-popup__content { color: #9ca3af; }\n      .likcc-popup__close { color: #6b7280; }\n      .likcc-popup__close:hover { background: #374151; color: #9ca3af; }\n      .likcc-popup__btn--secondary { \n        background: #374151; \n        color: #9ca3af; \n      }\n      .likcc-popup__btn--secondary:hover { background: #4b5563; }\n    }\n    \n    @media (max-width: 480px) {\n      .likcc-popup__overlay { padding: 16px; }\n      .likcc-popup__wrapper { padding: 1rem; }\n    }\n  ",document.head.appendChild(t)}();const u=function(t){const e=t.announcementSpec,n=(null==e?void 0:e.primaryButtonText)||"确认",r=(null==e?void 0:e.primaryButtonColor)||"#3b82f6",i=(null==e?void 0:e.primaryButtonAction)||"closeNotice",o=(null==e?void 0:e.primaryButtonUrl)||"",l=(null==e?void 0:e.secondaryButtonText)||"",a=(null==e?void 0:e.secondaryButtonColor)||"#6b7280",s=(null==e?void 0:e.secondaryButtonAction)||"closeNotice",c=(null==e?void 0:e.secondaryButtonUrl)||"",u=(null==e?void 0:e.popupIcon)||"",f=(null==e?void 0:e.popupIconBgColor)||"#60a5fa",p=document.createElement("div");p.className="likcc-popup__overlay";let d=`<button class="likcc-popup__btn likcc-popup__btn--primary" style="background-color: ${r}" data-action="${i}" data-url="${o}">${n}</button>`;l&&(d+=`<button class="likcc-popup__btn likcc-popup__btn--secondary" style="color: ${a}" data-action="${s}" data-url="${c}">${l}</button>`);const h=u||'<svg fill="currentColor" viewBox="0 0 20 20"><path clip-rule="evenodd" d="M18 3a1 1 0 00-1.447-.894L8.763 6H5a3 3 0 000 6h.28l1.771 5.316A1 1 0 008 18h1a1 1 0 001-1v-4.382l6.553 3.276A1 1 0 0018 15V3z" fill-rule="evenodd"></path></svg>';return p.innerHTML=`\n    <div class="likcc-popup__wrapper">\n      <button class="likcc-popup__close" aria-label="关闭">\n        <svg width="16" height="16" viewBox="0 0 24 24" fill="none" stroke="currentColor" stroke-width="2">\n          <path d="M18 6L6 18M6 6l12 12"/>\n        </svg>\n      </button>\n      <div class="likcc-popup__header">\n        <span class="likcc-popup__icon" style="background-color: ${f}">\n          ${h}\n        </span>\n        <h2 class="likcc-popup__title">${(null==e?void 0:e.title)||""}</h2>\n      </div>\n      <div class="likcc-popup__content">${(null==e?void 0:e.content)||""}</div>\n      <div class="likcc-popup__footer">\n        ${d}\n      </div>\n    </div>\n  `,p}(s);document.body.appendChild(u),document.body.style.overflow="hidden",function(t,e){var n;((null==(n=t.announcementSpec)?void 0:n.popupInterval)||e.popupInterval)>0&&localStorage.setItem(Rr(t.metadata.name),Date.now().toString())}(s,c),null==(l=u.querySelector(".likcc-popup__close"))||l.addEventListener("click",()=>qr(u)),u.querySelectorAll(".likcc-popup__btn").forEach(t=>{t.addEventListener("click",()=>{const e=t.dataset.action,n=t.dataset.url;"jump"===e&&n?(window.open(n,"_blank"),qr(u)):("confirmJump"===e&&n&&confirm("确定要跳转吗？")&&window.open(n,"_blank"),qr(u))})}),c.closeOnClickOutside&&u.addEventListener("click",t=>{t.target===u&&qr(u)});const f=t=>{"Escape"===t.key&&(qr(u),document.removeEventListener("keydown",f))};document.addEventListener("keydown",f),c.autoClose>0&&setTimeout(()=>qr(u),1e3*c.autoClose),c.confetti&&Lr({particleCount:100,spread:70,origin:{y:.3},zIndex:1e5})}catch(t){console.error("Failed to load popup announcement:",t)}}"loading"===document.readyState?document.addEventListener("DOMContentLoaded",Hr):Hr()});
\ No newline at end of file
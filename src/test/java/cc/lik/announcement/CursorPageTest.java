@@ -0,0 +1,150 @@
+package cc.lik.announcement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import cc.lik.announcement.cache.AnnouncementSnapshot;
+import cc.lik.announcement.extension.Announcement;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ServerWebInputException;
+import run.halo.app.extension.Metadata;
+
+/**
+ * 游标的编解码，以及按游标翻页与快照默认排序的一致性
+ *
+ * @author Handsome
+ */
+class CursorPageTest {
+
+    private static final Instant BASE = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Test
+    void encodedKeyDecodesToItself() {
+        var key = AnnouncementIndexes.defaultOrderKey(announcement("公告-1", 42, true));
+
+        assertThat(CursorPage.decode(CursorPage.encode(key))).isEqualTo(key);
+    }
+
+    @Test
+    void blankCursorMeansFirstPage() {
+        assertThat(CursorPage.decode(null)).isNull();
+        assertThat(CursorPage.decode("")).isNull();
+        assertThat(CursorPage.decode("  ")).isNull();
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        var invalid = Stream.of(
+                "not base64!",
+                raw("hello"),
+                // 置顶标记只能是 0 或 1
+                raw("2" + "0".repeat(19) + "name"),
+                // 时间必须是 19 位数字
+                raw("0" + "0".repeat(18) + "name"),
+                // 缺少名称
+                raw("0" + "0".repeat(19)))
+            .toList();
+        for (String cursor : invalid) {
+            assertThatThrownBy(() -> CursorPage.decode(cursor))
+                .as(cursor)
+                .isInstanceOf(ServerWebInputException.class);
+        }
+    }
+
+    @Test
+    void walksEveryItemOnceInDefaultOrder() {
+        var sorted = sample();
+        var walked = new ArrayList<Announcement>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var page = CursorPage.after(sorted, CursorPage.decode(cursor), 3, false);
+            assertThat(page.total()).isNull();
+            walked.addAll(page.items());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(walked).containsExactlyElementsOf(sorted);
+        assertThat(pages).isEqualTo((sorted.size() + 2) / 3);
+    }
+
+    @Test
+    void lastFullPageHasNoNextCursor() {
+        var sorted = sample().subList(0, 6);
+
+        var first = CursorPage.after(sorted, null, 3, true);
+        var second = CursorPage.after(sorted, CursorPage.decode(first.nextCursor()), 3, true);
+
+        assertThat(first.total()).isEqualTo(6L);
+        assertThat(second.items()).containsExactlyElementsOf(sorted.subList(3, 6));
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    void itemsInsertedBeforeCursorDoNotShiftLaterPages() {
+        var sorted = sample();
+        var first = CursorPage.after(sorted, null, 3, false);
+
+        var withNewest = new ArrayList<>(sorted);
+        withNewest.add(announcement("newest", 1_000, false));
+        withNewest.add(announcement("pinned-newest", 1_000, true));
+        withNewest.sort(AnnouncementSnapshot.DEFAULT_ORDER);
+        var second = CursorPage.after(withNewest, CursorPage.decode(first.nextCursor()), 3, false);
+
+        assertThat(second.items()).containsExactlyElementsOf(sorted.subList(3, 6));
+    }
+
+    @Test
+    void cursorOfDeletedItemContinuesAfterIt() {
+        var sorted = sample();
+        var first = CursorPage.after(sorted, null, 3, false);
+
+        var withoutLast = new ArrayList<>(sorted);
+        withoutLast.remove(2);
+        var second = CursorPage.after(withoutLast, CursorPage.decode(first.nextCursor()), 3, false);
+
+        assertThat(second.items()).containsExactlyElementsOf(sorted.subList(3, 6));
+    }
+
+    /**
+     * 含置顶公告、相同创建时间和缺失创建时间的公告，按快照的默认排序排列
+     */
+    private static List<Announcement> sample() {
+        var items = new ArrayList<Announcement>();
+        items.add(announcement("pinned-old", 1, true));
+        items.add(announcement("pinned-new", 50, true));
+        for (int i = 0; i < 8; i++) {
+            items.add(announcement("same-" + i, 10, false));
+        }
+        items.add(announcement("newer", 20, false));
+        items.add(announcement("older", 5, false));
+        var noTimestamp = announcement("no-timestamp", 0, false);
+        noTimestamp.getMetadata().setCreationTimestamp(null);
+        items.add(noTimestamp);
+        items.sort(AnnouncementSnapshot.DEFAULT_ORDER);
+        return List.copyOf(items);
+    }
+
+    private static Announcement announcement(String name, long minutes, boolean pinned) {
+        var metadata = new Metadata();
+        metadata.setName(name);
+        metadata.setCreationTimestamp(BASE.plusSeconds(minutes * 60));
+        var spec = new Announcement.AnnouncementSpec();
+        spec.setEnablePinning(pinned);
+        var announcement = new Announcement();
+        announcement.setMetadata(metadata);
+        announcement.setAnnouncementSpec(spec);
+        return announcement;
+    }
+
+    private static String raw(String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+}
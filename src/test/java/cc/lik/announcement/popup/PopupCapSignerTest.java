@@ -0,0 +1,214 @@
+package cc.lik.announcement.popup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import cc.lik.announcement.extension.Announcement;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import run.halo.app.extension.Metadata;
+import run.halo.app.extension.ReactiveExtensionClient;
+import run.halo.app.extension.Secret;
+
+/**
+ * 弹窗频率 Cookie 的签名、校验和令牌编码
+ *
+ * @author Handsome
+ */
+class PopupCapSignerTest {
+
+    private static final SecretKeySpec KEY = new SecretKeySpec(new byte[32], "HmacSHA256");
+    private static final SecretKeySpec OTHER_KEY = new SecretKeySpec(filled(32, (byte) 7), "HmacSHA256");
+    private static final Instant NOW = Instant.parse("2025-06-01T08:00:00Z");
+
+    @Test
+    void roundTripKeepsEntries() {
+        var token = PopupCapToken.EMPTY
+            .record("a", NOW)
+            .record("b", NOW.plus(Duration.ofMinutes(5)));
+
+        var verified = PopupCapSigner.verify(KEY, PopupCapSigner.sign(KEY, token));
+
+        assertThat(verified.toBytes()).isEqualTo(token.toBytes());
+        assertThat(verified.isCapped(popup("a", 1), NOW.plus(Duration.ofMinutes(30)))).isTrue();
+        assertThat(verified.isCapped(popup("c", 1), NOW)).isFalse();
+    }
+
+    @Test
+    void emptyTokenRoundTrips() {
+        var verified = PopupCapSigner.verify(KEY, PopupCapSigner.sign(KEY, PopupCapToken.EMPTY));
+
+        assertThat(verified.isEmpty()).isTrue();
+    }
+
+    @Test
+    void rejectsTamperedSignature() {
+        var bytes = decode(PopupCapSigner.sign(KEY, PopupCapToken.EMPTY.record("a", NOW)));
+        bytes[bytes.length - 1] ^= 1;
+
+        assertThat(PopupCapSigner.verify(KEY, encode(bytes)).isEmpty()).isTrue();
+    }
+
+    @Test
+    void rejectsTamperedPayload() {
+        var bytes = decode(PopupCapSigner.sign(KEY, PopupCapToken.EMPTY.record("a", NOW)));
+        // 修改展示时间的最低字节，签名随之失效
+        bytes[1 + 1 + 7] ^= 1;
+
+        assertThat(PopupCapSigner.verify(KEY, encode(bytes)).isEmpty()).isTrue();
+    }
+
+    @Test
+    void rejectsTokenSignedWithAnotherKey() {
+        var cookie = PopupCapSigner.sign(OTHER_KEY, PopupCapToken.EMPTY.record("a", NOW));
+
+        assertThat(PopupCapSigner.verify(KEY, cookie).isEmpty()).isTrue();
+    }
+
+    @Test
+    void rejectsTruncatedCookie() {
+        var cookie = PopupCapSigner.sign(KEY, PopupCapToken.EMPTY.record("a", NOW));
+
+        for (int length = 0; length < cookie.length(); length++) {
+            assertThat(PopupCapSigner.verify(KEY, cookie.substring(0, length)).isEmpty())
+                .as("prefix of length %d", length)
+                .isTrue();
+        }
+    }
+
+    @Test
+    void rejectsMalformedBase64() {
+        assertThat(PopupCapSigner.verify(KEY, "not base64!").isEmpty()).isTrue();
+    }
+
+    @Test
+    void rejectsOversizedPayloadEvenWhenSigned() {
+        // 声明 9 项并带有对应长度的内容，签名有效但超过上限
+        int size = PopupCapToken.MAX_ENTRIES + 1;
+        var payload = new byte[1 + size * PopupCapToken.ENTRY_BYTES];
+        payload[0] = (byte) size;
+
+        assertThat(PopupCapSigner.verify(KEY, signed((byte) 1, payload)).isEmpty()).isTrue();
+    }
+
+    @Test
+    void rejectsPayloadWhoseLengthDoesNotMatchSize() {
+        var payload = Arrays.copyOf(PopupCapToken.EMPTY.record("a", NOW).toBytes(), 1 + 2 * PopupCapToken.ENTRY_BYTES);
+
+        assertThat(PopupCapSigner.verify(KEY, signed((byte) 1, payload)).isEmpty()).isTrue();
+    }
+
+    @Test
+    void rejectsUnknownVersion() {
+        var payload = PopupCapToken.EMPTY.record("a", NOW).toBytes();
+
+        assertThat(PopupCapSigner.verify(KEY, signed((byte) 1, payload)).isEmpty()).isFalse();
+        assertThat(PopupCapSigner.verify(KEY, signed((byte) 2, payload)).isEmpty()).isTrue();
+    }
+
+    @Test
+    void evictsOldestEntryBeyondLimit() {
+        var token = PopupCapToken.EMPTY;
+        for (int i = 0; i <= PopupCapToken.MAX_ENTRIES; i++) {
+            token = token.record("popup-" + i, NOW.plus(Duration.ofMinutes(i)));
+        }
+        var later = NOW.plus(Duration.ofMinutes(30));
+
+        assertThat(token.toBytes()).hasSize(1 + PopupCapToken.MAX_ENTRIES * PopupCapToken.ENTRY_BYTES);
+        assertThat(token.isCapped(popup("popup-0", 1), later)).isFalse();
+        for (int i = 1; i <= PopupCapToken.MAX_ENTRIES; i++) {
+            assertThat(token.isCapped(popup("popup-" + i, 1), later)).as("popup-%d", i).isTrue();
+        }
+        var verified = PopupCapSigner.verify(KEY, PopupCapSigner.sign(KEY, token));
+        assertThat(verified.toBytes()).isEqualTo(token.toBytes());
+    }
+
+    @Test
+    void recordingKnownNameUpdatesInPlace() {
+        var token = PopupCapToken.EMPTY
+            .record("a", NOW)
+            .record("a", NOW.plus(Duration.ofHours(2)));
+
+        assertThat(token.toBytes()).hasSize(1 + PopupCapToken.ENTRY_BYTES);
+        assertThat(token.isCapped(popup("a", 1), NOW.plus(Duration.ofMinutes(150)))).isTrue();
+    }
+
+    @Test
+    void intervalExpires() {
+        var token = PopupCapToken.EMPTY.record("a", NOW);
+
+        assertThat(token.isCapped(popup("a", 1), NOW.plus(Duration.ofMinutes(59)))).isTrue();
+        assertThat(token.isCapped(popup("a", 1), NOW.plus(Duration.ofMinutes(60)))).isFalse();
+        assertThat(token.isCapped(popup("a", 0), NOW)).isFalse();
+    }
+
+    @Test
+    void readTreatsInvalidCookieAsEmptyAndWriteRoundTrips() {
+        var client = mock(ReactiveExtensionClient.class);
+        var secret = new Secret();
+        secret.setData(Map.of(PopupCapSigner.SECRET_KEY, new byte[32]));
+        when(client.fetch(eq(Secret.class), eq(PopupCapSigner.SECRET_NAME))).thenReturn(Mono.just(secret));
+        var signer = new PopupCapSigner(client);
+        var token = PopupCapToken.EMPTY.record("a", NOW);
+
+        var cookie = signer.write(token, true).block();
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.isHttpOnly()).isTrue();
+        assertThat(signer.read(cookie.getValue()).block().toBytes()).isEqualTo(token.toBytes());
+        assertThat(signer.read("garbage").block().isEmpty()).isTrue();
+        assertThat(signer.read(null).block().isEmpty()).isTrue();
+        verify(client, never()).create(any());
+    }
+
+    private static Announcement popup(String name, int intervalHours) {
+        var metadata = new Metadata();
+        metadata.setName(name);
+        var spec = new Announcement.AnnouncementSpec();
+        spec.setPopupInterval(intervalHours);
+        var announcement = new Announcement();
+        announcement.setMetadata(metadata);
+        announcement.setAnnouncementSpec(spec);
+        return announcement;
+    }
+
+    private static String signed(byte version, byte[] payload) {
+        try {
+            var mac = Mac.getInstance("HmacSHA256");
+            mac.init(KEY);
+            var buffer = ByteBuffer.allocate(1 + payload.length + 16);
+            buffer.put(version).put(payload);
+            mac.update(buffer.array(), 0, buffer.position());
+            buffer.put(Arrays.copyOf(mac.doFinal(), 16));
+            return encode(buffer.array());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] decode(String cookie) {
+        return Base64.getUrlDecoder().decode(cookie);
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static byte[] filled(int length, byte value) {
+        var bytes = new byte[length];
+        Arrays.fill(bytes, value);
+        return bytes;
+    }
+}
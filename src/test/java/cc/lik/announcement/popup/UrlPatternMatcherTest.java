@@ -0,0 +1,179 @@
+package cc.lik.announcement.popup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cc.lik.announcement.extension.Announcement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import run.halo.app.extension.Metadata;
+
+/**
+ * 弹窗 URL 匹配：前缀树、段内通配和跨段正则回退与逐条正则匹配的结果一致
+ *
+ * @author Handsome
+ */
+class UrlPatternMatcherTest {
+
+    @Test
+    void blankPatternsMatchHomepageOnly() {
+        var matcher = UrlPatternMatcher.compile(List.of(popup("home", null), popup("slash", "/")));
+
+        assertThat(names(matcher.matches("/"))).containsExactly("home", "slash");
+        assertThat(names(matcher.matches(""))).containsExactly("home", "slash");
+        assertThat(matcher.matches("/archives")).isEmpty();
+    }
+
+    @Test
+    void singleStarStaysWithinSegment() {
+        var matcher = UrlPatternMatcher.compile(List.of(popup("posts", "/archives/*")));
+
+        assertThat(matcher.first("/archives/hello")).isPresent();
+        assertThat(matcher.first("/archives/")).isPresent();
+        assertThat(matcher.first("/archives/2024/hello")).isEmpty();
+        assertThat(matcher.first("/archives")).isEmpty();
+    }
+
+    @Test
+    void doubleStarCrossesSegments() {
+        var matcher = UrlPatternMatcher.compile(List.of(popup("docs", "/docs/**")));
+
+        assertThat(matcher.first("/docs/a")).isPresent();
+        assertThat(matcher.first("/docs/a/b/c")).isPresent();
+        assertThat(matcher.first("/docs/")).isPresent();
+        assertThat(matcher.first("/docs")).isEmpty();
+        assertThat(matcher.first("/documents/a")).isEmpty();
+    }
+
+    @Test
+    void globWithinSegment() {
+        var matcher = UrlPatternMatcher.compile(List.of(popup("beta", "/release/v*-beta*")));
+
+        assertThat(matcher.first("/release/v2-beta")).isPresent();
+        assertThat(matcher.first("/release/v2.1-beta3")).isPresent();
+        assertThat(matcher.first("/release/v2")).isEmpty();
+        assertThat(matcher.first("/release/x2-beta")).isEmpty();
+        // 片段不能重叠：v 之后至少要有 -beta
+        assertThat(matcher.first("/release/v-bet")).isEmpty();
+    }
+
+    @Test
+    void doubleStarInsideSegmentFallsBackToRegex() {
+        var matcher = UrlPatternMatcher.compile(List.of(popup("posts", "/posts**")));
+
+        assertThat(matcher.first("/posts")).isPresent();
+        assertThat(matcher.first("/posts-2024/hello")).isPresent();
+        assertThat(matcher.first("/post")).isEmpty();
+    }
+
+    @Test
+    void regexMetacharactersAreLiteral() {
+        var matcher = UrlPatternMatcher.compile(List.of(popup("dot", "/a.b/**x(1)")));
+
+        assertThat(matcher.first("/a.b/c/dx(1)")).isPresent();
+        assertThat(matcher.first("/aXb/c/dx(1)")).isEmpty();
+        assertThat(matcher.first("/a.b/c/dx1")).isEmpty();
+    }
+
+    @Test
+    void keepsAnnouncementOrderAsPriority() {
+        var matcher = UrlPatternMatcher.compile(List.of(
+            popup("first", "/posts/**"),
+            popup("second", "/posts/*\n/tags/*"),
+            popup("third", "/**")));
+
+        assertThat(names(matcher.matches("/posts/a"))).containsExactly("first", "second", "third");
+        assertThat(names(matcher.matches("/tags/a"))).containsExactly("second", "third");
+        assertThat(matcher.first("/tags/a").map(a -> a.getMetadata().getName())).hasValue("second");
+    }
+
+    @Test
+    void skipsCappedAnnouncements() {
+        var now = Instant.parse("2025-06-01T08:00:00Z");
+        var capped = popup("capped", "/**");
+        capped.getAnnouncementSpec().setPopupInterval(1);
+        var matcher = UrlPatternMatcher.compile(List.of(capped, popup("next", "/**")));
+        var token = PopupCapToken.EMPTY.record("capped", now);
+
+        assertThat(matcher.first("/a", token, now).map(a -> a.getMetadata().getName())).hasValue("next");
+        assertThat(matcher.first("/a", token, now.plus(Duration.ofHours(1)))
+            .map(a -> a.getMetadata().getName())).hasValue("capped");
+        assertThat(matcher.first("/a", PopupCapToken.EMPTY, now)
+            .map(a -> a.getMetadata().getName())).hasValue("capped");
+    }
+
+    @Test
+    void agreesWithRegexOnRandomPatterns() {
+        var random = new Random(42);
+        String[] pieces = {"a", "b", "ab", "*", "**", "a*", "*b", "a*b", "a**", ""};
+        for (int round = 0; round < 200; round++) {
+            var announcements = new ArrayList<Announcement>();
+            var patterns = new ArrayList<String>();
+            for (int i = 0; i < 6; i++) {
+                var pattern = new StringBuilder();
+                int segments = 1 + random.nextInt(3);
+                for (int s = 0; s < segments; s++) {
+                    pattern.append('/').append(pieces[random.nextInt(pieces.length)]);
+                }
+                patterns.add(pattern.toString());
+                announcements.add(popup("p" + i, pattern.toString()));
+            }
+            var matcher = UrlPatternMatcher.compile(announcements);
+            for (int p = 0; p < 30; p++) {
+                var path = new StringBuilder();
+                int segments = random.nextInt(4);
+                for (int s = 0; s < segments; s++) {
+                    path.append('/').append(pieces[random.nextInt(pieces.length)].replace("*", "x"));
+                }
+                var candidate = path.isEmpty() ? "/" : path.toString();
+                var expected = new ArrayList<String>();
+                for (int i = 0; i < patterns.size(); i++) {
+                    if (reference(patterns.get(i)).matcher(candidate).matches()) {
+                        expected.add("p" + i);
+                    }
+                }
+                assertThat(names(matcher.matches(candidate)))
+                    .as("path %s against %s", candidate, patterns)
+                    .containsExactlyElementsOf(expected);
+            }
+        }
+    }
+
+    /**
+     * 逐条正则的参考实现：* 不跨越 /，** 跨越 /
+     */
+    private static Pattern reference(String glob) {
+        var regex = new StringBuilder();
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == '*' && i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+                regex.append(".*");
+                i++;
+            } else if (c == '*') {
+                regex.append("[^/]*");
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private static List<String> names(List<Announcement> announcements) {
+        return announcements.stream().map(a -> a.getMetadata().getName()).toList();
+    }
+
+    private static Announcement popup(String name, String urlPatterns) {
+        var metadata = new Metadata();
+        metadata.setName(name);
+        var spec = new Announcement.AnnouncementSpec();
+        spec.setUrlPatterns(urlPatterns);
+        var announcement = new Announcement();
+        announcement.setMetadata(metadata);
+        announcement.setAnnouncementSpec(spec);
+        return announcement;
+    }
+}
@@ -25,19 +25,240 @@ import { BASE_PATH, COLLECTION_FORMATS, type RequestArgs, BaseAPI, RequiredError
 import type { Announcement } from '../models';
 // @ts-ignore
 import type { AnnouncementList } from '../models';
+// @ts-ignore
+import type { ArchivedAnnouncementList } from '../models';
+// @ts-ignore
+import type { BatchRequest } from '../models';
+// @ts-ignore
+import type { BatchResult } from '../models';
+// @ts-ignore
+import type { FacetCounts } from '../models';
+// @ts-ignore
+import type { ImportReport } from '../models';
 /**
  * ApiAnnouncementLikCcV1alpha1AnnouncementApi - axios parameter creator
  * @export
  */
 export const ApiAnnouncementLikCcV1alpha1AnnouncementApiAxiosParamCreator = function (configuration?: Configuration) {
     return {
+        /**
+         * 将公告移入归档，归档的公告不再参与弹窗、搜索和在线列表，返回逐项结果
+         * @param {BatchRequest} batchRequest 
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        archiveAnnouncements: async (batchRequest: BatchRequest, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            // verify required parameter 'batchRequest' is not null or undefined
+            assertParamExists('archiveAnnouncements', 'batchRequest', batchRequest)
+            const localVarPath = `/apis/api.announcement.lik.cc/v1alpha1/announcements/-/archive`;
+            // use dummy base URL string because the URL constructor only accepts absolute URLs.
+            const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
+            let baseOptions;
+            if (configuration) {
+                baseOptions = configuration.baseOptions;
+            }
+
+            const localVarRequestOptions = { method: 'POST', ...baseOptions, ...options};
+            const localVarHeaderParameter = {} as any;
+            const localVarQueryParameter = {} as any;
+
+            // authentication basicAuth required
+            // http basic authentication required
+            setBasicAuthToObject(localVarRequestOptions, configuration)
+
+            // authentication bearerAuth required
+            // http bearer authentication required
+            await setBearerAuthToObject(localVarHeaderParameter, configuration)
+
+
+    
+            localVarHeaderParameter['Content-Type'] = 'application/json';
+
+            setSearchParams(localVarUrlObj, localVarQueryParameter);
+            let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
+            localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+            localVarRequestOptions.data = serializeDataIfNeeded(batchRequest, localVarRequestOptions, configuration)
+
+            return {
+                url: toPathString(localVarUrlObj),
+                options: localVarRequestOptions,
+            };
+        },
+        /**
+         * 批量删除公告，返回逐项结果
+         * @param {BatchRequest} batchRequest 
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        batchDeleteAnnouncements: async (batchRequest: BatchRequest, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            // verify required parameter 'batchRequest' is not null or undefined
+            assertParamExists('batchDeleteAnnouncements', 'batchRequest', batchRequest)
+            const localVarPath = `/apis/api.announcement.lik.cc/v1alpha1/announcements/-/batch-delete`;
+            // use dummy base URL string because the URL constructor only accepts absolute URLs.
+            const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
+            let baseOptions;
+            if (configuration) {
+                baseOptions = configuration.baseOptions;
+            }
+
+            const localVarRequestOptions = { method: 'POST', ...baseOptions, ...options};
+            const localVarHeaderParameter = {} as any;
+            const localVarQueryParameter = {} as any;
+
+            // authentication basicAuth required
+            // http basic authentication required
+            setBasicAuthToObject(localVarRequestOptions, configuration)
+
+            // authentication bearerAuth required
+            // http bearer authentication required
+            await setBearerAuthToObject(localVarHeaderParameter, configuration)
+
+
+    
+            localVarHeaderParameter['Content-Type'] = 'application/json';
+
+            setSearchParams(localVarUrlObj, localVarQueryParameter);
+            let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
+            localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+            localVarRequestOptions.data = serializeDataIfNeeded(batchRequest, localVarRequestOptions, configuration)
+
+            return {
+                url: toPathString(localVarUrlObj),
+                options: localVarRequestOptions,
+            };
+        },
+        /**
+         * 根据名称批量获取公告，单次最多 100 个
+         * @param {Array<string>} names 公告名称，可重复传递或以逗号分隔
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        batchGetAnnouncements: async (names: Array<string>, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            // verify required parameter 'names' is not null or undefined
+            assertParamExists('batchGetAnnouncements', 'names', names)
+            const localVarPath = `/apis/api.announcement.lik.cc/v1alpha1/announcements/-/batch`;
+            // use dummy base URL string because the URL constructor only accepts absolute URLs.
+            const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
+            let baseOptions;
+            if (configuration) {
+                baseOptions = configuration.baseOptions;
+            }
+
+            const localVarRequestOptions = { method: 'GET', ...baseOptions, ...options};
+            const localVarHeaderParameter = {} as any;
+            const localVarQueryParameter = {} as any;
+
+            // authentication basicAuth required
+            // http basic authentication required
+            setBasicAuthToObject(localVarRequestOptions, configuration)
+
+            // authentication bearerAuth required
+            // http bearer authentication required
+            await setBearerAuthToObject(localVarHeaderParameter, configuration)
+
+            if (names) {
+                localVarQueryParameter['names'] = names;
+            }
+
+
+    
+            setSearchParams(localVarUrlObj, localVarQueryParameter);
+            let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
+            localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+
+            return {
+                url: toPathString(localVarUrlObj),
+                options: localVarRequestOptions,
+            };
+        },
+        /**
+         * 批量修改公告的可见范围、置顶和弹窗开关，返回逐项结果
+         * @param {BatchRequest} batchRequest 
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        batchPatchAnnouncements: async (batchRequest: BatchRequest, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            // verify required parameter 'batchRequest' is not null or undefined
+            assertParamExists('batchPatchAnnouncements', 'batchRequest', batchRequest)
+            const localVarPath = `/apis/api.announcement.lik.cc/v1alpha1/announcements/-/batch-patch`;
+            // use dummy base URL string because the URL constructor only accepts absolute URLs.
+            const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
+            let baseOptions;
+            if (configuration) {
+                baseOptions = configuration.baseOptions;
+            }
+
+            const localVarRequestOptions = { method: 'POST', ...baseOptions, ...options};
+            const localVarHeaderParameter = {} as any;
+            const localVarQueryParameter = {} as any;
+
+            // authentication basicAuth required
+            // http basic authentication required
+            setBasicAuthToObject(localVarRequestOptions, configuration)
+
+            // authentication bearerAuth required
+            // http bearer authentication required
+            await setBearerAuthToObject(localVarHeaderParameter, configuration)
+
+
+    
+            localVarHeaderParameter['Content-Type'] = 'application/json';
+
+            setSearchParams(localVarUrlObj, localVarQueryParameter);
+            let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
+            localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+            localVarRequestOptions.data = serializeDataIfNeeded(batchRequest, localVarRequestOptions, configuration)
+
+            return {
+                url: toPathString(localVarUrlObj),
+                options: localVarRequestOptions,
+            };
+        },
+        /**
+         * 以 NDJSON 流式导出全部公告，每行一个公告，在线公告在前、归档公告在后
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        exportAnnouncements: async (options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            const localVarPath = `/apis/api.announcement.lik.cc/v1alpha1/announcements/-/export`;
+            // use dummy base URL string because the URL constructor only accepts absolute URLs.
+            const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
+            let baseOptions;
+            if (configuration) {
+                baseOptions = configuration.baseOptions;
+            }
+
+            const localVarRequestOptions = { method: 'GET', ...baseOptions, ...options};
+            const localVarHeaderParameter = {} as any;
+            const localVarQueryParameter = {} as any;
+
+            // authentication basicAuth required
+            // http basic authentication required
+            setBasicAuthToObject(localVarRequestOptions, configuration)
+
+            // authentication bearerAuth required
+            // http bearer authentication required
+            await setBearerAuthToObject(localVarHeaderParameter, configuration)
+
+
+    
+            setSearchParams(localVarUrlObj, localVarQueryParameter);
+            let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
+            localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+
+            return {
+                url: toPathString(localVarUrlObj),
+                options: localVarRequestOptions,
+            };
+        },
         /**
          * 根据名称获取公告
          * @param {string} name 公告名称
+         * @param {string} [view] 响应视图：full（默认）、summary 或 popup
          * @param {*} [options] Override http request option.
          * @throws {RequiredError}
          */
-        getAnnouncementByName: async (name: string, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+        getAnnouncementByName: async (name: string, view?: string, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
             // verify required parameter 'name' is not null or undefined
             assertParamExists('getAnnouncementByName', 'name', name)
             const localVarPath = `/apis/api.announcement.lik.cc/v1alpha1/announcements/{name}`
@@ -61,11 +282,100 @@ export const ApiAnnouncementLikCcV1alpha1AnnouncementApiAxiosParamCreator = func
             // http bearer authentication required
             await setBearerAuthToObject(localVarHeaderParameter, configuration)
 
+            if (view !== undefined) {
+                localVarQueryParameter['view'] = view;
+            }
+
+
+    
+            setSearchParams(localVarUrlObj, localVarQueryParameter);
+            let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
+            localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+
+            return {
+                url: toPathString(localVarUrlObj),
+                options: localVarRequestOptions,
+            };
+        },
+        /**
+         * 获取按类型、可见范围、置顶和弹窗的公告计数，键为 all（全部公告）和各公开受众
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        getAnnouncementFacets: async (options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            const localVarPath = `/apis/api.announcement.lik.cc/v1alpha1/announcements/-/facets`;
+            // use dummy base URL string because the URL constructor only accepts absolute URLs.
+            const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
+            let baseOptions;
+            if (configuration) {
+                baseOptions = configuration.baseOptions;
+            }
+
+            const localVarRequestOptions = { method: 'GET', ...baseOptions, ...options};
+            const localVarHeaderParameter = {} as any;
+            const localVarQueryParameter = {} as any;
+
+            // authentication basicAuth required
+            // http basic authentication required
+            setBasicAuthToObject(localVarRequestOptions, configuration)
+
+            // authentication bearerAuth required
+            // http bearer authentication required
+            await setBearerAuthToObject(localVarHeaderParameter, configuration)
+
+
+    
+            setSearchParams(localVarUrlObj, localVarQueryParameter);
+            let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
+            localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+
+            return {
+                url: toPathString(localVarUrlObj),
+                options: localVarRequestOptions,
+            };
+        },
+        /**
+         * 导入 NDJSON 格式的公告，按 kind 区分在线公告和归档公告，按名称新建或覆盖，返回导入汇总
+         * @param {File} body NDJSON，每行一个公告
+         * @param {boolean} [dryRun] 只校验并统计，不写入
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        importAnnouncements: async (body: File, dryRun?: boolean, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            // verify required parameter 'body' is not null or undefined
+            assertParamExists('importAnnouncements', 'body', body)
+            const localVarPath = `/apis/api.announcement.lik.cc/v1alpha1/announcements/-/import`;
+            // use dummy base URL string because the URL constructor only accepts absolute URLs.
+            const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
+            let baseOptions;
+            if (configuration) {
+                baseOptions = configuration.baseOptions;
+            }
+
+            const localVarRequestOptions = { method: 'POST', ...baseOptions, ...options};
+            const localVarHeaderParameter = {} as any;
+            const localVarQueryParameter = {} as any;
+
+            // authentication basicAuth required
+            // http basic authentication required
+            setBasicAuthToObject(localVarRequestOptions, configuration)
+
+            // authentication bearerAuth required
+            // http bearer authentication required
+            await setBearerAuthToObject(localVarHeaderParameter, configuration)
+
+            if (dryRun !== undefined) {
+                localVarQueryParameter['dryRun'] = dryRun;
+            }
+
 
     
+            localVarHeaderParameter['Content-Type'] = 'application/x-ndjson';
+
             setSearchParams(localVarUrlObj, localVarQueryParameter);
             let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
             localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+            localVarRequestOptions.data = serializeDataIfNeeded(body, localVarRequestOptions, configuration)
 
             return {
                 url: toPathString(localVarUrlObj),
@@ -81,10 +391,17 @@ export const ApiAnnouncementLikCcV1alpha1AnnouncementApiAxiosParamCreator = func
          * @param {Array<string>} [sort] Sorting criteria in the format: property,(asc|desc). Default sort order is ascending. Multiple sort criteria are supported.
          * @param {string} [keyword] Announcement filtered by keyword.
          * @param {string} [announcementSpecPermissions] Announcement permissions.
+         * @param {boolean} [popup] Filter announcements with popup enabled.
+         * @param {string} [type] Filter announcements by type.
+         * @param {string} [announcementSpecEnablePinning] Filter announcements by pinning status.
+         * @param {string} [announcementSpecEnablePopup] Filter announcements by popup status.
+         * @param {string} [cursor] Continuation token for keyset pagination, pass an empty value for the first page. When present the response is a cursor page and the page parameter is ignored.
+         * @param {boolean} [withTotal] Whether to count the total in cursor mode, defaults to true.
+         * @param {string} [view] Response projection: full (default), summary or popup.
          * @param {*} [options] Override http request option.
          * @throws {RequiredError}
          */
-        listAnnouncements: async (page?: number, size?: number, labelSelector?: Array<string>, fieldSelector?: Array<string>, sort?: Array<string>, keyword?: string, announcementSpecPermissions?: string, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+        listAnnouncements: async (page?: number, size?: number, labelSelector?: Array<string>, fieldSelector?: Array<string>, sort?: Array<string>, keyword?: string, announcementSpecPermissions?: string, popup?: boolean, type?: string, announcementSpecEnablePinning?: string, announcementSpecEnablePopup?: string, cursor?: string, withTotal?: boolean, view?: string, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
             const localVarPath = `/apis/api.announcement.lik.cc/v1alpha1/announcements`;
             // use dummy base URL string because the URL constructor only accepts absolute URLs.
             const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
@@ -133,12 +450,140 @@ export const ApiAnnouncementLikCcV1alpha1AnnouncementApiAxiosParamCreator = func
                 localVarQueryParameter['announcementSpec.permissions'] = announcementSpecPermissions;
             }
 
+            if (popup !== undefined) {
+                localVarQueryParameter['popup'] = popup;
+            }
+
+            if (type !== undefined) {
+                localVarQueryParameter['type'] = type;
+            }
+
+            if (announcementSpecEnablePinning !== undefined) {
+                localVarQueryParameter['announcementSpec.enablePinning'] = announcementSpecEnablePinning;
+            }
+
+            if (announcementSpecEnablePopup !== undefined) {
+                localVarQueryParameter['announcementSpec.enablePopup'] = announcementSpecEnablePopup;
+            }
+
+            if (cursor !== undefined) {
+                localVarQueryParameter['cursor'] = cursor;
+            }
+
+            if (withTotal !== undefined) {
+                localVarQueryParameter['withTotal'] = withTotal;
+            }
+
+            if (view !== undefined) {
+                localVarQueryParameter['view'] = view;
+            }
+
 
     
             setSearchParams(localVarUrlObj, localVarQueryParameter);
             let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
             localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
 
+            return {
+                url: toPathString(localVarUrlObj),
+                options: localVarRequestOptions,
+            };
+        },
+        /**
+         * 分页查询归档公告，包含归档时间和原因（age、expired 或 manual）
+         * @param {number} [page] Page number. Default is 0.
+         * @param {number} [size] Size number. Default is 0.
+         * @param {Array<string>} [labelSelector] Label selector. e.g.: hidden!&#x3D;true
+         * @param {Array<string>} [fieldSelector] Field selector. e.g.: metadata.name&#x3D;&#x3D;halo
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        listArchivedAnnouncements: async (page?: number, size?: number, labelSelector?: Array<string>, fieldSelector?: Array<string>, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            const localVarPath = `/apis/api.announcement.lik.cc/v1alpha1/announcements/-/archived`;
+            // use dummy base URL string because the URL constructor only accepts absolute URLs.
+            const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
+            let baseOptions;
+            if (configuration) {
+                baseOptions = configuration.baseOptions;
+            }
+
+            const localVarRequestOptions = { method: 'GET', ...baseOptions, ...options};
+            const localVarHeaderParameter = {} as any;
+            const localVarQueryParameter = {} as any;
+
+            // authentication basicAuth required
+            // http basic authentication required
+            setBasicAuthToObject(localVarRequestOptions, configuration)
+
+            // authentication bearerAuth required
+            // http bearer authentication required
+            await setBearerAuthToObject(localVarHeaderParameter, configuration)
+
+            if (page !== undefined) {
+                localVarQueryParameter['page'] = page;
+            }
+
+            if (size !== undefined) {
+                localVarQueryParameter['size'] = size;
+            }
+
+            if (labelSelector) {
+                localVarQueryParameter['labelSelector'] = labelSelector;
+            }
+
+            if (fieldSelector) {
+                localVarQueryParameter['fieldSelector'] = fieldSelector;
+            }
+
+
+    
+            setSearchParams(localVarUrlObj, localVarQueryParameter);
+            let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
+            localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+
+            return {
+                url: toPathString(localVarUrlObj),
+                options: localVarRequestOptions,
+            };
+        },
+        /**
+         * 将归档公告恢复为在线公告，返回逐项结果
+         * @param {BatchRequest} batchRequest 
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        restoreAnnouncements: async (batchRequest: BatchRequest, options: RawAxiosRequestConfig = {}): Promise<RequestArgs> => {
+            // verify required parameter 'batchRequest' is not null or undefined
+            assertParamExists('restoreAnnouncements', 'batchRequest', batchRequest)
+            const localVarPath = `/apis/api.announcement.lik.cc/v1alpha1/announcements/-/restore`;
+            // use dummy base URL string because the URL constructor only accepts absolute URLs.
+            const localVarUrlObj = new URL(localVarPath, DUMMY_BASE_URL);
+            let baseOptions;
+            if (configuration) {
+                baseOptions = configuration.baseOptions;
+            }
+
+            const localVarRequestOptions = { method: 'POST', ...baseOptions, ...options};
+            const localVarHeaderParameter = {} as any;
+            const localVarQueryParameter = {} as any;
+
+            // authentication basicAuth required
+            // http basic authentication required
+            setBasicAuthToObject(localVarRequestOptions, configuration)
+
+            // authentication bearerAuth required
+            // http bearer authentication required
+            await setBearerAuthToObject(localVarHeaderParameter, configuration)
+
+
+    
+            localVarHeaderParameter['Content-Type'] = 'application/json';
+
+            setSearchParams(localVarUrlObj, localVarQueryParameter);
+            let headersFromBaseOptions = baseOptions && baseOptions.headers ? baseOptions.headers : {};
+            localVarRequestOptions.headers = {...localVarHeaderParameter, ...headersFromBaseOptions, ...options.headers};
+            localVarRequestOptions.data = serializeDataIfNeeded(batchRequest, localVarRequestOptions, configuration)
+
             return {
                 url: toPathString(localVarUrlObj),
                 options: localVarRequestOptions,
@@ -154,18 +599,102 @@ export const ApiAnnouncementLikCcV1alpha1AnnouncementApiAxiosParamCreator = func
 export const ApiAnnouncementLikCcV1alpha1AnnouncementApiFp = function(configuration?: Configuration) {
     const localVarAxiosParamCreator = ApiAnnouncementLikCcV1alpha1AnnouncementApiAxiosParamCreator(configuration)
     return {
+        /**
+         * 将公告移入归档，归档的公告不再参与弹窗、搜索和在线列表，返回逐项结果
+         * @param {BatchRequest} batchRequest 
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async archiveAnnouncements(batchRequest: BatchRequest, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<BatchResult>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.archiveAnnouncements(batchRequest, options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiAnnouncementLikCcV1alpha1AnnouncementApi.archiveAnnouncements']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
+        /**
+         * 批量删除公告，返回逐项结果
+         * @param {BatchRequest} batchRequest 
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async batchDeleteAnnouncements(batchRequest: BatchRequest, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<BatchResult>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.batchDeleteAnnouncements(batchRequest, options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiAnnouncementLikCcV1alpha1AnnouncementApi.batchDeleteAnnouncements']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
+        /**
+         * 根据名称批量获取公告，单次最多 100 个
+         * @param {Array<string>} names 公告名称，可重复传递或以逗号分隔
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async batchGetAnnouncements(names: Array<string>, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<BatchResult>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.batchGetAnnouncements(names, options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiAnnouncementLikCcV1alpha1AnnouncementApi.batchGetAnnouncements']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
+        /**
+         * 批量修改公告的可见范围、置顶和弹窗开关，返回逐项结果
+         * @param {BatchRequest} batchRequest 
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async batchPatchAnnouncements(batchRequest: BatchRequest, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<BatchResult>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.batchPatchAnnouncements(batchRequest, options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiAnnouncementLikCcV1alpha1AnnouncementApi.batchPatchAnnouncements']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
+        /**
+         * 以 NDJSON 流式导出全部公告，每行一个公告，在线公告在前、归档公告在后
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async exportAnnouncements(options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<File>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.exportAnnouncements(options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiAnnouncementLikCcV1alpha1AnnouncementApi.exportAnnouncements']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
         /**
          * 根据名称获取公告
          * @param {string} name 公告名称
+         * @param {string} [view] 响应视图：full（默认）、summary 或 popup
          * @param {*} [options] Override http request option.
          * @throws {RequiredError}
          */
-        async getAnnouncementByName(name: string, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<Announcement>> {
-            const localVarAxiosArgs = await localVarAxiosParamCreator.getAnnouncementByName(name, options);
+        async getAnnouncementByName(name: string, view?: string, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<Announcement>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.getAnnouncementByName(name, view, options);
             const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
             const localVarOperationServerBasePath = operationServerMap['ApiAnnouncementLikCcV1alpha1AnnouncementApi.getAnnouncementByName']?.[localVarOperationServerIndex]?.url;
             return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
         },
+        /**
+         * 获取按类型、可见范围、置顶和弹窗的公告计数，键为 all（全部公告）和各公开受众
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async getAnnouncementFacets(options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<{ [key: string]: FacetCounts; }>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.getAnnouncementFacets(options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiAnnouncementLikCcV1alpha1AnnouncementApi.getAnnouncementFacets']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
+        /**
+         * 导入 NDJSON 格式的公告，按 kind 区分在线公告和归档公告，按名称新建或覆盖，返回导入汇总
+         * @param {File} body NDJSON，每行一个公告
+         * @param {boolean} [dryRun] 只校验并统计，不写入
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async importAnnouncements(body: File, dryRun?: boolean, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<ImportReport>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.importAnnouncements(body, dryRun, options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiAnnouncementLikCcV1alpha1AnnouncementApi.importAnnouncements']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
         /**
          * 分页查询公告列表
          * @param {number} [page] Page number. Default is 0.
@@ -175,15 +704,49 @@ export const ApiAnnouncementLikCcV1alpha1AnnouncementApiFp = function(configurat
          * @param {Array<string>} [sort] Sorting criteria in the format: property,(asc|desc). Default sort order is ascending. Multiple sort criteria are supported.
          * @param {string} [keyword] Announcement filtered by keyword.
          * @param {string} [announcementSpecPermissions] Announcement permissions.
+         * @param {boolean} [popup] Filter announcements with popup enabled.
+         * @param {string} [type] Filter announcements by type.
+         * @param {string} [announcementSpecEnablePinning] Filter announcements by pinning status.
+         * @param {string} [announcementSpecEnablePopup] Filter announcements by popup status.
+         * @param {string} [cursor] Continuation token for keyset pagination, pass an empty value for the first page. When present the response is a cursor page and the page parameter is ignored.
+         * @param {boolean} [withTotal] Whether to count the total in cursor mode, defaults to true.
+         * @param {string} [view] Response projection: full (default), summary or popup.
          * @param {*} [options] Override http request option.
          * @throws {RequiredError}
          */
-        async listAnnouncements(page?: number, size?: number, labelSelector?: Array<string>, fieldSelector?: Array<string>, sort?: Array<string>, keyword?: string, announcementSpecPermissions?: string, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<AnnouncementList>> {
-            const localVarAxiosArgs = await localVarAxiosParamCreator.listAnnouncements(page, size, labelSelector, fieldSelector, sort, keyword, announcementSpecPermissions, options);
+        async listAnnouncements(page?: number, size?: number, labelSelector?: Array<string>, fieldSelector?: Array<string>, sort?: Array<string>, keyword?: string, announcementSpecPermissions?: string, popup?: boolean, type?: string, announcementSpecEnablePinning?: string, announcementSpecEnablePopup?: string, cursor?: string, withTotal?: boolean, view?: string, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<AnnouncementList>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.listAnnouncements(page, size, labelSelector, fieldSelector, sort, keyword, announcementSpecPermissions, popup, type, announcementSpecEnablePinning, announcementSpecEnablePopup, cursor, withTotal, view, options);
             const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
             const localVarOperationServerBasePath = operationServerMap['ApiAnnouncementLikCcV1alpha1AnnouncementApi.listAnnouncements']?.[localVarOperationServerIndex]?.url;
             return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
         },
+        /**
+         * 分页查询归档公告，包含归档时间和原因（age、expired 或 manual）
+         * @param {number} [page] Page number. Default is 0.
+         * @param {number} [size] Size number. Default is 0.
+         * @param {Array<string>} [labelSelector] Label selector. e.g.: hidden!&#x3D;true
+         * @param {Array<string>} [fieldSelector] Field selector. e.g.: metadata.name&#x3D;&#x3D;halo
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async listArchivedAnnouncements(page?: number, size?: number, labelSelector?: Array<string>, fieldSelector?: Array<string>, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<ArchivedAnnouncementList>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.listArchivedAnnouncements(page, size, labelSelector, fieldSelector, options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiAnnouncementLikCcV1alpha1AnnouncementApi.listArchivedAnnouncements']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
+        /**
+         * 将归档公告恢复为在线公告，返回逐项结果
+         * @param {BatchRequest} batchRequest 
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        async restoreAnnouncements(batchRequest: BatchRequest, options?: RawAxiosRequestConfig): Promise<(axios?: AxiosInstance, basePath?: string) => AxiosPromise<BatchResult>> {
+            const localVarAxiosArgs = await localVarAxiosParamCreator.restoreAnnouncements(batchRequest, options);
+            const localVarOperationServerIndex = configuration?.serverIndex ?? 0;
+            const localVarOperationServerBasePath = operationServerMap['ApiAnnouncementLikCcV1alpha1AnnouncementApi.restoreAnnouncements']?.[localVarOperationServerIndex]?.url;
+            return (axios, basePath) => createRequestFunction(localVarAxiosArgs, globalAxios, BASE_PATH, configuration)(axios, localVarOperationServerBasePath || basePath);
+        },
     }
 };
 
@@ -194,6 +757,50 @@ export const ApiAnnouncementLikCcV1alpha1AnnouncementApiFp = function(configurat
 export const ApiAnnouncementLikCcV1alpha1AnnouncementApiFactory = function (configuration?: Configuration, basePath?: string, axios?: AxiosInstance) {
     const localVarFp = ApiAnnouncementLikCcV1alpha1AnnouncementApiFp(configuration)
     return {
+        /**
+         * 将公告移入归档，归档的公告不再参与弹窗、搜索和在线列表，返回逐项结果
+         * @param {ApiAnnouncementLikCcV1alpha1AnnouncementApiArchiveAnnouncementsRequest} requestParameters Request parameters.
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        archiveAnnouncements(requestParameters: ApiAnnouncementLikCcV1alpha1AnnouncementApiArchiveAnnouncementsRequest, options?: RawAxiosRequestConfig): AxiosPromise<BatchResult> {
+            return localVarFp.archiveAnnouncements(requestParameters.batchRequest, options).then((request) => request(axios, basePath));
+        },
+        /**
+         * 批量删除公告，返回逐项结果
+         * @param {ApiAnnouncementLikCcV1alpha1AnnouncementApiBatchDeleteAnnouncementsRequest} requestParameters Request parameters.
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        batchDeleteAnnouncements(requestParameters: ApiAnnouncementLikCcV1alpha1AnnouncementApiBatchDeleteAnnouncementsRequest, options?: RawAxiosRequestConfig): AxiosPromise<BatchResult> {
+            return localVarFp.batchDeleteAnnouncements(requestParameters.batchRequest, options).then((request) => request(axios, basePath));
+        },
+        /**
+         * 根据名称批量获取公告，单次最多 100 个
+         * @param {ApiAnnouncementLikCcV1alpha1AnnouncementApiBatchGetAnnouncementsRequest} requestParameters Request parameters.
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        batchGetAnnouncements(requestParameters: ApiAnnouncementLikCcV1alpha1AnnouncementApiBatchGetAnnouncementsRequest, options?: RawAxiosRequestConfig): AxiosPromise<BatchResult> {
+            return localVarFp.batchGetAnnouncements(requestParameters.names, options).then((request) => request(axios, basePath));
+        },
+        /**
+         * 批量修改公告的可见范围、置顶和弹窗开关，返回逐项结果
+         * @param {ApiAnnouncementLikCcV1alpha1AnnouncementApiBatchPatchAnnouncementsRequest} requestParameters Request parameters.
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        batchPatchAnnouncements(requestParameters: ApiAnnouncementLikCcV1alpha1AnnouncementApiBatchPatchAnnouncementsRequest, options?: RawAxiosRequestConfig): AxiosPromise<BatchResult> {
+            return localVarFp.batchPatchAnnouncements(requestParameters.batchRequest, options).then((request) => request(axios, basePath));
+        },
+        /**
+         * 以 NDJSON 流式导出全部公告，每行一个公告，在线公告在前、归档公告在后
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        exportAnnouncements(options?: RawAxiosRequestConfig): AxiosPromise<File> {
+            return localVarFp.exportAnnouncements(options).then((request) => request(axios, basePath));
+        },
         /**
          * 根据名称获取公告
          * @param {ApiAnnouncementLikCcV1alpha1AnnouncementApiGetAnnouncementByNameRequest} requestParameters Request parameters.
@@ -201,7 +808,24 @@ export const ApiAnnouncementLikCcV1alpha1AnnouncementApiFactory = function (conf
          * @throws {RequiredError}
          */
         getAnnouncementByName(requestParameters: ApiAnnouncementLikCcV1alpha1AnnouncementApiGetAnnouncementByNameRequest, options?: RawAxiosRequestConfig): AxiosPromise<Announcement> {
-            return localVarFp.getAnnouncementByName(requestParameters.name, options).then((request) => request(axios, basePath));
+            return localVarFp.getAnnouncementByName(requestParameters.name, requestParameters.view, options).then((request) => request(axios, basePath));
+        },
+        /**
+         * 获取按类型、可见范围、置顶和弹窗的公告计数，键为 all（全部公告）和各公开受众
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        getAnnouncementFacets(options?: RawAxiosRequestConfig): AxiosPromise<{ [key: string]: FacetCounts; }> {
+            return localVarFp.getAnnouncementFacets(options).then((request) => request(axios, basePath));
+        },
+        /**
+         * 导入 NDJSON 格式的公告，按 kind 区分在线公告和归档公告，按名称新建或覆盖，返回导入汇总
+         * @param {ApiAnnouncementLikCcV1alpha1AnnouncementApiImportAnnouncementsRequest} requestParameters Request parameters.
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        importAnnouncements(requestParameters: ApiAnnouncementLikCcV1alpha1AnnouncementApiImportAnnouncementsRequest, options?: RawAxiosRequestConfig): AxiosPromise<ImportReport> {
+            return localVarFp.importAnnouncements(requestParameters.body, requestParameters.dryRun, options).then((request) => request(axios, basePath));
         },
         /**
          * 分页查询公告列表
@@ -210,11 +834,85 @@ export const ApiAnnouncementLikCcV1alpha1AnnouncementApiFactory = function (conf
          * @throws {RequiredError}
          */
         listAnnouncements(requestParameters: ApiAnnouncementLikCcV1alpha1AnnouncementApiListAnnouncementsRequest = {}, options?: RawAxiosRequestConfig): AxiosPromise<AnnouncementList> {
-            return localVarFp.listAnnouncements(requestParameters.page, requestParameters.size, requestParameters.labelSelector, requestParameters.fieldSelector, requestParameters.sort, requestParameters.keyword, requestParameters.announcementSpecPermissions, options).then((request) => request(axios, basePath));
+            return localVarFp.listAnnouncements(requestParameters.page, requestParameters.size, requestParameters.labelSelector, requestParameters.fieldSelector, requestParameters.sort, requestParameters.keyword, requestParameters.announcementSpecPermissions, requestParameters.popup, requestParameters.type, requestParameters.announcementSpecEnablePinning, requestParameters.announcementSpecEnablePopup, requestParameters.cursor, requestParameters.withTotal, requestParameters.view, options).then((request) => request(axios, basePath));
+        },
+        /**
+         * 分页查询归档公告，包含归档时间和原因（age、expired 或 manual）
+         * @param {ApiAnnouncementLikCcV1alpha1AnnouncementApiListArchivedAnnouncementsRequest} requestParameters Request parameters.
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        listArchivedAnnouncements(requestParameters: ApiAnnouncementLikCcV1alpha1AnnouncementApiListArchivedAnnouncementsRequest = {}, options?: RawAxiosRequestConfig): AxiosPromise<ArchivedAnnouncementList> {
+            return localVarFp.listArchivedAnnouncements(requestParameters.page, requestParameters.size, requestParameters.labelSelector, requestParameters.fieldSelector, options).then((request) => request(axios, basePath));
+        },
+        /**
+         * 将归档公告恢复为在线公告，返回逐项结果
+         * @param {ApiAnnouncementLikCcV1alpha1AnnouncementApiRestoreAnnouncementsRequest} requestParameters Request parameters.
+         * @param {*} [options] Override http request option.
+         * @throws {RequiredError}
+         */
+        restoreAnnouncements(requestParameters: ApiAnnouncementLikCcV1alpha1AnnouncementApiRestoreAnnouncementsRequest, options?: RawAxiosRequestConfig): AxiosPromise<BatchResult> {
+            return localVarFp.restoreAnnouncements(requestParameters.batchRequest, options).then((request) => request(axios, basePath));
         },
     };
 };
 
+/**
+ * Request parameters for archiveAnnouncements operation in ApiAnnouncementLikCcV1alpha1AnnouncementApi.
+ * @export
+ * @interface ApiAnnouncementLikCcV1alpha1AnnouncementApiArchiveAnnouncementsRequest
+ */
+export interface ApiAnnouncementLikCcV1alpha1AnnouncementApiArchiveAnnouncementsRequest {
+    /**
+     * 
+     * @type {BatchRequest}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApiArchiveAnnouncements
+     */
+    readonly batchRequest: BatchRequest
+}
+
+/**
+ * Request parameters for batchDeleteAnnouncements operation in ApiAnnouncementLikCcV1alpha1AnnouncementApi.
+ * @export
+ * @interface ApiAnnouncementLikCcV1alpha1AnnouncementApiBatchDeleteAnnouncementsRequest
+ */
+export interface ApiAnnouncementLikCcV1alpha1AnnouncementApiBatchDeleteAnnouncementsRequest {
+    /**
+     * 
+     * @type {BatchRequest}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApiBatchDeleteAnnouncements
+     */
+    readonly batchRequest: BatchRequest
+}
+
+/**
+ * Request parameters for batchGetAnnouncements operation in ApiAnnouncementLikCcV1alpha1AnnouncementApi.
+ * @export
+ * @interface ApiAnnouncementLikCcV1alpha1AnnouncementApiBatchGetAnnouncementsRequest
+ */
+export interface ApiAnnouncementLikCcV1alpha1AnnouncementApiBatchGetAnnouncementsRequest {
+    /**
+     * 公告名称，可重复传递或以逗号分隔
+     * @type {Array<string>}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApiBatchGetAnnouncements
+     */
+    readonly names: Array<string>
+}
+
+/**
+ * Request parameters for batchPatchAnnouncements operation in ApiAnnouncementLikCcV1alpha1AnnouncementApi.
+ * @export
+ * @interface ApiAnnouncementLikCcV1alpha1AnnouncementApiBatchPatchAnnouncementsRequest
+ */
+export interface ApiAnnouncementLikCcV1alpha1AnnouncementApiBatchPatchAnnouncementsRequest {
+    /**
+     * 
+     * @type {BatchRequest}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApiBatchPatchAnnouncements
+     */
+    readonly batchRequest: BatchRequest
+}
+
 /**
  * Request parameters for getAnnouncementByName operation in ApiAnnouncementLikCcV1alpha1AnnouncementApi.
  * @export
@@ -227,6 +925,34 @@ export interface ApiAnnouncementLikCcV1alpha1AnnouncementApiGetAnnouncementByNam
      * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApiGetAnnouncementByName
      */
     readonly name: string
+
+    /**
+     * 响应视图：full（默认）、summary 或 popup
+     * @type {string}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApiGetAnnouncementByName
+     */
+    readonly view?: string
+}
+
+/**
+ * Request parameters for importAnnouncements operation in ApiAnnouncementLikCcV1alpha1AnnouncementApi.
+ * @export
+ * @interface ApiAnnouncementLikCcV1alpha1AnnouncementApiImportAnnouncementsRequest
+ */
+export interface ApiAnnouncementLikCcV1alpha1AnnouncementApiImportAnnouncementsRequest {
+    /**
+     * NDJSON，每行一个公告
+     * @type {File}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApiImportAnnouncements
+     */
+    readonly body: File
+
+    /**
+     * 只校验并统计，不写入
+     * @type {boolean}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApiImportAnnouncements
+     */
+    readonly dryRun?: boolean
 }
 
 /**
@@ -283,6 +1009,104 @@ export interface ApiAnnouncementLikCcV1alpha1AnnouncementApiListAnnouncementsReq
      * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApiListAnnouncements
      */
     readonly announcementSpecPermissions?: string
+
+    /**
+     * Filter announcements with popup enabled.
+     * @type {boolean}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApiListAnnouncements
+     */
+    readonly popup?: boolean
+
+    /**
+     * Filter announcements by type.
+     * @type {string}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApiListAnnouncements
+     */
+    readonly type?: string
+
+    /**
+     * Filter announcements by pinning status.
+     * @type {string}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApiListAnnouncements
+     */
+    readonly announcementSpecEnablePinning?: string
+
+    /**
+     * Filter announcements by popup status.
+     * @type {string}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApiListAnnouncements
+     */
+    readonly announcementSpecEnablePopup?: string
+
+    /**
+     * Continuation token for keyset pagination, pass an empty value for the first page. When present the response is a cursor page and the page parameter is ignored.
+     * @type {string}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApiListAnnouncements
+     */
+    readonly cursor?: string
+
+    /**
+     * Whether to count the total in cursor mode, defaults to true.
+     * @type {boolean}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApiListAnnouncements
+     */
+    readonly withTotal?: boolean
+
+    /**
+     * Response projection: full (default), summary or popup.
+     * @type {string}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApiListAnnouncements
+     */
+    readonly view?: string
+}
+
+/**
+ * Request parameters for listArchivedAnnouncements operation in ApiAnnouncementLikCcV1alpha1AnnouncementApi.
+ * @export
+ * @interface ApiAnnouncementLikCcV1alpha1AnnouncementApiListArchivedAnnouncementsRequest
+ */
+export interface ApiAnnouncementLikCcV1alpha1AnnouncementApiListArchivedAnnouncementsRequest {
+    /**
+     * Page number. Default is 0.
+     * @type {number}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApiListArchivedAnnouncements
+     */
+    readonly page?: number
+
+    /**
+     * Size number. Default is 0.
+     * @type {number}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApiListArchivedAnnouncements
+     */
+    readonly size?: number
+
+    /**
+     * Label selector. e.g.: hidden!&#x3D;true
+     * @type {Array<string>}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApiListArchivedAnnouncements
+     */
+    readonly labelSelector?: Array<string>
+
+    /**
+     * Field selector. e.g.: metadata.name&#x3D;&#x3D;halo
+     * @type {Array<string>}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApiListArchivedAnnouncements
+     */
+    readonly fieldSelector?: Array<string>
+}
+
+/**
+ * Request parameters for restoreAnnouncements operation in ApiAnnouncementLikCcV1alpha1AnnouncementApi.
+ * @export
+ * @interface ApiAnnouncementLikCcV1alpha1AnnouncementApiRestoreAnnouncementsRequest
+ */
+export interface ApiAnnouncementLikCcV1alpha1AnnouncementApiRestoreAnnouncementsRequest {
+    /**
+     * 
+     * @type {BatchRequest}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApiRestoreAnnouncements
+     */
+    readonly batchRequest: BatchRequest
 }
 
 /**
@@ -292,6 +1116,60 @@ export interface ApiAnnouncementLikCcV1alpha1AnnouncementApiListAnnouncementsReq
  * @extends {BaseAPI}
  */
 export class ApiAnnouncementLikCcV1alpha1AnnouncementApi extends BaseAPI {
+    /**
+     * 将公告移入归档，归档的公告不再参与弹窗、搜索和在线列表，返回逐项结果
+     * @param {ApiAnnouncementLikCcV1alpha1AnnouncementApiArchiveAnnouncementsRequest} requestParameters Request parameters.
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApi
+     */
+    public archiveAnnouncements(requestParameters: ApiAnnouncementLikCcV1alpha1AnnouncementApiArchiveAnnouncementsRequest, options?: RawAxiosRequestConfig) {
+        return ApiAnnouncementLikCcV1alpha1AnnouncementApiFp(this.configuration).archiveAnnouncements(requestParameters.batchRequest, options).then((request) => request(this.axios, this.basePath));
+    }
+
+    /**
+     * 批量删除公告，返回逐项结果
+     * @param {ApiAnnouncementLikCcV1alpha1AnnouncementApiBatchDeleteAnnouncementsRequest} requestParameters Request parameters.
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApi
+     */
+    public batchDeleteAnnouncements(requestParameters: ApiAnnouncementLikCcV1alpha1AnnouncementApiBatchDeleteAnnouncementsRequest, options?: RawAxiosRequestConfig) {
+        return ApiAnnouncementLikCcV1alpha1AnnouncementApiFp(this.configuration).batchDeleteAnnouncements(requestParameters.batchRequest, options).then((request) => request(this.axios, this.basePath));
+    }
+
+    /**
+     * 根据名称批量获取公告，单次最多 100 个
+     * @param {ApiAnnouncementLikCcV1alpha1AnnouncementApiBatchGetAnnouncementsRequest} requestParameters Request parameters.
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApi
+     */
+    public batchGetAnnouncements(requestParameters: ApiAnnouncementLikCcV1alpha1AnnouncementApiBatchGetAnnouncementsRequest, options?: RawAxiosRequestConfig) {
+        return ApiAnnouncementLikCcV1alpha1AnnouncementApiFp(this.configuration).batchGetAnnouncements(requestParameters.names, options).then((request) => request(this.axios, this.basePath));
+    }
+
+    /**
+     * 批量修改公告的可见范围、置顶和弹窗开关，返回逐项结果
+     * @param {ApiAnnouncementLikCcV1alpha1AnnouncementApiBatchPatchAnnouncementsRequest} requestParameters Request parameters.
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApi
+     */
+    public batchPatchAnnouncements(requestParameters: ApiAnnouncementLikCcV1alpha1AnnouncementApiBatchPatchAnnouncementsRequest, options?: RawAxiosRequestConfig) {
+        return ApiAnnouncementLikCcV1alpha1AnnouncementApiFp(this.configuration).batchPatchAnnouncements(requestParameters.batchRequest, options).then((request) => request(this.axios, this.basePath));
+    }
+
+    /**
+     * 以 NDJSON 流式导出全部公告，每行一个公告，在线公告在前、归档公告在后
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApi
+     */
+    public exportAnnouncements(options?: RawAxiosRequestConfig) {
+        return ApiAnnouncementLikCcV1alpha1AnnouncementApiFp(this.configuration).exportAnnouncements(options).then((request) => request(this.axios, this.basePath));
+    }
+
     /**
      * 根据名称获取公告
      * @param {ApiAnnouncementLikCcV1alpha1AnnouncementApiGetAnnouncementByNameRequest} requestParameters Request parameters.
@@ -300,7 +1178,28 @@ export class ApiAnnouncementLikCcV1alpha1AnnouncementApi extends BaseAPI {
      * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApi
      */
     public getAnnouncementByName(requestParameters: ApiAnnouncementLikCcV1alpha1AnnouncementApiGetAnnouncementByNameRequest, options?: RawAxiosRequestConfig) {
-        return ApiAnnouncementLikCcV1alpha1AnnouncementApiFp(this.configuration).getAnnouncementByName(requestParameters.name, options).then((request) => request(this.axios, this.basePath));
+        return ApiAnnouncementLikCcV1alpha1AnnouncementApiFp(this.configuration).getAnnouncementByName(requestParameters.name, requestParameters.view, options).then((request) => request(this.axios, this.basePath));
+    }
+
+    /**
+     * 获取按类型、可见范围、置顶和弹窗的公告计数，键为 all（全部公告）和各公开受众
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApi
+     */
+    public getAnnouncementFacets(options?: RawAxiosRequestConfig) {
+        return ApiAnnouncementLikCcV1alpha1AnnouncementApiFp(this.configuration).getAnnouncementFacets(options).then((request) => request(this.axios, this.basePath));
+    }
+
+    /**
+     * 导入 NDJSON 格式的公告，按 kind 区分在线公告和归档公告，按名称新建或覆盖，返回导入汇总
+     * @param {ApiAnnouncementLikCcV1alpha1AnnouncementApiImportAnnouncementsRequest} requestParameters Request parameters.
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApi
+     */
+    public importAnnouncements(requestParameters: ApiAnnouncementLikCcV1alpha1AnnouncementApiImportAnnouncementsRequest, options?: RawAxiosRequestConfig) {
+        return ApiAnnouncementLikCcV1alpha1AnnouncementApiFp(this.configuration).importAnnouncements(requestParameters.body, requestParameters.dryRun, options).then((request) => request(this.axios, this.basePath));
     }
 
     /**
@@ -311,7 +1210,29 @@ export class ApiAnnouncementLikCcV1alpha1AnnouncementApi extends BaseAPI {
      * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApi
      */
     public listAnnouncements(requestParameters: ApiAnnouncementLikCcV1alpha1AnnouncementApiListAnnouncementsRequest = {}, options?: RawAxiosRequestConfig) {
-        return ApiAnnouncementLikCcV1alpha1AnnouncementApiFp(this.configuration).listAnnouncements(requestParameters.page, requestParameters.size, requestParameters.labelSelector, requestParameters.fieldSelector, requestParameters.sort, requestParameters.keyword, requestParameters.announcementSpecPermissions, options).then((request) => request(this.axios, this.basePath));
+        return ApiAnnouncementLikCcV1alpha1AnnouncementApiFp(this.configuration).listAnnouncements(requestParameters.page, requestParameters.size, requestParameters.labelSelector, requestParameters.fieldSelector, requestParameters.sort, requestParameters.keyword, requestParameters.announcementSpecPermissions, requestParameters.popup, requestParameters.type, requestParameters.announcementSpecEnablePinning, requestParameters.announcementSpecEnablePopup, requestParameters.cursor, requestParameters.withTotal, requestParameters.view, options).then((request) => request(this.axios, this.basePath));
+    }
+
+    /**
+     * 分页查询归档公告，包含归档时间和原因（age、expired 或 manual）
+     * @param {ApiAnnouncementLikCcV1alpha1AnnouncementApiListArchivedAnnouncementsRequest} requestParameters Request parameters.
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApi
+     */
+    public listArchivedAnnouncements(requestParameters: ApiAnnouncementLikCcV1alpha1AnnouncementApiListArchivedAnnouncementsRequest = {}, options?: RawAxiosRequestConfig) {
+        return ApiAnnouncementLikCcV1alpha1AnnouncementApiFp(this.configuration).listArchivedAnnouncements(requestParameters.page, requestParameters.size, requestParameters.labelSelector, requestParameters.fieldSelector, options).then((request) => request(this.axios, this.basePath));
+    }
+
+    /**
+     * 将归档公告恢复为在线公告，返回逐项结果
+     * @param {ApiAnnouncementLikCcV1alpha1AnnouncementApiRestoreAnnouncementsRequest} requestParameters Request parameters.
+     * @param {*} [options] Override http request option.
+     * @throws {RequiredError}
+     * @memberof ApiAnnouncementLikCcV1alpha1AnnouncementApi
+     */
+    public restoreAnnouncements(requestParameters: ApiAnnouncementLikCcV1alpha1AnnouncementApiRestoreAnnouncementsRequest, options?: RawAxiosRequestConfig) {
+        return ApiAnnouncementLikCcV1alpha1AnnouncementApiFp(this.configuration).restoreAnnouncements(requestParameters.batchRequest, options).then((request) => request(this.axios, this.basePath));
     }
 }
 
@@ -44,6 +44,12 @@ export interface AnnouncementSpec {
      * @memberof AnnouncementSpec
      */
     'content': string;
+    /**
+     * 编辑器类型: richtext, code
+     * @type {string}
+     * @memberof AnnouncementSpec
+     */
+    'editorType'?: string;
     /**
      * 
      * @type {boolean}
@@ -56,12 +62,30 @@ export interface AnnouncementSpec {
      * @memberof AnnouncementSpec
      */
     'enablePopup': boolean;
+    /**
+     * 结束展示时间，为空表示一直展示
+     * @type {string}
+     * @memberof AnnouncementSpec
+     */
+    'endAt'?: string;
     /**
      * 
      * @type {string}
      * @memberof AnnouncementSpec
      */
     'permissions': AnnouncementSpecPermissionsEnum;
+    /**
+     * 弹窗图标，Iconify 图标名称，如 mdi:bell
+     * @type {string}
+     * @memberof AnnouncementSpec
+     */
+    'popupIcon'?: string;
+    /**
+     * 弹窗图标背景色
+     * @type {string}
+     * @memberof AnnouncementSpec
+     */
+    'popupIconBgColor'?: string;
     /**
      * 
      * @type {number}
@@ -74,12 +98,90 @@ export interface AnnouncementSpec {
      * @memberof AnnouncementSpec
      */
     'position': string;
+    /**
+     * 主按钮事件类型: closeNotice, jump, confirmJump, callback
+     * @type {string}
+     * @memberof AnnouncementSpec
+     */
+    'primaryButtonAction'?: string;
+    /**
+     * 主按钮JS回调代码
+     * @type {string}
+     * @memberof AnnouncementSpec
+     */
+    'primaryButtonCallback'?: string;
+    /**
+     * 主按钮颜色
+     * @type {string}
+     * @memberof AnnouncementSpec
+     */
+    'primaryButtonColor'?: string;
+    /**
+     * 主按钮文字
+     * @type {string}
+     * @memberof AnnouncementSpec
+     */
+    'primaryButtonText'?: string;
+    /**
+     * 主按钮链接
+     * @type {string}
+     * @memberof AnnouncementSpec
+     */
+    'primaryButtonUrl'?: string;
+    /**
+     * 副按钮事件类型: closeNotice, jump, confirmJump, callback
+     * @type {string}
+     * @memberof AnnouncementSpec
+     */
+    'secondaryButtonAction'?: string;
+    /**
+     * 副按钮JS回调代码
+     * @type {string}
+     * @memberof AnnouncementSpec
+     */
+    'secondaryButtonCallback'?: string;
+    /**
+     * 副按钮颜色
+     * @type {string}
+     * @memberof AnnouncementSpec
+     */
+    'secondaryButtonColor'?: string;
+    /**
+     * 副按钮文字
+     * @type {string}
+     * @memberof AnnouncementSpec
+     */
+    'secondaryButtonText'?: string;
+    /**
+     * 副按钮链接
+     * @type {string}
+     * @memberof AnnouncementSpec
+     */
+    'secondaryButtonUrl'?: string;
+    /**
+     * 开始展示时间，为空表示立即展示
+     * @type {string}
+     * @memberof AnnouncementSpec
+     */
+    'startAt'?: string;
     /**
      * 
      * @type {string}
      * @memberof AnnouncementSpec
      */
     'title': string;
+    /**
+     * 公告类型
+     * @type {string}
+     * @memberof AnnouncementSpec
+     */
+    'type'?: string;
+    /**
+     * URL路径匹配规则，支持通配符*，每行一个，为空或/表示仅首页
+     * @type {string}
+     * @memberof AnnouncementSpec
+     */
+    'urlPatterns'?: string;
 }
 
 export const AnnouncementSpecPermissionsEnum = {
@@ -18,6 +18,9 @@
 import type { AnnouncementSpec } from './announcement-spec';
 // May contain unused imports in some cases
 // @ts-ignore
+import type { AnnouncementStatus } from './announcement-status';
+// May contain unused imports in some cases
+// @ts-ignore
 import type { Metadata } from './metadata';
 
 /**
@@ -50,5 +53,11 @@ export interface Announcement {
      * @memberof Announcement
      */
     'metadata': Metadata;
+    /**
+     * 
+     * @type {AnnouncementStatus}
+     * @memberof Announcement
+     */
+    'status'?: AnnouncementStatus;
 }
 
@@ -2,7 +2,17 @@ export * from './add-operation';
 export * from './announcement';
 export * from './announcement-list';
 export * from './announcement-spec';
+export * from './announcement-status';
+export * from './archive-info';
+export * from './archived-announcement';
+export * from './archived-announcement-list';
+export * from './batch-request';
+export * from './batch-result';
+export * from './batch-result-item';
 export * from './copy-operation';
+export * from './facet-counts';
+export * from './import-error';
+export * from './import-report';
 export * from './json-patch-inner';
 export * from './metadata';
 export * from './move-operation';
@@ -27,6 +27,20 @@ export default definePlugin({
         },
       },
     },
+    {
+      parentName: "ToolsRoot",
+      route: {
+        path: "announcements/archived",
+        name: "ArchivedAnnouncements",
+        component: () => import("@/views/ArchivedAnnouncements.vue"),
+        meta: {
+          title: "归档公告",
+          description: "查看自动或手动归档的公告并恢复",
+          searchable: false,
+          permissions: ["plugin:announcement:view"],
+        },
+      },
+    },
     {
       parentName: "ToolsRoot",
       route: {